@@ -6,7 +6,9 @@ import picocli.CommandLine;
 
 import nl.wvdzwan.lapp.analyse.AnalyseCommand;
 import nl.wvdzwan.lapp.callgraph.CallGraphMain;
+import nl.wvdzwan.lapp.callgraph.ServeMain;
 import nl.wvdzwan.lapp.convert.ConvertMain;
+import nl.wvdzwan.lapp.index.IndexCommand;
 import nl.wvdzwan.lapp.merge.MergeMain;
 
 @CommandLine.Command(
@@ -23,6 +25,8 @@ import nl.wvdzwan.lapp.merge.MergeMain;
                 AnalyseCommand.class,
                 ConvertMain.class,
                 MergeMain.class,
+                ServeMain.class,
+                IndexCommand.class,
         }
 )
 public class Main implements Callable<Void> {
@@ -40,6 +40,12 @@ public class AnalyseCommand implements Callable<Void> {
     )
     private boolean rateLimit = false;
 
+    @CommandLine.Option(
+            names = {"--index"},
+            description = "Offline version-date index to use instead of the api, see 'index build'"
+    )
+    private File indexFile = null;
+
     @CommandLine.Option(
             names = {"-d", "--date"},
             description = "Use version as date to determine the version to use"
@@ -75,6 +81,10 @@ public class AnalyseCommand implements Callable<Void> {
             resolveArgs.add("--date");
         }
         if (rateLimit) { resolveArgs.add("--limit"); }
+        if (indexFile != null) {
+            resolveArgs.add("--index");
+            resolveArgs.add(indexFile.getPath());
+        }
 
         resolveArgs.add(packageIdentifier);
         resolveArgs.add(date);
@@ -96,7 +106,7 @@ public class AnalyseCommand implements Callable<Void> {
                 classpathFile.toString()
         };
 
-        Callable<Void> callgraphCommand = CommandLine.populateCommand(new CallGraphMain(), callgraphArgs);
+        Callable<File> callgraphCommand = CommandLine.populateCommand(new CallGraphMain(), callgraphArgs);
         callgraphCommand.call();
 
         return null;
@@ -0,0 +1,91 @@
+package nl.wvdzwan.lapp.callgraph;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Run call graph analyses for many artifacts concurrently.
+ *
+ * <p>Besides the number of threads, concurrency is limited by the heap. Every analysis reserves a fixed amount of
+ * memory from the maximum heap size before it starts, analyses wait until enough memory is available.</p>
+ */
+public class CallGraphBatch {
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final int MB = 1024 * 1024;
+
+    private final int threads;
+    private final int taskMemory;
+    private final Semaphore memoryBudget;
+
+    /**
+     * @param threads    maximum number of concurrent analyses
+     * @param taskMemory memory in MB to reserve for every analysis
+     */
+    public CallGraphBatch(int threads, int taskMemory) {
+        int availableMemory = (int) (Runtime.getRuntime().maxMemory() / MB);
+
+        this.threads = Math.max(threads, 1);
+        this.taskMemory = Math.max(Math.min(taskMemory, availableMemory), 1);
+        this.memoryBudget = new Semaphore(availableMemory);
+    }
+
+    /**
+     * Run an analysis for every item.
+     *
+     * @param items       items to analyse, e.g. classpath files
+     * @param taskFactory creates the analysis for a single item
+     * @return the result of every analysis at the index of its item, null for failed analyses
+     * @throws InterruptedException when interrupted while waiting for the analyses to finish
+     */
+    public List<File> run(List<String> items, Function<String, Callable<File>> taskFactory)
+            throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Items are not required to be unique, results are kept by index
+        List<Future<File>> futures = new ArrayList<>(items.size());
+        for (String item : items) {
+            Callable<File> task = taskFactory.apply(item);
+            futures.add(executor.submit(() -> runWithinBudget(item, task)));
+        }
+        executor.shutdown();
+
+        List<File> results = new ArrayList<>(items.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                logger.error("Analysis of {} failed: {}", items.get(i), e.getCause().getMessage());
+                results.add(null);
+            }
+        }
+
+        return results;
+    }
+
+    private File runWithinBudget(String item, Callable<File> task) throws Exception {
+        memoryBudget.acquire(taskMemory);
+        try {
+            logger.info("Start analysis of {}", item);
+            return task.call();
+
+        } catch (OutOfMemoryError e) {
+            logger.error("Analysis of {} ran out of memory, consider reserving more memory per task", item);
+            return null;
+        } finally {
+            memoryBudget.release(taskMemory);
+        }
+    }
+}
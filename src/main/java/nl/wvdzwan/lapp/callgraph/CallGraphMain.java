@@ -3,13 +3,20 @@ package nl.wvdzwan.lapp.callgraph;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
+import com.ibm.wala.classLoader.ClassLoaderFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
@@ -19,15 +26,18 @@ import nl.wvdzwan.lapp.callgraph.FolderLayout.DollarSeparatedLayout;
 import nl.wvdzwan.lapp.callgraph.wala.WalaAnalysisResult;
 import nl.wvdzwan.lapp.callgraph.wala.WalaAnalysisTransformer;
 import nl.wvdzwan.lapp.convert.outputs.ProtobufOutput;
+import nl.wvdzwan.lapp.core.AnalysisContext;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
 import nl.wvdzwan.lapp.core.LappPackage;
 import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
 import nl.wvdzwan.lapp.protobuf.Protobuf;
 
 @CommandLine.Command(
         name = "callgraph",
         description = "Create a call graph from resolve output"
 )
-public class CallGraphMain implements Callable<Void> {
+public class CallGraphMain implements Callable<File> {
     private static final Logger logger = LogManager.getLogger();
 
     @CommandLine.Option(
@@ -54,6 +64,30 @@ public class CallGraphMain implements Callable<Void> {
     )
     private boolean isClassPath = false;
 
+    @CommandLine.Option(
+            names = {"-b", "--batch"},
+            description = "Read first argument as a file listing classpath files, one per line, and analyse all of them in place"
+    )
+    private boolean isBatch = false;
+
+    @CommandLine.Option(
+            names = {"-t", "--threads"},
+            description = "Number of concurrent analyses in batch mode, defaults to the number of processors"
+    )
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @CommandLine.Option(
+            names = {"--task-memory"},
+            description = "Heap in MB reserved for every analysis in batch mode, defaults to 1024"
+    )
+    private int taskMemory = 1024;
+
+    @CommandLine.Option(
+            names = {"-f", "--format"},
+            description = "Output format, \"proto\" writes a single Lapp.Package, \"stream\" writes records while walking the call graph, \"compact\" stores every string only once"
+    )
+    private String format = "proto";
+
     @CommandLine.Option(
             names = {"-j", "--jars"},
             description = "Location of jars, defaults to folder of mainJar or \"jar/\" relative to classpath.txt"
@@ -75,10 +109,32 @@ public class CallGraphMain implements Callable<Void> {
     )
     private ArrayList<String> dependencies = new ArrayList<>();
 
+    private ClassLoaderFactory classLoaderFactory;
+
+    // Analyses of a batch run concurrently, they leave the global WALA warnings to the batch
+    private boolean reportWarnings = true;
+
+
+    /**
+     * Use a shared class loader factory instead of loading all classes for this analysis.
+     *
+     * @param classLoaderFactory factory used to build the class hierarchy
+     */
+    public void setClassLoaderFactory(ClassLoaderFactory classLoaderFactory) {
+        this.classLoaderFactory = classLoaderFactory;
+    }
 
     @Override
-    public Void call() throws Exception {
+    public File call() throws Exception {
 
+        if (!format.equals("proto") && !format.equals("stream") && !format.equals("compact")) {
+            logger.error("Unknown format \"{}\", available options are [proto, stream, compact]", format);
+            return null;
+        }
+
+        if (isBatch) {
+            return runBatch();
+        }
 
         if (inPlace) {
             String firstJar = jar.split(":")[0];
@@ -114,33 +170,96 @@ public class CallGraphMain implements Callable<Void> {
 
         // Analysis
         logger.info("Starting analysis for {} with dependencies: {}", jar, dependencyClassPath);
-        WalaAnalysis analysis = new WalaAnalysis(jar, dependencyClassPath, exclusionFile);
+        WalaAnalysis analysis = new WalaAnalysis(jar, dependencyClassPath, exclusionFile, classLoaderFactory);
+        analysis.setReportWarnings(reportWarnings);
         WalaAnalysisResult analysisResult = analysis.run();
 
+        if (!outputDirectory.exists()) {
+            outputDirectory.mkdirs();
+        }
+        File outputFile = new File(outputDirectory, "lapp.buf");
+
         // Build Lapp Package
-        logger.info("Build LappPackage for {}", jar);
         ArtifactFolderLayout layoutTransformer = new DollarSeparatedLayout();
+        AnalysisContext analysisContext = new DefaultAnalysisContext();
 
-        LappPackage lappPackage = WalaAnalysisTransformer.toPackage(analysisResult, layoutTransformer);
+        try (OutputStream outputStream = new FileOutputStream(outputFile)) {
 
+            if (format.equals("stream")) {
+                logger.info("Stream LappPackage for {}", jar);
+                try (LappStreamWriter streamWriter = new LappStreamWriter(outputStream, Collections.singletonMap("jar", jar))) {
+                    WalaAnalysisTransformer.toStream(analysisResult, layoutTransformer, analysisContext, streamWriter);
+                }
 
-        // Output
-        logger.info("Generate output");
-        Lapp.Package proto = Protobuf.of(lappPackage);
-        try {
-            if (!outputDirectory.exists()) {
-                outputDirectory.mkdirs();
-            }
+            } else if (format.equals("compact")) {
+                logger.info("Build compact LappPackage for {}", jar);
+                LappPackage lappPackage = WalaAnalysisTransformer.toPackage(analysisResult, layoutTransformer, analysisContext);
+
+                logger.info("Generate output");
+                LappStreamWriter.writeCompact(outputStream, Protobuf.toCompact(lappPackage));
+
+            } else {
+                logger.info("Build LappPackage for {}", jar);
+                LappPackage lappPackage = WalaAnalysisTransformer.toPackage(analysisResult, layoutTransformer, analysisContext);
 
-            OutputStream outputStream = new FileOutputStream(new File(outputDirectory, "lapp.buf"));
+                // Output
+                logger.info("Generate output");
+                Lapp.Package proto = Protobuf.of(lappPackage);
 
-            ProtobufOutput protobufOutput = new ProtobufOutput();
-            protobufOutput.export(outputStream, proto);
+                ProtobufOutput protobufOutput = new ProtobufOutput();
+                if (!protobufOutput.export(outputStream, proto)) {
+                    return null;
+                }
+            }
         } catch (FileNotFoundException e) {
             logger.error("File not found: {}", e.getMessage());
+            return null;
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Error writing {}: {}", outputFile, e.getMessage());
+            return null;
+        } finally {
+            analysisContext.release();
+        }
+
+        return outputFile;
+    }
+
+    private File runBatch() throws IOException, InterruptedException {
+        List<String> lines = Files.readAllLines(Paths.get(jar)).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+
+        // Analyses are written in place, concurrent analyses of the same file would write the same output
+        List<String> classPathFiles = lines.stream().distinct().collect(Collectors.toList());
+        if (classPathFiles.size() < lines.size()) {
+            logger.warn("Skipping {} duplicate classpath files", lines.size() - classPathFiles.size());
         }
 
-        return null;
+        logger.info("Analyse {} classpath files using {} threads", classPathFiles.size(), threads);
+
+        CallGraphBatch batch = new CallGraphBatch(threads, taskMemory);
+        List<File> results = batch.run(classPathFiles, this::makeBatchTask);
+
+        // Warnings are global, they are reported for the batch as a whole
+        WalaAnalysis.logWarnings(WalaAnalysis.makePrimordialScope(exclusionFile).getExclusions());
+
+        long failed = results.stream().filter(Objects::isNull).count();
+        logger.info("Batch finished, {}/{} analyses succeeded", results.size() - failed, results.size());
+
+        return failed == 0 ? new File(jar) : null;
+    }
+
+    private CallGraphMain makeBatchTask(String classPathFile) {
+        CallGraphMain task = new CallGraphMain();
+        task.jar = classPathFile;
+        task.isClassPath = true;
+        task.inPlace = true;
+        task.exclusionFile = exclusionFile;
+        task.format = format;
+        task.reportWarnings = false;
+
+        return task;
     }
 
     private boolean parseClassPathFile(Path jarsLocation) {
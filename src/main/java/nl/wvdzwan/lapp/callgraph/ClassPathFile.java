@@ -9,6 +9,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 
+/**
+ * Class path file written by the resolve command, the first line is the main jar and every other line a dependency.
+ *
+ * <p>Relative paths are resolved against the jar folder. Jars placed in a shared jar store are listed with absolute
+ * paths into the store and are used as they are.</p>
+ */
 public class ClassPathFile {
 
     private String mainJar;
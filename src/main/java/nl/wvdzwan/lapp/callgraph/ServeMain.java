@@ -0,0 +1,159 @@
+package nl.wvdzwan.lapp.callgraph;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.ibm.wala.ipa.callgraph.AnalysisScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine;
+
+import nl.wvdzwan.lapp.callgraph.wala.PrimordialCachingClassLoaderFactory;
+
+/**
+ * Long running call graph service that keeps the primordial class hierarchy loaded between analyses.
+ *
+ * <p>Requests are read line by line from a local socket, every line contains the arguments for a single
+ * `lapp callgraph` run separated by whitespace, or a json array of arguments when an argument contains whitespace.
+ * Every request is answered with a single line, either "OK [output file]" or "ERROR [message]".
+ * A connection is closed with "quit", the server is stopped with "shutdown".</p>
+ */
+@CommandLine.Command(
+        name = "serve",
+        description = "Start a call graph server that keeps the JDK class hierarchy loaded between analyses"
+)
+public class ServeMain implements Callable<Void> {
+    private static final Logger logger = LogManager.getLogger();
+
+    @CommandLine.Option(
+            names = {"-e", "--exclusion"},
+            description = "Location of exclusion file, used for the JDK classes of all requests"
+    )
+    private String exclusionFile = "Java60RegressionExclusions.txt";
+
+    @CommandLine.Option(
+            names = {"-p", "--port"},
+            description = "Port to listen on, only bound to the loopback interface"
+    )
+    private int port = 4568;
+
+    private PrimordialCachingClassLoaderFactory classLoaderFactory;
+    private volatile boolean running = true;
+
+    @Override
+    public Void call() throws Exception {
+
+        logger.info("Loading primordial class hierarchy...");
+        AnalysisScope primordialScope = WalaAnalysis.makePrimordialScope(exclusionFile);
+        classLoaderFactory = new PrimordialCachingClassLoaderFactory(primordialScope.getExclusions());
+        classLoaderFactory.warmUp(primordialScope);
+
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            logger.info("Listening on {}", serverSocket.getLocalSocketAddress());
+
+            while (running) {
+                try (Socket socket = serverSocket.accept()) {
+                    handleConnection(socket);
+                } catch (IOException e) {
+                    logger.warn("Connection error: {}", e.getMessage());
+                }
+            }
+        }
+
+        logger.info("Server stopped");
+        return null;
+    }
+
+    private void handleConnection(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            line = line.trim();
+
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.equals("quit")) {
+                break;
+            }
+            if (line.equals("shutdown")) {
+                running = false;
+                writer.println("OK shutdown");
+                break;
+            }
+
+            String[] args;
+            try {
+                args = parseRequest(line);
+            } catch (JsonParseException e) {
+                writer.println(error("invalid request, " + e.getMessage()));
+                continue;
+            }
+
+            writer.println(handleRequest(args));
+        }
+    }
+
+    /**
+     * @param line whitespace separated arguments or a json array of arguments
+     */
+    static String[] parseRequest(String line) {
+        if (line.startsWith("[")) {
+            String[] args = new Gson().fromJson(line, String[].class);
+            for (String arg : args) {
+                if (arg == null) {
+                    throw new JsonParseException("arguments can not be null");
+                }
+            }
+
+            return args;
+        }
+
+        return line.split("\\s+");
+    }
+
+    /**
+     * Every response is a single line, the message of an exception can span multiple lines or be missing.
+     */
+    static String error(String message) {
+        if (message == null || message.trim().isEmpty()) {
+            message = "unknown error, see server log";
+        }
+
+        return "ERROR " + message.trim().replaceAll("\\s*[\\r\\n]+\\s*", " ");
+    }
+
+    String handleRequest(String[] args) {
+        logger.info("Handle request {}", () -> String.join(" ", args));
+
+        try {
+            CallGraphMain command = CommandLine.populateCommand(new CallGraphMain(), args);
+            command.setClassLoaderFactory(classLoaderFactory);
+
+            File output = command.call();
+            if (output == null) {
+                return error("analysis failed, see server log");
+            }
+
+            return "OK " + output;
+        } catch (CommandLine.ParameterException e) {
+            return error(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Analysis failed", e);
+            return error(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            classLoaderFactory.release();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.stream.Collectors;
 
+import com.ibm.wala.classLoader.ClassLoaderFactory;
 import com.ibm.wala.classLoader.IClass;
 import com.ibm.wala.classLoader.IMethod;
 import com.ibm.wala.ipa.callgraph.*;
@@ -33,19 +34,42 @@ public class WalaAnalysis {
     private String mainJar;
     private String classPath;
     private String exclusionFile;
+    private ClassLoaderFactory classLoaderFactory;
+    private boolean reportWarnings = true;
 
 
     public WalaAnalysis(String mainJar, String classPath, String exclusionFile) {
+        this(mainJar, classPath, exclusionFile, null);
+    }
+
+    /**
+     * @param classLoaderFactory factory used to build the class hierarchy, or null to use a fresh WALA factory
+     */
+    public WalaAnalysis(String mainJar, String classPath, String exclusionFile, ClassLoaderFactory classLoaderFactory) {
         this.mainJar = mainJar;
         this.classPath = classPath;
         this.exclusionFile = exclusionFile;
+        this.classLoaderFactory = classLoaderFactory;
+    }
+
+    /**
+     * @param reportWarnings false to leave the WALA warnings for {@link #logWarnings(SetOfClasses)}, when other
+     *                       analyses run at the same time
+     */
+    public void setReportWarnings(boolean reportWarnings) {
+        this.reportWarnings = reportWarnings;
+    }
+
+    public static AnalysisScope makePrimordialScope(String exclusionFile) throws IOException {
+        File exclusionsFile = (new FileProvider()).getFile(exclusionFile);
+
+        return AnalysisScopeReader.makePrimordialScope(exclusionsFile);
     }
 
     public WalaAnalysisResult run() throws IOException, ClassHierarchyException {
         try {
 
-            File exclusionsFile = (new FileProvider()).getFile(exclusionFile);
-            AnalysisScope scope = AnalysisScopeReader.makePrimordialScope(exclusionsFile);
+            AnalysisScope scope = makePrimordialScope(exclusionFile);
             AnalysisScopeReader.addClassPathToScope(mainJar, scope, scope.getLoader(AnalysisScope.APPLICATION));
 
             if (!classPath.equals("")) {
@@ -53,17 +77,14 @@ public class WalaAnalysis {
             }
             logger.debug("Building class hierarchy...");
             // TODO : This really should use makeWithPhantom however that function is not yet stable and will cause NPE's later in the analysis
-            ClassHierarchy cha = ClassHierarchyFactory.makeWithRoot(scope);
+            ClassHierarchy cha = classLoaderFactory == null
+                    ? ClassHierarchyFactory.makeWithRoot(scope)
+                    : ClassHierarchyFactory.makeWithRoot(scope, classLoaderFactory);
             logger.info("Class hierarchy built, {} classes", cha::getNumberOfClasses);
 
-            for (Warning warning : filterExclusionsWarnings(scope.getExclusions())) {
-                if (warning.getMsg().startsWith("class com.ibm.wala.classLoader.BytecodeClass$ClassNotFoundWarning")) {
-                    // Missing classes is expected since the classpath only has main jar + primordial
-                    continue;
-                }
-                logger.warn(warning);
+            if (reportWarnings) {
+                logWarnings(scope.getExclusions());
             }
-            Warnings.clear();
 
             // Prepare call graph generation
             ArrayList<Entrypoint> entryPoints = getEntrypoints(cha);
@@ -95,7 +116,27 @@ public class WalaAnalysis {
         }
     }
 
-    private ArrayList<Warning> filterExclusionsWarnings(SetOfClasses exclusions) {
+    /**
+     * Log and clear the warnings WALA collected so far.
+     *
+     * <p>WALA keeps warnings in a single static list, analyses running at the same time add to the same list. Those
+     * analyses should not report warnings themselves, the warnings of all of them are logged once they finished.</p>
+     */
+    public static void logWarnings(SetOfClasses exclusions) {
+        // Don't let concurrent analyses modify the warnings while iterating
+        synchronized (Warnings.class) {
+            for (Warning warning : filterExclusionsWarnings(exclusions)) {
+                if (warning.getMsg().startsWith("class com.ibm.wala.classLoader.BytecodeClass$ClassNotFoundWarning")) {
+                    // Missing classes is expected since the classpath only has main jar + primordial
+                    continue;
+                }
+                logger.warn(warning);
+            }
+            Warnings.clear();
+        }
+    }
+
+    private static ArrayList<Warning> filterExclusionsWarnings(SetOfClasses exclusions) {
         ArrayList<Warning> result = new ArrayList<>();
 
         for (Iterator<Warning> it = Warnings.iterator(); it.hasNext(); ) {
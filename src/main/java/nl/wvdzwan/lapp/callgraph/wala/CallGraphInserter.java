@@ -1,6 +1,9 @@
 package nl.wvdzwan.lapp.callgraph.wala;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import com.ibm.wala.classLoader.CallSiteReference;
@@ -30,6 +33,8 @@ public class CallGraphInserter {
 
 
     public void insertCallGraph() {
+        Set<MethodReference> insertedMethods = new HashSet<>();
+
         for (CGNode node : this.cg) {
             MethodReference nodeReference = node.getMethod().getReference();
 
@@ -37,18 +42,31 @@ public class CallGraphInserter {
                 // Ignore everything not in the application classloader
                 continue;
             }
+            if (!insertedMethods.add(nodeReference)) {
+                // All nodes of this method, one for every context, were inserted with the first one
+                continue;
+            }
             Method methodNode = lappPackageBuilder.addMethod(nodeReference, LappPackageBuilder.MethodType.IMPLEMENTATION);
 
-            for (Iterator<CallSiteReference> callSites = node.iterateCallSites(); callSites.hasNext(); ) {
-                CallSiteReference callSite = callSites.next();
-
-                /* If the target is unknown, is gets the Application loader by default. We would like this to be the
-                   Extension loader, that way it is easy to filter them out later.
-                   */
-                MethodReference targetWithCorrectClassLoader = correctClassLoader(callSite.getDeclaredTarget());
+            // Call sites with the same target are only added once per method, when streaming there is no package to
+            // deduplicate
+            Set<Call> calls = new LinkedHashSet<>();
+            for (CGNode contextNode : cg.getNodes(nodeReference)) {
+                for (Iterator<CallSiteReference> callSites = contextNode.iterateCallSites(); callSites.hasNext(); ) {
+                    CallSiteReference callSite = callSites.next();
+
+                    /* If the target is unknown, is gets the Application loader by default. We would like this to be
+                       the Extension loader, that way it is easy to filter them out later.
+                       */
+                    MethodReference targetWithCorrectClassLoader = correctClassLoader(callSite.getDeclaredTarget());
+
+                    Method targetMethodNode = lappPackageBuilder.addMethod(targetWithCorrectClassLoader);
+                    calls.add(new Call(methodNode, targetMethodNode, getInvocationLabel(callSite)));
+                }
+            }
 
-                Method targetMethodNode = lappPackageBuilder.addMethod(targetWithCorrectClassLoader);
-                lappPackageBuilder.addCall(methodNode, targetMethodNode, getInvocationLabel(callSite));
+            for (Call call : calls) {
+                lappPackageBuilder.addCall(call.source, call.target, call.callType);
             }
 
         }
@@ -69,6 +69,7 @@ public class ClassHierarchyInserter {
             logger.error("Unfamiliar class type found", () -> klass.getClass().toString());
         }
 
+        lappBuilder.addClassRecord(classRecord);
 
     }
 }
\ No newline at end of file
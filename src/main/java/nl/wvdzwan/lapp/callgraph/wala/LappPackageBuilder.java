@@ -1,5 +1,7 @@
 package nl.wvdzwan.lapp.callgraph.wala;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import com.ibm.wala.classLoader.IClass;
@@ -16,12 +18,15 @@ import nl.wvdzwan.lapp.call.Call;
 import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
 import nl.wvdzwan.lapp.callgraph.ClassToArtifactResolver;
 import nl.wvdzwan.lapp.callgraph.FolderLayout.ArtifactFolderLayout;
+import nl.wvdzwan.lapp.core.AnalysisContext;
 import nl.wvdzwan.lapp.core.ClassRecord;
 import nl.wvdzwan.lapp.core.LappPackage;
 import nl.wvdzwan.lapp.core.Method;
 import nl.wvdzwan.lapp.core.ResolvedMethod;
 import nl.wvdzwan.lapp.core.UnresolvedMethod;
 import nl.wvdzwan.lapp.core.Util;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+import nl.wvdzwan.lapp.protobuf.Protobuf;
 
 public class LappPackageBuilder {
 
@@ -30,18 +35,33 @@ public class LappPackageBuilder {
     private ArtifactFolderLayout folderLayout;
 
     private ClassToArtifactResolver artifactResolver;
+    private final AnalysisContext analysisContext;
+    private LappStreamWriter streamWriter;
 
     enum MethodType {
         INTERFACE, ABSTRACT, IMPLEMENTATION
     }
 
-    public LappPackageBuilder(ClassToArtifactResolver artifactResolver, ArtifactFolderLayout folderLayout) {
+    public LappPackageBuilder(ClassToArtifactResolver artifactResolver, ArtifactFolderLayout folderLayout, AnalysisContext analysisContext) {
         this.artifactResolver = artifactResolver;
         this.folderLayout = folderLayout;
+        this.analysisContext = analysisContext;
 
         this.lappPackage = new LappPackage();
     }
 
+    /**
+     * Write artifacts, class records and calls to a stream as soon as they are complete instead of collecting them
+     * in the LappPackage, the package returned by build() stays empty.
+     *
+     * @param streamWriter writer to stream records to
+     * @return this builder
+     */
+    public LappPackageBuilder streamTo(LappStreamWriter streamWriter) {
+        this.streamWriter = streamWriter;
+
+        return this;
+    }
 
     public LappPackageBuilder setPackages(List<Module> modules) {
 
@@ -49,7 +69,7 @@ public class LappPackageBuilder {
            if (m instanceof JarFileModule) {
                JarFileModule jfm = ((JarFileModule) m);
 
-               lappPackage.artifacts.add(folderLayout.artifactRecordFromJarFile(jfm.getJarFile()));
+               addArtifact(folderLayout.artifactRecordFromJarFile(jfm.getJarFile()));
            } else {
                logger.warn("Unknown module to analyse found.");
            }
@@ -93,18 +113,32 @@ public class LappPackageBuilder {
         if (inApplicationScope(reference)) {
             ArtifactRecord record = artifactResolver.artifactRecordFromMethodReference(reference);
 
-            ResolvedMethod resolvedMethod = ResolvedMethod.findOrCreate(namespace, symbol, record.getIdentifier());
+            ResolvedMethod resolvedMethod = analysisContext.makeResolved(namespace, symbol, record.getIdentifier());
 
             return resolvedMethod;
 
         } else {
-            UnresolvedMethod unresolvedMethod = UnresolvedMethod.findOrCreate(namespace, symbol);
+            UnresolvedMethod unresolvedMethod = analysisContext.makeUnresolved(namespace, symbol);
             return unresolvedMethod;
         }
     }
 
     public boolean addCall(Method source, Method target, Call.CallType type) {
 
+        if (streamWriter != null) {
+            Call call = new Call(source, target, type);
+            try {
+                if (call.isResolved()) {
+                    streamWriter.writeResolvedCall(Protobuf.of(call));
+                } else {
+                    streamWriter.writeUnresolvedCall(Protobuf.of(call));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+
         return lappPackage.addCall(source, target, type);
 
     }
@@ -112,10 +146,35 @@ public class LappPackageBuilder {
     public ClassRecord makeClassRecord(IClass klass) {
         ArtifactRecord artifactRecord = artifactResolver.artifactRecordFromClass(klass);
 
-        ClassRecord record = new ClassRecord(artifactRecord.getIdentifier(), Util.typeReferenceToNamespace(klass.getReference()));
-        lappPackage.addClassRecord(record);
+        return new ClassRecord(artifactRecord.getIdentifier(), Util.typeReferenceToNamespace(klass.getReference()));
+    }
+
+    public boolean addClassRecord(ClassRecord record) {
+
+        if (streamWriter != null) {
+            try {
+                streamWriter.writeClassRecord(Protobuf.of(record));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+
+        return lappPackage.addClassRecord(record);
+    }
+
+    private void addArtifact(ArtifactRecord artifact) {
+
+        if (streamWriter != null) {
+            try {
+                streamWriter.writeArtifact(Protobuf.of(artifact));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
 
-        return record;
+        lappPackage.artifacts.add(artifact);
     }
 
     public LappPackage build() {
@@ -0,0 +1,88 @@
+package nl.wvdzwan.lapp.callgraph.wala;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.wala.classLoader.ClassLoaderFactoryImpl;
+import com.ibm.wala.classLoader.IClassLoader;
+import com.ibm.wala.ipa.callgraph.AnalysisScope;
+import com.ibm.wala.ipa.cha.ClassHierarchy;
+import com.ibm.wala.ipa.cha.ClassHierarchyException;
+import com.ibm.wala.ipa.cha.ClassHierarchyFactory;
+import com.ibm.wala.ipa.cha.IClassHierarchy;
+import com.ibm.wala.types.ClassLoaderReference;
+import com.ibm.wala.util.config.SetOfClasses;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class loader factory that loads the primordial (JDK) loader only once.
+ *
+ * <p>The regular factory parses rt.jar for every class hierarchy that is built. This factory keeps the primordial
+ * loader alive and hands it out to every following class hierarchy, only the extension and application loaders are
+ * created per hierarchy. The primordial loader keeps its exclusions, so all analyses using this factory share the
+ * exclusions it was created with.</p>
+ */
+public class PrimordialCachingClassLoaderFactory extends ClassLoaderFactoryImpl {
+    private static final Logger logger = LogManager.getLogger();
+
+    private IClassLoader primordialLoader;
+
+    private IClassHierarchy currentHierarchy;
+    private final Map<ClassLoaderReference, IClassLoader> hierarchyLoaders = new HashMap<>();
+
+    public PrimordialCachingClassLoaderFactory(SetOfClasses exclusions) {
+        super(exclusions);
+    }
+
+    @Override
+    public synchronized IClassLoader getLoader(ClassLoaderReference reference, IClassHierarchy cha, AnalysisScope scope)
+            throws IOException {
+
+        if (reference.equals(ClassLoaderReference.Primordial)) {
+            if (primordialLoader == null) {
+                primordialLoader = makeNewClassLoader(reference, cha, null, scope);
+            }
+            return primordialLoader;
+        }
+
+        // Non primordial loaders are only shared within the hierarchy that is being built
+        if (cha != currentHierarchy) {
+            hierarchyLoaders.clear();
+            currentHierarchy = cha;
+        }
+
+        IClassLoader loader = hierarchyLoaders.get(reference);
+        if (loader == null) {
+            ClassLoaderReference parentReference = reference.getParent();
+            IClassLoader parent = parentReference == null ? null : getLoader(parentReference, cha, scope);
+
+            loader = makeNewClassLoader(reference, cha, parent, scope);
+            hierarchyLoaders.put(reference, loader);
+        }
+
+        return loader;
+    }
+
+    /**
+     * Load the primordial loader by building a class hierarchy for a scope without application classes.
+     *
+     * @param primordialScope scope only containing the primordial modules
+     * @throws ClassHierarchyException when the primordial hierarchy could not be built
+     */
+    public void warmUp(AnalysisScope primordialScope) throws ClassHierarchyException {
+        ClassHierarchy cha = ClassHierarchyFactory.makeWithRoot(primordialScope, this);
+        logger.info("Primordial class hierarchy loaded, {} classes", cha::getNumberOfClasses);
+
+        release();
+    }
+
+    /**
+     * Drop references to the loaders of the last built class hierarchy, the primordial loader is kept.
+     */
+    public synchronized void release() {
+        hierarchyLoaders.clear();
+        currentHierarchy = null;
+    }
+}
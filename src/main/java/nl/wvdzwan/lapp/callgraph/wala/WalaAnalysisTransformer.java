@@ -4,18 +4,38 @@ import com.ibm.wala.types.ClassLoaderReference;
 
 import nl.wvdzwan.lapp.callgraph.ClassToArtifactResolver;
 import nl.wvdzwan.lapp.callgraph.FolderLayout.ArtifactFolderLayout;
+import nl.wvdzwan.lapp.core.AnalysisContext;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
 import nl.wvdzwan.lapp.core.LappPackage;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
 
 public class WalaAnalysisTransformer {
 
     public static LappPackage toPackage(WalaAnalysisResult analysisResult,  ArtifactFolderLayout layout) {
+        return toPackage(analysisResult, layout, new DefaultAnalysisContext());
+    }
+
+    public static LappPackage toPackage(WalaAnalysisResult analysisResult, ArtifactFolderLayout layout, AnalysisContext context) {
         ClassToArtifactResolver artifactResolver = new ClassToArtifactResolver(analysisResult.extendedCha, layout);
 
-        LappPackageBuilder builder = new LappPackageBuilder(artifactResolver, layout);
+        LappPackageBuilder builder = new LappPackageBuilder(artifactResolver, layout, context);
 
         return builder.setPackages(analysisResult.extendedCha.getScope().getModules(ClassLoaderReference.Application))
                 .insertCha(analysisResult.extendedCha)
                 .insertCallGraph(analysisResult.cg)
                 .build();
     }
+
+    /**
+     * Write the analysis result to a stream without building a LappPackage in memory.
+     */
+    public static void toStream(WalaAnalysisResult analysisResult, ArtifactFolderLayout layout, AnalysisContext context, LappStreamWriter streamWriter) {
+        ClassToArtifactResolver artifactResolver = new ClassToArtifactResolver(analysisResult.extendedCha, layout);
+
+        new LappPackageBuilder(artifactResolver, layout, context)
+                .streamTo(streamWriter)
+                .setPackages(analysisResult.extendedCha.getScope().getModules(ClassLoaderReference.Application))
+                .insertCha(analysisResult.extendedCha)
+                .insertCallGraph(analysisResult.cg);
+    }
 }
@@ -0,0 +1,285 @@
+package nl.wvdzwan.lapp.columnar;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+
+/**
+ * Read only call graph that is memory mapped from a file, nothing is parsed when it is opened.
+ *
+ * <p>The file starts with the lapp magic bytes, the columnar format byte and 3 bytes padding. A header with the
+ * number of strings, methods, artifacts, classes, resolved calls and unresolved calls follows, after that the offset of
+ * every section. All numbers are 4 byte big endian integers, sections start at a multiple of 4.</p>
+ *
+ * <ul>
+ *     <li>Strings: offsets of every string followed by the UTF-8 data, string 0 is the empty string</li>
+ *     <li>Methods: namespace, symbol and artifact string of every method, artifact 0 for unresolved methods</li>
+ *     <li>Artifacts: group, name and version string of every artifact</li>
+ *     <li>Classes: name, package, super class and flags of every class, with offsets into the interface and method
+ *     strings of all classes</li>
+ *     <li>Resolved and unresolved calls: compressed sparse rows indexed by source method, the target of every call and
+ *     the call type as a single byte</li>
+ * </ul>
+ *
+ * <p>A single mapping is used, so a store is limited to 2GB.</p>
+ */
+public class ColumnarStore implements Closeable {
+
+    static final int COUNT_FIELDS = 6;
+    static final int SECTION_COUNT = 15;
+    static final int HEADER_SIZE = 8 + 4 * COUNT_FIELDS + 4 * SECTION_COUNT;
+
+    private static final int PUBLIC = 1;
+    private static final int PRIVATE = 2;
+    private static final int INTERFACE = 4;
+    private static final int ABSTRACT = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private final int stringCount;
+    private final int methodCount;
+    private final int artifactCount;
+    private final int classCount;
+
+    private final IntBuffer stringOffsets;
+    private final ByteBuffer stringData;
+    private final IntBuffer methods;
+    private final IntBuffer artifacts;
+    private final IntBuffer classes;
+    private final IntBuffer interfaceOffsets;
+    private final IntBuffer interfaces;
+    private final IntBuffer classMethodOffsets;
+    private final IntBuffer classMethods;
+
+    private final Adjacency resolvedCalls;
+    private final Adjacency unresolvedCalls;
+
+    private ColumnarStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a columnar lapp store, the file is smaller than the header");
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Columnar lapp store exceeds 2GB");
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        byte[] magic = new byte[LappStreamWriter.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, LappStreamWriter.MAGIC) || buffer.get() != LappStreamWriter.COLUMNAR_FORMAT) {
+            throw new IOException("Not a columnar lapp store");
+        }
+
+        stringCount = buffer.getInt(8);
+        methodCount = buffer.getInt(12);
+        artifactCount = buffer.getInt(16);
+        classCount = buffer.getInt(20);
+        int resolvedCount = buffer.getInt(24);
+        int unresolvedCount = buffer.getInt(28);
+        if (stringCount < 0 || methodCount < 0 || artifactCount < 0 || classCount < 0
+                || resolvedCount < 0 || unresolvedCount < 0) {
+            throw new IOException("Corrupt columnar lapp store, negative count in header");
+        }
+
+        // Sections follow each other, a truncated file has sections ending beyond the end of the file
+        int previous = HEADER_SIZE;
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            int offset = buffer.getInt(8 + 4 * COUNT_FIELDS + 4 * section);
+            if (offset < previous || offset > buffer.capacity()) {
+                throw new IOException("Truncated or corrupt columnar lapp store, section " + section
+                        + " starts at " + offset + " of " + buffer.capacity() + " bytes");
+            }
+            previous = offset;
+        }
+
+        int section = 0;
+        stringOffsets = section(section++).asIntBuffer();
+        stringData = section(section++);
+        methods = section(section++).asIntBuffer();
+        artifacts = section(section++).asIntBuffer();
+        classes = section(section++).asIntBuffer();
+        interfaceOffsets = section(section++).asIntBuffer();
+        interfaces = section(section++).asIntBuffer();
+        classMethodOffsets = section(section++).asIntBuffer();
+        classMethods = section(section++).asIntBuffer();
+
+        resolvedCalls = new Adjacency(resolvedCount,
+                section(section++).asIntBuffer(), section(section++).asIntBuffer(), section(section++));
+        unresolvedCalls = new Adjacency(unresolvedCount,
+                section(section++).asIntBuffer(), section(section++).asIntBuffer(), section(section));
+    }
+
+    public static ColumnarStore open(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new ColumnarStore(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer section(int section) {
+        int offset = buffer.getInt(8 + 4 * COUNT_FIELDS + 4 * section);
+        int end = section + 1 < SECTION_COUNT ? buffer.getInt(8 + 4 * COUNT_FIELDS + 4 * (section + 1)) : buffer.capacity();
+
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(end);
+
+        return duplicate.slice();
+    }
+
+    static int flags(Lapp.ClassRecord record) {
+        return (record.getPublic() ? PUBLIC : 0)
+                | (record.getPrivate() ? PRIVATE : 0)
+                | (record.getInterface() ? INTERFACE : 0)
+                | (record.getAbstract() ? ABSTRACT : 0);
+    }
+
+    public int getStringCount() {
+        return stringCount;
+    }
+
+    public String getString(int id) {
+        int start = stringOffsets.get(id);
+        int end = stringOffsets.get(id + 1);
+
+        byte[] bytes = new byte[end - start];
+        ByteBuffer duplicate = stringData.duplicate();
+        duplicate.position(start);
+        duplicate.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int getMethodCount() {
+        return methodCount;
+    }
+
+    public int getMethodNamespace(int method) {
+        return methods.get(method * 3);
+    }
+
+    public int getMethodSymbol(int method) {
+        return methods.get(method * 3 + 1);
+    }
+
+    /**
+     * @return string id of the artifact of a method, 0 for unresolved methods
+     */
+    public int getMethodArtifact(int method) {
+        return methods.get(method * 3 + 2);
+    }
+
+    public Lapp.Method getMethod(int method) {
+        return Lapp.Method.newBuilder()
+                .setNamespace(getString(getMethodNamespace(method)))
+                .setSymbol(getString(getMethodSymbol(method)))
+                .setArtifact(getString(getMethodArtifact(method)))
+                .build();
+    }
+
+    public int getArtifactCount() {
+        return artifactCount;
+    }
+
+    public Lapp.Artifact getArtifact(int artifact) {
+        return Lapp.Artifact.newBuilder()
+                .setGroup(getString(artifacts.get(artifact * 3)))
+                .setName(getString(artifacts.get(artifact * 3 + 1)))
+                .setVersion(getString(artifacts.get(artifact * 3 + 2)))
+                .build();
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    public Lapp.ClassRecord getClassRecord(int klass) {
+        int flags = classes.get(klass * 4 + 3);
+
+        Lapp.ClassRecord.Builder builder = Lapp.ClassRecord.newBuilder()
+                .setName(getString(classes.get(klass * 4)))
+                .setPackage(getString(classes.get(klass * 4 + 1)))
+                .setSuperClass(getString(classes.get(klass * 4 + 2)))
+
+                .setPublic((flags & PUBLIC) != 0)
+                .setPrivate((flags & PRIVATE) != 0)
+                .setInterface((flags & INTERFACE) != 0)
+                .setAbstract((flags & ABSTRACT) != 0);
+
+        for (int i = interfaceOffsets.get(klass); i < interfaceOffsets.get(klass + 1); i++) {
+            builder.addInterfaces(getString(interfaces.get(i)));
+        }
+        for (int i = classMethodOffsets.get(klass); i < classMethodOffsets.get(klass + 1); i++) {
+            builder.addMethods(getString(classMethods.get(i)));
+        }
+
+        return builder.build();
+    }
+
+    public Adjacency getResolvedCalls() {
+        return resolvedCalls;
+    }
+
+    public Adjacency getUnresolvedCalls() {
+        return unresolvedCalls;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Calls grouped by source method, the calls of method m are the edges from start(m) until end(m).
+     */
+    public static class Adjacency {
+        private final int count;
+        private final IntBuffer offsets;
+        private final IntBuffer targets;
+        private final ByteBuffer types;
+
+        Adjacency(int count, IntBuffer offsets, IntBuffer targets, ByteBuffer types) {
+            this.count = count;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.types = types;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int start(int method) {
+            return offsets.get(method);
+        }
+
+        public int end(int method) {
+            return offsets.get(method + 1);
+        }
+
+        public int target(int edge) {
+            return targets.get(edge);
+        }
+
+        public Lapp.Call.CallType type(int edge) {
+            Lapp.Call.CallType type = Lapp.Call.CallType.forNumber(types.get(edge));
+            return type == null ? Lapp.Call.CallType.UNKNOWN : type;
+        }
+    }
+}
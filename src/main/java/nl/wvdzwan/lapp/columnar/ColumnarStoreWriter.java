@@ -0,0 +1,254 @@
+package nl.wvdzwan.lapp.columnar;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+
+/**
+ * Writes a package as a columnar store, see {@link ColumnarStore} for the layout.
+ */
+public class ColumnarStoreWriter {
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+
+    private final Map<Lapp.Method, Integer> methodIds = new HashMap<>();
+    private final IntList methods = new IntList();
+
+    public static void write(Lapp.Package lappPackage, File file) throws IOException {
+        new ColumnarStoreWriter().writePackage(lappPackage, file);
+    }
+
+    private void writePackage(Lapp.Package lappPackage, File file) throws IOException {
+        stringId("");
+
+        IntList artifacts = new IntList();
+        for (Lapp.Artifact artifact : lappPackage.getArtifactsList()) {
+            artifacts.add(stringId(artifact.getGroup()));
+            artifacts.add(stringId(artifact.getName()));
+            artifacts.add(stringId(artifact.getVersion()));
+        }
+
+        IntList classes = new IntList();
+        IntList interfaceOffsets = new IntList();
+        IntList interfaces = new IntList();
+        IntList classMethodOffsets = new IntList();
+        IntList classMethods = new IntList();
+        for (Lapp.ClassRecord record : lappPackage.getClassRecordsList()) {
+            classes.add(stringId(record.getName()));
+            classes.add(stringId(record.getPackage()));
+            classes.add(stringId(record.getSuperClass()));
+            classes.add(ColumnarStore.flags(record));
+
+            interfaceOffsets.add(interfaces.size());
+            record.getInterfacesList().forEach(i -> interfaces.add(stringId(i)));
+
+            classMethodOffsets.add(classMethods.size());
+            record.getMethodsList().forEach(m -> classMethods.add(stringId(m)));
+        }
+        interfaceOffsets.add(interfaces.size());
+        classMethodOffsets.add(classMethods.size());
+
+        // Register all methods before building the adjacency arrays, they are indexed by source method
+        int[][] resolvedCalls = callTable(lappPackage.getResolvedCallsList());
+        int[][] unresolvedCalls = callTable(lappPackage.getUnresolvedCallsList());
+        int methodCount = methods.size() / 3;
+
+        Adjacency resolved = new Adjacency(resolvedCalls, methodCount);
+        Adjacency unresolved = new Adjacency(unresolvedCalls, methodCount);
+
+        IntList stringOffsets = new IntList();
+        int stringDataSize = 0;
+        for (byte[] s : strings) {
+            stringOffsets.add(stringDataSize);
+            stringDataSize += s.length;
+        }
+        stringOffsets.add(stringDataSize);
+
+        // Section sizes in bytes, in the order of the section table
+        int[] sizes = {
+                stringOffsets.size() * 4,
+                stringDataSize,
+                methods.size() * 4,
+                artifacts.size() * 4,
+                classes.size() * 4,
+                interfaceOffsets.size() * 4,
+                interfaces.size() * 4,
+                classMethodOffsets.size() * 4,
+                classMethods.size() * 4,
+                resolved.offsets.length * 4,
+                resolved.targets.length * 4,
+                resolved.types.length,
+                unresolved.offsets.length * 4,
+                unresolved.targets.length * 4,
+                unresolved.types.length,
+        };
+
+        int[] offsets = new int[ColumnarStore.SECTION_COUNT];
+        long position = ColumnarStore.HEADER_SIZE;
+        for (int i = 0; i < sizes.length; i++) {
+            offsets[i] = (int) position;
+            position = align(position + sizes[i]);
+        }
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("Package too large for a columnar store");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+            out.write(LappStreamWriter.MAGIC);
+            out.write(LappStreamWriter.COLUMNAR_FORMAT);
+            out.write(new byte[3]);
+
+            out.writeInt(strings.size());
+            out.writeInt(methodCount);
+            out.writeInt(lappPackage.getArtifactsCount());
+            out.writeInt(lappPackage.getClassRecordsCount());
+            out.writeInt(resolved.targets.length);
+            out.writeInt(unresolved.targets.length);
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+
+            int section = 0;
+            writeInts(out, stringOffsets.toArray(), offsets[section++]);
+            pad(out, offsets[section]);
+            for (byte[] s : strings) {
+                out.write(s);
+            }
+            section++;
+
+            writeInts(out, methods.toArray(), offsets[section++]);
+            writeInts(out, artifacts.toArray(), offsets[section++]);
+            writeInts(out, classes.toArray(), offsets[section++]);
+            writeInts(out, interfaceOffsets.toArray(), offsets[section++]);
+            writeInts(out, interfaces.toArray(), offsets[section++]);
+            writeInts(out, classMethodOffsets.toArray(), offsets[section++]);
+            writeInts(out, classMethods.toArray(), offsets[section++]);
+
+            for (Adjacency adjacency : new Adjacency[]{resolved, unresolved}) {
+                writeInts(out, adjacency.offsets, offsets[section++]);
+                writeInts(out, adjacency.targets, offsets[section++]);
+                pad(out, offsets[section++]);
+                out.write(adjacency.types);
+            }
+        }
+    }
+
+    private int[][] callTable(List<Lapp.Call> calls) {
+        int[][] table = new int[calls.size()][];
+        for (int i = 0; i < table.length; i++) {
+            Lapp.Call call = calls.get(i);
+            table[i] = new int[]{methodId(call.getSource()), methodId(call.getTarget()), call.getCallTypeValue()};
+        }
+
+        return table;
+    }
+
+    private int methodId(Lapp.Method method) {
+        // Method metadata is not part of the store
+        Lapp.Method key = method.getMetadataCount() == 0 ? method : method.toBuilder().clearMetadata().build();
+
+        Integer id = methodIds.get(key);
+        if (id == null) {
+            id = methods.size() / 3;
+            methods.add(stringId(key.getNamespace()));
+            methods.add(stringId(key.getSymbol()));
+            methods.add(stringId(key.getArtifact()));
+            methodIds.put(key, id);
+        }
+
+        return id;
+    }
+
+    private int stringId(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.add(s.getBytes(StandardCharsets.UTF_8));
+            stringIds.put(s, id);
+        }
+
+        return id;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values, int offset) throws IOException {
+        pad(out, offset);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void pad(DataOutputStream out, int offset) throws IOException {
+        while (out.size() < offset) {
+            out.write(0);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 3) & ~3L;
+    }
+
+    /**
+     * Calls in compressed sparse row form: the calls of method m are targets[offsets[m]] until targets[offsets[m + 1]].
+     */
+    private static class Adjacency {
+        final int[] offsets;
+        final int[] targets;
+        final byte[] types;
+
+        Adjacency(int[][] calls, int methodCount) {
+            offsets = new int[methodCount + 1];
+            targets = new int[calls.length];
+            types = new byte[calls.length];
+
+            for (int[] call : calls) {
+                offsets[call[0] + 1]++;
+            }
+            for (int m = 0; m < methodCount; m++) {
+                offsets[m + 1] += offsets[m];
+            }
+
+            // Counting sort on source, calls of a method keep their original order
+            int[] next = offsets.clone();
+            for (int[] call : calls) {
+                int edge = next[call[0]]++;
+                targets[edge] = call[1];
+                types[edge] = (byte) call[2];
+            }
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) {
+                int[] grown = new int[values.length * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            int[] result = new int[size];
+            System.arraycopy(values, 0, result, 0, size);
+            return result;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package nl.wvdzwan.lapp.convert;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -18,6 +17,7 @@ import picocli.CommandLine;
 
 import nl.wvdzwan.lapp.convert.outputs.*;
 import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
 
 
 @CommandLine.Command(
@@ -53,6 +53,8 @@ public class ConvertMain implements Callable<Void> {
     public ConvertMain() {
         types.put("json", JsonOutput.class);
         types.put("proto", ProtobufOutput.class);
+        types.put("stream", StreamProtobufOutput.class);
+        types.put("compact", CompactProtobufOutput.class);
         types.put("xdot", HumanReadableDotGraph.class);
         types.put("udot", UnifiedCallGraphExport.class);
         types.put("chadot", ClassHierarchyDotGraph.class);
@@ -65,26 +67,10 @@ public class ConvertMain implements Callable<Void> {
         //
         // Prepare input
         //
-        Lapp.Package lappPackage;
-        try {
-            lappPackage = Lapp.Package.parseFrom(new FileInputStream(inputFile));
-        } catch (FileNotFoundException e) {
+        File input = new File(inputFile);
+        if (!input.isFile()) {
             logger.error("File {} not found!", inputFile);
             return null;
-        } catch (IOException e) {
-            logger.error("Error parsing file, are you sure it is a LappPackage file?");
-            return null;
-        }
-
-        //
-        // Prepare output
-        //
-        OutputStream outputStream;
-        try {
-            outputStream = new FileOutputStream(new File(outputFile));
-        } catch (FileNotFoundException e) {
-            logger.error("File not found: {}", e.getMessage());
-            return null;
         }
 
         // Prepare converter
@@ -94,19 +80,35 @@ public class ConvertMain implements Callable<Void> {
             return null;
         }
 
-        //
-        // Convert
-        //
-        LappPackageOutput converter = null;
+        LappPackageOutput converter;
         try {
             converter = outputClass.newInstance();
-            converter.export(outputStream, lappPackage);
         } catch (InstantiationException | IllegalAccessException e) {
             logger.error("Could not build converter type");
             logger.error(e.getMessage());
             return null;
         }
 
+        //
+        // Prepare output and convert
+        //
+        try (OutputStream outputStream = new FileOutputStream(new File(outputFile))) {
+
+            if (converter instanceof LappStreamOutput) {
+                ((LappStreamOutput) converter).exportStream(outputStream, input);
+            } else {
+                Lapp.Package lappPackage = LappStreamReader.readPackage(input);
+                converter.export(outputStream, lappPackage);
+            }
+
+        } catch (FileNotFoundException e) {
+            logger.error("File not found: {}", e.getMessage());
+            return null;
+        } catch (IOException e) {
+            logger.error("Error parsing file, are you sure it is a LappPackage file?");
+            return null;
+        }
+
         return null;
     }
 
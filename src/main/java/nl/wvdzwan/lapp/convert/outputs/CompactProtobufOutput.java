@@ -0,0 +1,25 @@
+package nl.wvdzwan.lapp.convert.outputs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappPackageReader;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+import nl.wvdzwan.lapp.protobuf.Protobuf;
+
+public class CompactProtobufOutput implements LappPackageOutput {
+
+    @Override
+    public boolean export(OutputStream outputStream, Lapp.Package lappPackage) {
+
+        try {
+            LappStreamWriter.writeCompact(outputStream, Protobuf.toCompact(LappPackageReader.from(lappPackage)));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        return true;
+    }
+}
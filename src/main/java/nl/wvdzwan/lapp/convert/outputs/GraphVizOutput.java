@@ -1,30 +1,117 @@
 package nl.wvdzwan.lapp.convert.outputs;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jgrapht.Graph;
 import org.jgrapht.io.Attribute;
+import org.jgrapht.io.AttributeType;
 import org.jgrapht.io.DOTExporter;
 import org.jgrapht.io.DefaultAttribute;
 
 import nl.wvdzwan.lapp.LappPackageTransformer;
 import nl.wvdzwan.lapp.call.Call;
 import nl.wvdzwan.lapp.call.Edge;
+import nl.wvdzwan.lapp.core.AnalysisContext;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
 import nl.wvdzwan.lapp.core.Method;
 import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappPackageReader;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
 
-public abstract class GraphVizOutput implements LappPackageOutput {
+public abstract class GraphVizOutput implements LappPackageOutput, LappStreamOutput {
     private static Logger logger = LogManager.getLogger();
 
+    private static final String INDENT = "  ";
+
     public boolean export(OutputStream outputStream, Lapp.Package lappProto) {
 
         Graph<Method, Call> graph = LappPackageTransformer.toGraph(lappProto);
 
+        exportGraph(outputStream, graph);
+
+        return true;
+    }
+
+    /**
+     * Write the DOT statements of every call while reading the lapp file one record at a time, nothing is kept
+     * between records.
+     *
+     * <p>Statements are written in file order instead of graph order and a vertex is declared again for every call
+     * it is part of. The strict graph merges those, so the graph is the same as the one written by
+     * {@link #export(OutputStream, Lapp.Package)}.</p>
+     */
+    @Override
+    public boolean exportStream(OutputStream outputStream, File lappFile) throws IOException {
+        // Methods are only interned for a single record
+        AnalysisContext context = new DefaultAnalysisContext();
+
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(outputStream));
+        writer.println("strict digraph G {");
+        for (Map.Entry<String, String> attribute : graphAttributes().entrySet()) {
+            writer.println(INDENT + attribute.getKey() + '=' + attribute.getValue() + ';');
+        }
+
+        try (LappStreamReader reader = LappStreamReader.open(lappFile)) {
+            for (Lapp.Record record = reader.next(); record != null; record = reader.next()) {
+                if (record.hasResolvedCall()) {
+                    writeCall(writer, LappPackageReader.fromCall(record.getResolvedCall(), context));
+                } else if (record.hasUnresolvedCall()) {
+                    writeCall(writer, LappPackageReader.fromCall(record.getUnresolvedCall(), context));
+                }
+                context.release();
+            }
+        }
+
+        writer.println("}");
+        writer.flush();
+
+        return !writer.checkError();
+    }
+
+    private void writeCall(PrintWriter writer, Call call) {
+        writeVertex(writer, call.source);
+        writeVertex(writer, call.target);
+
+        writer.print(INDENT + vertexIdProvider(call.source) + " -> " + vertexIdProvider(call.target));
+        writeAttributes(writer, edgeLabelProvider(call), edgeAttributeProvider(call));
+    }
+
+    private void writeVertex(PrintWriter writer, Method vertex) {
+        writer.print(INDENT + vertexIdProvider(vertex));
+        writeAttributes(writer, vertexLabelProvider(vertex), vertexAttributeProvider(vertex));
+    }
+
+    /**
+     * Write the attribute list the way {@link DOTExporter} does.
+     */
+    private static void writeAttributes(PrintWriter writer, String label, Map<String, Attribute> attributes) {
+        writer.print(" [ label=\"" + escapeDoubleQuotes(label) + "\"");
+        for (Map.Entry<String, Attribute> attribute : attributes.entrySet()) {
+            String value = attribute.getValue().getValue();
+            if (attribute.getValue().getType() == AttributeType.HTML) {
+                writer.print(" " + attribute.getKey() + "=<" + value + ">");
+            } else {
+                writer.print(" " + attribute.getKey() + "=\"" + escapeDoubleQuotes(value) + "\"");
+            }
+        }
+        writer.println(" ];");
+    }
+
+    private static String escapeDoubleQuotes(String value) {
+        return value.replaceAll("\"", Matcher.quoteReplacement("\\\""));
+    }
+
+    protected void exportGraph(OutputStream outputStream, Graph<Method, Call> graph) {
         DOTExporter<Method, Call> exporter = new DOTExporter<>(
                 this::vertexIdProvider,
                 this::vertexLabelProvider,
@@ -33,16 +120,17 @@ public abstract class GraphVizOutput implements LappPackageOutput {
                 this::edgeAttributeProvider);
 
 
-        setGraphAttributes(exporter);
+        for (Map.Entry<String, String> attribute : graphAttributes().entrySet()) {
+            exporter.putGraphAttribute(attribute.getKey(), attribute.getValue());
+        }
 
         OutputStreamWriter writer = new OutputStreamWriter(outputStream);
         exporter.exportGraph(graph, writer);
-
-        return true;
     }
 
-    protected void setGraphAttributes(DOTExporter<Method, Call> exported) {
+    protected Map<String, String> graphAttributes() {
         // No graph attributes by default
+        return new LinkedHashMap<>();
     }
 
     abstract String vertexIdProvider(Method vertex);
@@ -1,19 +1,21 @@
 package nl.wvdzwan.lapp.convert.outputs;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jgrapht.io.Attribute;
-import org.jgrapht.io.DOTExporter;
 
-import nl.wvdzwan.lapp.call.Call;
 import nl.wvdzwan.lapp.core.Method;
 
 public class HumanReadableDotGraph extends GraphVizOutput {
 
     @Override
-    protected void setGraphAttributes(DOTExporter<Method, Call> dotExporter) {
-        dotExporter.putGraphAttribute("overlap", "false");
-        dotExporter.putGraphAttribute("ranksep", "1");
+    protected Map<String, String> graphAttributes() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("overlap", "false");
+        attributes.put("ranksep", "1");
+
+        return attributes;
     }
 
     @Override
@@ -1,14 +1,27 @@
 package nl.wvdzwan.lapp.convert.outputs;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 
 import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
 
-public class JsonOutput implements LappPackageOutput {
+public class JsonOutput implements LappPackageOutput, LappStreamOutput {
     @Override
     public boolean export(OutputStream outputStream, Lapp.Package lappPackage) {
 
@@ -27,4 +40,128 @@ public class JsonOutput implements LappPackageOutput {
 
         return true;
     }
+
+    /**
+     * Write the same JSON as for a complete package while reading the lapp file once. The records of every field are
+     * spilled to a temporary file and copied to the output in field order after the whole file is read.
+     */
+    @Override
+    public boolean exportStream(OutputStream outputStream, File lappFile) throws IOException {
+        PrintWriter printer = new PrintWriter(outputStream);
+        JsonFormat.Printer jsonPrinter = JsonFormat.printer();
+
+        // Same order as JsonFormat, by field number
+        Map<Lapp.Record.RecordCase, Spill> spills = new LinkedHashMap<>();
+        spills.put(Lapp.Record.RecordCase.ARTIFACT, new Spill("artifacts"));
+        spills.put(Lapp.Record.RecordCase.RESOLVEDCALL, new Spill("resolvedCalls"));
+        spills.put(Lapp.Record.RecordCase.UNRESOLVEDCALL, new Spill("unresolvedCalls"));
+        spills.put(Lapp.Record.RecordCase.CLASSRECORD, new Spill("classRecords"));
+
+        try {
+            Map<String, String> metadata;
+            try (LappStreamReader reader = LappStreamReader.open(lappFile)) {
+                for (Lapp.Record record = reader.next(); record != null; record = reader.next()) {
+                    Spill spill = spills.get(record.getRecordCase());
+                    if (spill != null) {
+                        spill.add(jsonPrinter.print(recordValue(record)).replace("\n", "\n  "));
+                    }
+                }
+                // Taken from the stream header, a single message file is only complete after reading all records
+                metadata = reader.getMetadata();
+            }
+
+            printer.print("{");
+            boolean first = true;
+            for (Spill spill : spills.values()) {
+                if (spill.copyTo(printer, first)) {
+                    first = false;
+                }
+            }
+
+            if (!metadata.isEmpty()) {
+                String json = jsonPrinter.print(Lapp.Package.newBuilder().putAllMetadata(metadata));
+
+                // Strip the braces of the surrounding package
+                printer.print(first ? "\n" : ",\n");
+                printer.print(json.substring(2, json.length() - 2));
+            }
+
+            printer.println("\n}");
+            printer.flush();
+        } finally {
+            for (Spill spill : spills.values()) {
+                spill.delete();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * JSON values of a single package field, written to a temporary file as they are read.
+     */
+    private static class Spill {
+        private final String name;
+        private File file;
+        private Writer writer;
+
+        Spill(String name) {
+            this.name = name;
+        }
+
+        void add(String json) throws IOException {
+            if (writer == null) {
+                file = File.createTempFile("lapp-" + name, ".json");
+                file.deleteOnExit();
+                writer = new BufferedWriter(new FileWriter(file));
+            } else {
+                writer.write(", ");
+            }
+            writer.write(json);
+        }
+
+        /**
+         * @return true when the field has values and was written
+         */
+        boolean copyTo(PrintWriter printer, boolean first) throws IOException {
+            if (writer == null) {
+                return false;
+            }
+            writer.close();
+
+            printer.print(first ? "\n" : ",\n");
+            printer.print("  \"" + name + "\": [");
+            try (Reader reader = new BufferedReader(new FileReader(file))) {
+                char[] buffer = new char[8192];
+                for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                    printer.write(buffer, 0, read);
+                }
+            }
+            printer.print("]");
+
+            return true;
+        }
+
+        void delete() throws IOException {
+            if (writer != null) {
+                writer.close();
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    private static Message recordValue(Lapp.Record record) {
+        switch (record.getRecordCase()) {
+            case ARTIFACT:
+                return record.getArtifact();
+            case CLASSRECORD:
+                return record.getClassRecord();
+            case RESOLVEDCALL:
+                return record.getResolvedCall();
+            case UNRESOLVEDCALL:
+                return record.getUnresolvedCall();
+            default:
+                return record.getHeader();
+        }
+    }
 }
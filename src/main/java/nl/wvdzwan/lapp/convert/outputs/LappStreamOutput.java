@@ -0,0 +1,20 @@
+package nl.wvdzwan.lapp.convert.outputs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output that reads the lapp file record by record instead of loading the complete package.
+ */
+public interface LappStreamOutput {
+
+    /**
+     * @param outputStream stream to write the result to
+     * @param lappFile     streamed or single message lapp file, may be read more than once
+     * @return true when the export succeeded
+     * @throws IOException when the lapp file could not be read
+     */
+    boolean exportStream(OutputStream outputStream, File lappFile) throws IOException;
+
+}
@@ -1,25 +1,28 @@
 package nl.wvdzwan.lapp.convert.outputs;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
 
 import org.jgrapht.Graph;
 import org.jgrapht.io.Attribute;
-import org.jgrapht.io.DOTExporter;
 
 import nl.wvdzwan.lapp.LappPackageTransformer;
 import nl.wvdzwan.lapp.call.Call;
 import nl.wvdzwan.lapp.convert.LappClassHierarchy;
+import nl.wvdzwan.lapp.core.AnalysisContext;
 import nl.wvdzwan.lapp.core.ClassRecord;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
 import nl.wvdzwan.lapp.core.LappPackage;
 import nl.wvdzwan.lapp.core.Method;
 import nl.wvdzwan.lapp.core.ResolvedMethod;
 import nl.wvdzwan.lapp.core.UnresolvedMethod;
 import nl.wvdzwan.lapp.protobuf.Lapp;
 import nl.wvdzwan.lapp.protobuf.LappPackageReader;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
 
 import static nl.wvdzwan.lapp.call.Call.CallType.RESOLVED_DISPATCH;
 
@@ -27,7 +30,8 @@ public class ResolvedDispatchCallGraphExport extends GraphVizOutput {
 
     @Override
     public boolean export(OutputStream outputStream, Lapp.Package lappProto) {
-        LappPackage lappPackage = LappPackageReader.from(lappProto);
+        AnalysisContext context = new DefaultAnalysisContext();
+        LappPackage lappPackage = LappPackageReader.from(lappProto, context);
         Graph<Method, Call> graph = LappPackageTransformer.toGraph(lappPackage);
 
         LappClassHierarchy cha = LappClassHierarchy.make(lappPackage);
@@ -39,7 +43,7 @@ public class ResolvedDispatchCallGraphExport extends GraphVizOutput {
                 Set<ClassRecord> implementors = cha.getImplementingClasses(c.target.namespace, c.target.symbol);
 
                 for (ClassRecord cr : implementors) {
-                    ResolvedMethod dynamic_target = ResolvedMethod.findOrCreate(cr.name, c.target.symbol, cr.artifact);
+                    ResolvedMethod dynamic_target = context.makeResolved(cr.name, c.target.symbol, cr.artifact);
                     graph.addVertex(dynamic_target);
                     graph.addEdge(c.target, dynamic_target, new Call(c.target, dynamic_target, RESOLVED_DISPATCH));
                 }
@@ -48,23 +52,22 @@ public class ResolvedDispatchCallGraphExport extends GraphVizOutput {
 
 
 
-        DOTExporter<Method, Call> exporter = new DOTExporter<>(
-                this::vertexIdProvider,
-                this::vertexLabelProvider,
-                this::edgeLabelProvider,
-                this::vertexAttributeProvider,
-                this::edgeAttributeProvider);
+        exportGraph(outputStream, graph);
 
-
-        setGraphAttributes(exporter);
-
-        OutputStreamWriter writer = new OutputStreamWriter(outputStream);
-        exporter.exportGraph(graph, writer);
+        context.release();
 
         return true;
     }
 
 
+    /**
+     * Resolving dispatch needs the complete class hierarchy, so the package is loaded in memory.
+     */
+    @Override
+    public boolean exportStream(OutputStream outputStream, File lappFile) throws IOException {
+        return export(outputStream, LappStreamReader.readPackage(lappFile));
+    }
+
     @Override
     public String vertexIdProvider(Method method) {
         String id;
@@ -0,0 +1,56 @@
+package nl.wvdzwan.lapp.convert.outputs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+
+public class StreamProtobufOutput implements LappPackageOutput, LappStreamOutput {
+
+    @Override
+    public boolean export(OutputStream outputStream, Lapp.Package lappPackage) {
+
+        try (LappStreamWriter writer = new LappStreamWriter(outputStream, lappPackage.getMetadataMap())) {
+            writer.writePackage(lappPackage);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean exportStream(OutputStream outputStream, File lappFile) throws IOException {
+
+        // The metadata of a single message file is only known after reading it, it is read separately for the header
+        Map<String, String> metadata = LappStreamReader.readMetadata(lappFile);
+
+        try (LappStreamReader reader = LappStreamReader.open(lappFile);
+             LappStreamWriter writer = new LappStreamWriter(outputStream, metadata)) {
+
+            for (Lapp.Record record = reader.next(); record != null; record = reader.next()) {
+                switch (record.getRecordCase()) {
+                    case ARTIFACT:
+                        writer.writeArtifact(record.getArtifact());
+                        break;
+                    case CLASSRECORD:
+                        writer.writeClassRecord(record.getClassRecord());
+                        break;
+                    case RESOLVEDCALL:
+                        writer.writeResolvedCall(record.getResolvedCall());
+                        break;
+                    case UNRESOLVEDCALL:
+                        writer.writeUnresolvedCall(record.getUnresolvedCall());
+                        break;
+                }
+            }
+        }
+
+        return true;
+    }
+}
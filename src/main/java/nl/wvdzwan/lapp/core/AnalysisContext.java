@@ -3,10 +3,18 @@ package nl.wvdzwan.lapp.core;
 import nl.wvdzwan.lapp.core.ResolvedMethod;
 import nl.wvdzwan.lapp.core.UnresolvedMethod;
 
+/**
+ * Interns the methods of a single analysis, methods with the same identity are the same object within a context.
+ */
 public interface AnalysisContext {
 
     ResolvedMethod makeResolved(String namespace, String symbol, String artifact);
 
     UnresolvedMethod makeUnresolved(String namespace, String symbol);
 
+    /**
+     * Forget all interned methods, to be called when the analysis using this context is finished.
+     */
+    void release();
+
 }
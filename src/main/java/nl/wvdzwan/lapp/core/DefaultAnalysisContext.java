@@ -1,49 +1,68 @@
 package nl.wvdzwan.lapp.core;
 
-import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Analysis context interning methods in nested maps.
+ *
+ * <p>Methods are looked up by artifact, namespace and symbol separately, so a lookup of an existing method doesn't
+ * need to build a combined key.</p>
+ */
 public class DefaultAnalysisContext implements AnalysisContext {
 
-    private final HashMap<String, ResolvedMethod> resolvedDictionary = new HashMap<>();
-    private final HashMap<String, UnresolvedMethod> unresolvedDictionary = new HashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, ConcurrentHashMap<String, ResolvedMethod>>> resolvedDictionary = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, UnresolvedMethod>> unresolvedDictionary = new ConcurrentHashMap<>();
 
     
     @Override
-    public synchronized ResolvedMethod makeResolved(String namespace, String symbol, String artifact) {
+    public ResolvedMethod makeResolved(String namespace, String symbol, String artifact) {
         Objects.requireNonNull(artifact);
         Objects.requireNonNull(namespace);
         Objects.requireNonNull(symbol);
 
-        String key = ResolvedMethod.toID(namespace, symbol, artifact);
+        ConcurrentHashMap<String, ConcurrentHashMap<String, ResolvedMethod>> namespaces = resolvedDictionary.get(artifact);
+        if (namespaces == null) {
+            namespaces = resolvedDictionary.computeIfAbsent(artifact, k -> new ConcurrentHashMap<>());
+        }
+
+        ConcurrentHashMap<String, ResolvedMethod> symbols = namespaces.get(namespace);
+        if (symbols == null) {
+            symbols = namespaces.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+        }
 
-        ResolvedMethod val = resolvedDictionary.get(key);
+        ResolvedMethod val = symbols.get(symbol);
         if (val != null) {
             return val;
         }
 
-        val = new ResolvedMethod(namespace, symbol, artifact);
-        resolvedDictionary.put(key, val);
-        return val;
+        return symbols.computeIfAbsent(symbol, k -> new ResolvedMethod(namespace, symbol, artifact));
 
     }
 
     @Override
-    public synchronized UnresolvedMethod makeUnresolved(String namespace, String symbol) {
+    public UnresolvedMethod makeUnresolved(String namespace, String symbol) {
         Objects.requireNonNull(namespace);
         Objects.requireNonNull(symbol);
 
-        String key = UnresolvedMethod.toID(namespace, symbol);
+        ConcurrentHashMap<String, UnresolvedMethod> symbols = unresolvedDictionary.get(namespace);
+        if (symbols == null) {
+            symbols = unresolvedDictionary.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+        }
 
-        UnresolvedMethod val = unresolvedDictionary.get(key);
+        UnresolvedMethod val = symbols.get(symbol);
         if (val != null) {
             return val;
         }
 
-        val = new UnresolvedMethod(namespace, symbol);
-        unresolvedDictionary.put(key, val);
-        return val;
+        return symbols.computeIfAbsent(symbol, k -> new UnresolvedMethod(namespace, symbol));
 
     }
 
+    @Override
+    public void release() {
+        resolvedDictionary.clear();
+        unresolvedDictionary.clear();
+    }
+
 }
@@ -16,7 +16,7 @@ public class UnresolvedMethod extends Method {
         return "__::" + namespace + "." + symbol;
     }
 
-    public static synchronized UnresolvedMethod findOrCreate(String namespace, String symbol) {
+    public static UnresolvedMethod findOrCreate(String namespace, String symbol) {
         return DEFAULT_CONTEXT.makeUnresolved(namespace, symbol);
     }
 }
@@ -0,0 +1,78 @@
+package nl.wvdzwan.lapp.index;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "build",
+        description = "Build an offline version-date index from libraries.io dumps"
+)
+public class BuildIndexCommand implements Callable<Void> {
+    private static final Logger logger = LogManager.getLogger();
+
+    @CommandLine.Parameters(
+            index = "0",
+            paramLabel = "Output file",
+            description = "File to save the index, use with resolve --index"
+    )
+    private File output;
+
+    @CommandLine.Parameters(
+            index = "1..*",
+            arity = "1..*",
+            paramLabel = "files",
+            description = "Versions csv dumps or json files with one project per line (.json, .jsonl), optionally gzipped"
+    )
+    private ArrayList<File> files = new ArrayList<>();
+
+    public Void call() throws Exception {
+        VersionIndexWriter writer = new VersionIndexWriter();
+
+        for (File file : files) {
+            String name = file.getName().replaceFirst("\\.gz$", "");
+
+            try (InputStream in = open(file);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+
+                if (name.endsWith(".json") || name.endsWith(".jsonl")) {
+                    long count = writer.readJsonLines(reader);
+                    logger.info("Read {} projects from {}", count, file);
+                } else {
+                    long count = writer.readCsv(reader);
+                    logger.info("Read {} versions from {}", count, file);
+                }
+            }
+        }
+
+        File tempOutput = new File(output.getPath() + ".tmp");
+        writer.write(tempOutput);
+        Files.move(tempOutput.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        logger.info("Saved index of {} projects to {}", writer.getProjectCount(), output);
+
+        return null;
+    }
+
+    private static InputStream open(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        if (file.getName().endsWith(".gz")) {
+            return new GZIPInputStream(in, 1 << 16);
+        }
+
+        return in;
+    }
+}
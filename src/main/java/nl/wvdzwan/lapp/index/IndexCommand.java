@@ -0,0 +1,22 @@
+package nl.wvdzwan.lapp.index;
+
+import java.util.concurrent.Callable;
+
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "index",
+        description = "Manage the offline version-date index",
+        subcommands = {
+                BuildIndexCommand.class,
+        }
+)
+public class IndexCommand implements Callable<Void> {
+
+    @Override
+    public Void call() {
+        CommandLine.usage(new IndexCommand(), System.out);
+
+        return null;
+    }
+}
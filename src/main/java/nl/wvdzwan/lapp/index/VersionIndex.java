@@ -0,0 +1,207 @@
+package nl.wvdzwan.lapp.index;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+/**
+ * Version publish dates of projects read from a memory mapped index file, no network is used.
+ *
+ * <p>The file starts with the magic bytes, the index version and the number of projects and versions, followed by the
+ * size of the name and version number data. All numbers are big endian. The sections that follow are:</p>
+ *
+ * <ul>
+ *     <li>Publish date of every version in epoch seconds (UTC), 8 bytes each</li>
+ *     <li>Offsets of every project name into the name data, sorted by the UTF-8 bytes of the name</li>
+ *     <li>Offsets of the first version of every project</li>
+ *     <li>Offsets of every version number into the number data</li>
+ *     <li>Name data and version number data as UTF-8</li>
+ * </ul>
+ *
+ * <p>Versions of a project are sorted by publish date. Projects are found with a binary search on name.</p>
+ */
+public class VersionIndex implements LibrariesIoInterface, Closeable {
+
+    static final byte[] MAGIC = {'L', 'V', 'I', 'X'};
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+
+    static final String PLATFORM = "Maven";
+
+    private final FileChannel channel;
+
+    private final int projectCount;
+    private final int versionCount;
+
+    private final LongBuffer published;
+    private final IntBuffer nameOffsets;
+    private final IntBuffer versionStarts;
+    private final IntBuffer numberOffsets;
+    private final ByteBuffer names;
+    private final ByteBuffer numbers;
+
+    private VersionIndex(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a version index, the file is smaller than the header");
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Version index exceeds 2GB");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC) || buffer.getInt() != VERSION) {
+            throw new IOException("Not a version index");
+        }
+
+        projectCount = buffer.getInt();
+        versionCount = buffer.getInt();
+        int nameDataSize = buffer.getInt();
+        int numberDataSize = buffer.getInt();
+        if (projectCount < 0 || versionCount < 0 || nameDataSize < 0 || numberDataSize < 0) {
+            throw new IOException("Corrupt version index, negative size in header");
+        }
+
+        long expectedSize = HEADER_SIZE + versionCount * 8L + (projectCount + 1L) * 8
+                + (versionCount + 1L) * 4 + nameDataSize + numberDataSize;
+        if (expectedSize > size) {
+            throw new IOException("Truncated version index, expected " + expectedSize + " bytes but found " + size);
+        }
+
+        int position = HEADER_SIZE;
+        published = slice(buffer, position, versionCount * 8).asLongBuffer();
+        position += versionCount * 8;
+        nameOffsets = slice(buffer, position, (projectCount + 1) * 4).asIntBuffer();
+        position += (projectCount + 1) * 4;
+        versionStarts = slice(buffer, position, (projectCount + 1) * 4).asIntBuffer();
+        position += (projectCount + 1) * 4;
+        numberOffsets = slice(buffer, position, (versionCount + 1) * 4).asIntBuffer();
+        position += (versionCount + 1) * 4;
+        names = slice(buffer, position, nameDataSize);
+        position += nameDataSize;
+        numbers = slice(buffer, position, numberDataSize);
+    }
+
+    public static VersionIndex open(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new VersionIndex(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int size) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + size);
+
+        return duplicate.slice();
+    }
+
+    public int getProjectCount() {
+        return projectCount;
+    }
+
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    /**
+     * @return project with all indexed versions or null when the project is not in the index
+     */
+    @Override
+    public Project getProjectInfo(String identifier) {
+        int project = find(identifier.getBytes(StandardCharsets.UTF_8));
+        if (project < 0) {
+            return null;
+        }
+
+        ArrayList<VersionDate> versions = new ArrayList<>();
+        for (int v = versionStarts.get(project); v < versionStarts.get(project + 1); v++) {
+            LocalDateTime date = LocalDateTime.ofEpochSecond(published.get(v), 0, ZoneOffset.UTC);
+            versions.add(new VersionDate(string(numbers, numberOffsets.get(v), numberOffsets.get(v + 1)), date));
+        }
+
+        return new Project(identifier, PLATFORM, versions);
+    }
+
+    private int find(byte[] key) {
+        int low = 0;
+        int high = projectCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compare = compare(names, nameOffsets.get(middle), nameOffsets.get(middle + 1), key);
+
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Compare bytes start until end of the data with the key as unsigned bytes, like the names are sorted.
+     */
+    private static int compare(ByteBuffer data, int start, int end, byte[] key) {
+        int length = Math.min(end - start, key.length);
+        for (int i = 0; i < length; i++) {
+            int compare = Integer.compare(data.get(start + i) & 0xff, key[i] & 0xff);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+
+        return Integer.compare(end - start, key.length);
+    }
+
+    private static String string(ByteBuffer data, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = data.get(start + i);
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void setApiKey(String apiKey) {
+        // Not used, the index is local
+    }
+
+    @Override
+    public void setBaseUrl(String baseUrl) {
+        // Not used, the index is local
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,263 @@
+package nl.wvdzwan.lapp.index;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+/**
+ * Collects versions of projects from libraries.io dumps and writes them as a {@link VersionIndex}.
+ */
+public class VersionIndexWriter {
+
+    private static final String PLATFORM_COLUMN = "Platform";
+    private static final String NAME_COLUMN = "Project Name";
+    private static final String NUMBER_COLUMN = "Number";
+    private static final String PUBLISHED_COLUMN = "Published Timestamp";
+
+    private final Map<String, Map<String, Long>> projects = new HashMap<>();
+
+    /**
+     * Add a version, when a version is added twice the earliest publish date is kept.
+     */
+    public void add(String project, String number, LocalDateTime published) {
+        projects.computeIfAbsent(project, k -> new HashMap<>())
+                .merge(number, published.toEpochSecond(ZoneOffset.UTC), Math::min);
+    }
+
+    public void add(Project project) {
+        if (project.getVersions() == null) {
+            return;
+        }
+
+        for (VersionDate version : project.getVersions()) {
+            add(project.getName(), version.getNumber(), version.getPublished_at());
+        }
+    }
+
+    public int getProjectCount() {
+        return projects.size();
+    }
+
+    /**
+     * Read a libraries.io versions dump, a csv file with at least the "Project Name", "Number" and
+     * "Published Timestamp" columns. When a "Platform" column is present only Maven versions are added.
+     *
+     * @return number of added versions
+     */
+    public long readCsv(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return 0;
+        }
+
+        List<String> columns = parseCsvLine(header);
+        int platform = columns.indexOf(PLATFORM_COLUMN);
+        int name = columns.indexOf(NAME_COLUMN);
+        int number = columns.indexOf(NUMBER_COLUMN);
+        int published = columns.indexOf(PUBLISHED_COLUMN);
+        if (name < 0 || number < 0 || published < 0) {
+            throw new IOException(String.format("Missing one of the columns \"%s\", \"%s\" or \"%s\"",
+                    NAME_COLUMN, NUMBER_COLUMN, PUBLISHED_COLUMN));
+        }
+
+        long count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            List<String> values = parseCsvLine(line);
+            if (values.size() < columns.size()) {
+                continue;
+            }
+            if (platform >= 0 && !values.get(platform).equalsIgnoreCase(VersionIndex.PLATFORM)) {
+                continue;
+            }
+
+            LocalDateTime date = parseTimestamp(values.get(published));
+            if (date == null) {
+                continue;
+            }
+
+            add(values.get(name), values.get(number), date);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Read projects in the format of the libraries.io project api, one json object per line.
+     *
+     * @return number of added projects
+     */
+    public long readJsonLines(BufferedReader reader) throws IOException {
+        long count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            Project project = Project.fromJson(line);
+            if (project != null && project.getName() != null) {
+                add(project);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public void write(File file) throws IOException {
+        List<byte[]> names = new ArrayList<>();
+        Map<byte[], Map<String, Long>> versionsByName = new HashMap<>();
+        for (Map.Entry<String, Map<String, Long>> entry : projects.entrySet()) {
+            byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            versionsByName.put(name, entry.getValue());
+        }
+        names.sort(VersionIndexWriter::compare);
+
+        List<byte[]> numbers = new ArrayList<>();
+        List<Long> published = new ArrayList<>();
+        int[] versionStarts = new int[names.size() + 1];
+        for (int p = 0; p < names.size(); p++) {
+            versionStarts[p] = numbers.size();
+
+            List<Map.Entry<String, Long>> versions = new ArrayList<>(versionsByName.get(names.get(p)).entrySet());
+            versions.sort(Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+            for (Map.Entry<String, Long> version : versions) {
+                numbers.add(version.getKey().getBytes(StandardCharsets.UTF_8));
+                published.add(version.getValue());
+            }
+        }
+        versionStarts[names.size()] = numbers.size();
+
+        long nameDataSize = names.stream().mapToLong(n -> n.length).sum();
+        long numberDataSize = numbers.stream().mapToLong(n -> n.length).sum();
+        long size = VersionIndex.HEADER_SIZE + published.size() * 8L + (names.size() + 1) * 8L
+                + (numbers.size() + 1) * 4L + nameDataSize + numberDataSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many versions for a version index");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+            out.write(VersionIndex.MAGIC);
+            out.writeInt(VersionIndex.VERSION);
+            out.writeInt(names.size());
+            out.writeInt(numbers.size());
+            out.writeInt((int) nameDataSize);
+            out.writeInt((int) numberDataSize);
+
+            for (long date : published) {
+                out.writeLong(date);
+            }
+            writeOffsets(out, names);
+            for (int start : versionStarts) {
+                out.writeInt(start);
+            }
+            writeOffsets(out, numbers);
+
+            for (byte[] name : names) {
+                out.write(name);
+            }
+            for (byte[] number : numbers) {
+                out.write(number);
+            }
+        }
+    }
+
+    private static void writeOffsets(DataOutputStream out, List<byte[]> values) throws IOException {
+        int offset = 0;
+        for (byte[] value : values) {
+            out.writeInt(offset);
+            offset += value.length;
+        }
+        out.writeInt(offset);
+    }
+
+    /**
+     * Compare as unsigned bytes, the order used to search the index.
+     */
+    static int compare(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            int compare = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+
+        return Integer.compare(a.length, b.length);
+    }
+
+    /**
+     * Parse ISO timestamps like the api returns and "2014-12-04 16:17:00 UTC" like the dumps contain.
+     *
+     * @return the timestamp in UTC or null when it is empty or can not be parsed
+     */
+    static LocalDateTime parseTimestamp(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return ZonedDateTime.parse(value).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // Not ISO, try the dump format
+        }
+
+        try {
+            return LocalDateTime.parse(value.replace(" UTC", "").trim().replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Split a csv line on commas, fields can be quoted with double quotes and contain escaped quotes.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -4,8 +4,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import nl.wvdzwan.lapp.protobuf.Lapp;
 import nl.wvdzwan.lapp.protobuf.Lapp.Method;
@@ -13,10 +17,23 @@ import nl.wvdzwan.lapp.protobuf.Lapp.Package;
 
 public class LappPackageMerger {
 
+    private final int threads;
+
     private Package.Builder builder = Package.newBuilder();
     private List<Package> toMerge = new ArrayList<>();
     private Map<String, Method> resolvedMethodMap = new HashMap<>();
 
+    public LappPackageMerger() {
+        this(1);
+    }
+
+    /**
+     * @param threads number of threads used to index and resolve packages, the result does not depend on it
+     */
+    public LappPackageMerger(int threads) {
+        this.threads = Math.max(threads, 1);
+    }
+
     public LappPackageMerger add(Package lappPackage) {
         // Only add to work list
         // Wait with merging until we have all resolved methods
@@ -26,6 +43,9 @@ public class LappPackageMerger {
     }
 
     public Package merge() {
+        if (threads > 1) {
+            return mergeParallel();
+        }
 
         // Combine all facts and resolved things
         for (Package p : toMerge) {
@@ -34,23 +54,7 @@ public class LappPackageMerger {
                     .addAllResolvedCalls(p.getResolvedCallsList())
                     .addAllClassRecords(p.getClassRecordsList());
 
-            resolvedMethodMap.putAll(
-                    p.getClassRecordsList()
-                            .stream()
-                            .flatMap(classRecord -> classRecord.getMethodsList().stream()
-                                    .map(m -> Method.newBuilder()
-                                                    .setArtifact(classRecord.getPackage())
-                                                .setNamespace(classRecord.getName())
-                                            .setSymbol(m)
-                                            .build()
-                                    )
-                            )
-                            .collect(
-                                    Collectors.toMap(
-                                            LappPackageMerger::methodToMethodKey,
-                                            Function.identity()
-                                    ))
-            );
+            resolvedMethodMap.putAll(methodMap(p));
         }
 
         // resolve unresolvedCalls/ChaRelations
@@ -61,6 +65,106 @@ public class LappPackageMerger {
         return builder.build();
     }
 
+    /**
+     * Same result as the sequential merge. Phase one indexes the methods of all packages concurrently, for methods
+     * declared in more than one package the last package wins like it does in the sequential merge. Phase two resolves
+     * the calls of every package concurrently, results are added in the order of the packages.
+     */
+    private Package mergeParallel() {
+        ConcurrentHashMap<String, IndexedMethod> index = new ConcurrentHashMap<>();
+
+        List<Resolution> results;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> IntStream.range(0, toMerge.size()).parallel().forEach(i ->
+                    methodMap(toMerge.get(i)).forEach((key, method) ->
+                            index.merge(key, new IndexedMethod(i, method), IndexedMethod::last)))
+            ).get();
+
+            index.forEach((key, indexed) -> resolvedMethodMap.put(key, indexed.method));
+
+            results = pool.submit(() -> toMerge.parallelStream()
+                    .map(p -> resolve(p.getUnresolvedCallsList(), resolvedMethodMap))
+                    .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Merge interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Package p : toMerge) {
+            builder
+                    .addAllArtifacts(p.getArtifactsList())
+                    .addAllResolvedCalls(p.getResolvedCallsList())
+                    .addAllClassRecords(p.getClassRecordsList());
+        }
+
+        for (Resolution resolution : results) {
+            builder
+                    .addAllResolvedCalls(resolution.resolvedCalls)
+                    .addAllUnresolvedCalls(resolution.unresolvedCalls);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Add the packages of this merger to an already merged package without merging all packages again.
+     *
+     * <p>The added packages are merged first. Their unresolved calls are then resolved against the methods of both
+     * the merged package and the added packages, and unresolved calls of the merged package are resolved against the
+     * methods of the added packages. For methods declared in both, the added packages win. Calls that were already
+     * resolved in the merged package are kept as they are.</p>
+     *
+     * @param merged result of an earlier merge
+     * @return merged package including the added packages
+     */
+    public Package mergeInto(Package merged) {
+        Package addition = merge();
+        Map<String, Method> additionMethods = resolvedMethodMap;
+
+        Map<String, Method> index = mergedMethodMap(merged);
+        index.putAll(additionMethods);
+
+        Package.Builder result = merged.toBuilder()
+                .clearUnresolvedCalls()
+                .addAllArtifacts(addition.getArtifactsList())
+                .addAllClassRecords(addition.getClassRecordsList())
+                .addAllResolvedCalls(addition.getResolvedCallsList());
+
+        Resolution existing = resolve(merged.getUnresolvedCallsList(), additionMethods);
+        Resolution added = resolve(addition.getUnresolvedCallsList(), index);
+
+        return result
+                .addAllResolvedCalls(existing.resolvedCalls)
+                .addAllResolvedCalls(added.resolvedCalls)
+                .addAllUnresolvedCalls(existing.unresolvedCalls)
+                .addAllUnresolvedCalls(added.unresolvedCalls)
+                .build();
+    }
+
+    private static Resolution resolve(List<Lapp.Call> unresolvedCalls, Map<String, Method> methods) {
+        Resolution resolution = new Resolution();
+
+        for (Lapp.Call call : unresolvedCalls) {
+            Lapp.Method resolvedMethod = methods.get(methodToMethodKey(call.getTarget()));
+
+            if (resolvedMethod != null) {
+                resolution.resolvedCalls.add(Lapp.Call.newBuilder(call).setTarget(resolvedMethod).build());
+            } else {
+                resolution.unresolvedCalls.add(call);
+            }
+        }
+
+        return resolution;
+    }
 
     public void resolveCalls(List<Lapp.Call> unresolvedCalls) {
         for (Lapp.Call call : unresolvedCalls) {
@@ -76,8 +180,65 @@ public class LappPackageMerger {
         }
     }
 
+    private static Map<String, Method> methodMap(Package p) {
+        return p.getClassRecordsList()
+                .stream()
+                .flatMap(classRecord -> classRecord.getMethodsList().stream()
+                        .map(m -> Method.newBuilder()
+                                .setArtifact(classRecord.getPackage())
+                                .setNamespace(classRecord.getName())
+                                .setSymbol(m)
+                                .build()
+                        )
+                )
+                .collect(
+                        Collectors.toMap(
+                                LappPackageMerger::methodToMethodKey,
+                                Function.identity()
+                        ));
+    }
+
+    /**
+     * Methods of a package that is the result of a merge, classes can be part of more than one artifact and the last
+     * artifact wins like it does while merging.
+     */
+    private static Map<String, Method> mergedMethodMap(Package p) {
+        Map<String, Method> methods = new HashMap<>();
+
+        for (Lapp.ClassRecord classRecord : p.getClassRecordsList()) {
+            for (String m : classRecord.getMethodsList()) {
+                Method method = Method.newBuilder()
+                        .setArtifact(classRecord.getPackage())
+                        .setNamespace(classRecord.getName())
+                        .setSymbol(m)
+                        .build();
+                methods.put(methodToMethodKey(method), method);
+            }
+        }
+
+        return methods;
+    }
+
     static String methodToMethodKey(Lapp.Method method) {
         return method.getNamespace() + ":" + method.getSymbol();
     }
 
+    private static class IndexedMethod {
+        final int packageIndex;
+        final Method method;
+
+        IndexedMethod(int packageIndex, Method method) {
+            this.packageIndex = packageIndex;
+            this.method = method;
+        }
+
+        static IndexedMethod last(IndexedMethod a, IndexedMethod b) {
+            return a.packageIndex > b.packageIndex ? a : b;
+        }
+    }
+
+    private static class Resolution {
+        final List<Lapp.Call> resolvedCalls = new ArrayList<>();
+        final List<Lapp.Call> unresolvedCalls = new ArrayList<>();
+    }
 }
@@ -1,8 +1,10 @@
 package nl.wvdzwan.lapp.merge;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
@@ -11,7 +13,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
 
+import nl.wvdzwan.lapp.columnar.ColumnarStoreWriter;
 import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
 
 @CommandLine.Command(
         name = "merge",
@@ -23,10 +27,28 @@ public class MergeMain implements Callable<Void> {
     @CommandLine.Parameters(
             index = "0",
             paramLabel = "Output file",
-            description = "File to save merge result"
+            description = "File to save merge result, with --into the merged file to add the other files to"
     )
     private File output;
 
+    @CommandLine.Option(
+            names = {"--columnar"},
+            description = "Save the merge result as a memory mapped columnar store"
+    )
+    private boolean columnar = false;
+
+    @CommandLine.Option(
+            names = {"--into"},
+            description = "Add the files to the existing merge result in the output file instead of merging only the files"
+    )
+    private boolean into = false;
+
+    @CommandLine.Option(
+            names = {"-t", "--threads"},
+            description = "Number of threads used to merge, defaults to the number of processors"
+    )
+    private int threads = Runtime.getRuntime().availableProcessors();
+
     @CommandLine.Parameters(
             index = "1..*",
             arity = "0..*",
@@ -37,7 +59,7 @@ public class MergeMain implements Callable<Void> {
 
     public Void call() throws Exception {
 
-        LappPackageMerger merger = new LappPackageMerger();
+        LappPackageMerger merger = new LappPackageMerger(threads);
 
         for(String file : files) {
             File f = new File(file);
@@ -46,17 +68,33 @@ public class MergeMain implements Callable<Void> {
                 continue;
             }
 
-            Lapp.Package lappPackage =
-                    Lapp.Package.parseFrom(new FileInputStream(file));
+            Lapp.Package lappPackage = LappStreamReader.readPackage(f);
             printPackageStatistics(lappPackage);
             merger.add(lappPackage);
         }
 
 
 
-        Lapp.Package newPackage = merger.merge();
+        Lapp.Package newPackage;
+        if (into && output.isFile()) {
+            Lapp.Package merged = LappStreamReader.readPackage(output);
+            printPackageStatistics(merged);
+
+            newPackage = merger.mergeInto(merged);
+        } else {
+            newPackage = merger.merge();
+        }
 
-        newPackage.writeTo(new FileOutputStream(output));
+        // The output can be one of the inputs, only replace it when the result is complete
+        File tempOutput = new File(output.getPath() + ".tmp");
+        if (columnar) {
+            ColumnarStoreWriter.write(newPackage, tempOutput);
+        } else {
+            try (OutputStream outputStream = new FileOutputStream(tempOutput)) {
+                newPackage.writeTo(outputStream);
+            }
+        }
+        Files.move(tempOutput.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
 
         printPackageStatistics(newPackage);
 
@@ -6638,6 +6638,7550 @@ public final class Lapp {
 
   }
 
+  public interface HeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.Header)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 version = 1;</code>
+     */
+    int getVersion();
+
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+    int getMetadataCount();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+    boolean containsMetadata(
+        java.lang.String key);
+    /**
+     * Use {@link #getMetadataMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMetadata();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMetadataMap();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    java.lang.String getMetadataOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue);
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    java.lang.String getMetadataOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * Streamed lapp file: a length delimited Record per message, the first record is a Header.
+   * See LappStreamWriter for the layout of the file.
+   * </pre>
+   *
+   * Protobuf type {@code lapp.Header}
+   */
+  public  static final class Header extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.Header)
+      HeaderOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Header.newBuilder() to construct.
+    private Header(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Header() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Header(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              version_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                metadata_ = com.google.protobuf.MapField.newMapField(
+                    MetadataDefaultEntryHolder.defaultEntry);
+                mutable_bitField0_ |= 0x00000002;
+              }
+              com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+              metadata__ = input.readMessage(
+                  MetadataDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+              metadata_.getMutableMap().put(
+                  metadata__.getKey(), metadata__.getValue());
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetMetadata();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.Header.class, nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <code>int32 version = 1;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int METADATA_FIELD_NUMBER = 2;
+    private static final class MetadataDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_MetadataEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> metadata_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMetadata() {
+      if (metadata_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MetadataDefaultEntryHolder.defaultEntry);
+      }
+      return metadata_;
+    }
+
+    public int getMetadataCount() {
+      return internalGetMetadata().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    public boolean containsMetadata(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetMetadata().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMetadataMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMetadata() {
+      return getMetadataMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getMetadataMap() {
+      return internalGetMetadata().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    public java.lang.String getMetadataOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetadata().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 2;</code>
+     */
+
+    public java.lang.String getMetadataOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetadata().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (version_ != 0) {
+        output.writeInt32(1, version_);
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMetadata(),
+          MetadataDefaultEntryHolder.defaultEntry,
+          2);
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (version_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, version_);
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMetadata().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        metadata__ = MetadataDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, metadata__);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.Header)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.Header other = (nl.wvdzwan.lapp.protobuf.Lapp.Header) obj;
+
+      if (getVersion()
+          != other.getVersion()) return false;
+      if (!internalGetMetadata().equals(
+          other.internalGetMetadata())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion();
+      if (!internalGetMetadata().getMap().isEmpty()) {
+        hash = (37 * hash) + METADATA_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMetadata().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.Header prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Streamed lapp file: a length delimited Record per message, the first record is a Header.
+     * See LappStreamWriter for the layout of the file.
+     * </pre>
+     *
+     * Protobuf type {@code lapp.Header}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.Header)
+        nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetMetadata();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 2:
+            return internalGetMutableMetadata();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.Header.class, nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.Header.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+
+        internalGetMutableMetadata().clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Header_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Header getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Header build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.Header result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Header buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.Header result = new nl.wvdzwan.lapp.protobuf.Lapp.Header(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.version_ = version_;
+        result.metadata_ = internalGetMetadata();
+        result.metadata_.makeImmutable();
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.Header) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Header)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.Header other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance()) return this;
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
+        }
+        internalGetMutableMetadata().mergeFrom(
+            other.internalGetMetadata());
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.Header parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.Header) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>int32 version = 1;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>int32 version = 1;</code>
+       */
+      public Builder setVersion(int value) {
+        
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 version = 1;</code>
+       */
+      public Builder clearVersion() {
+        
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> metadata_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetMetadata() {
+        if (metadata_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MetadataDefaultEntryHolder.defaultEntry);
+        }
+        return metadata_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetMutableMetadata() {
+        onChanged();;
+        if (metadata_ == null) {
+          metadata_ = com.google.protobuf.MapField.newMapField(
+              MetadataDefaultEntryHolder.defaultEntry);
+        }
+        if (!metadata_.isMutable()) {
+          metadata_ = metadata_.copy();
+        }
+        return metadata_;
+      }
+
+      public int getMetadataCount() {
+        return internalGetMetadata().getMap().size();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public boolean containsMetadata(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        return internalGetMetadata().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMetadataMap()} instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMetadata() {
+        return getMetadataMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public java.util.Map<java.lang.String, java.lang.String> getMetadataMap() {
+        return internalGetMetadata().getMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public java.lang.String getMetadataOrDefault(
+          java.lang.String key,
+          java.lang.String defaultValue) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMetadata().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public java.lang.String getMetadataOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMetadata().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+
+      public Builder clearMetadata() {
+        internalGetMutableMetadata().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public Builder removeMetadata(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableMetadata().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+      getMutableMetadata() {
+        return internalGetMutableMetadata().getMutableMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+      public Builder putMetadata(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (value == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableMetadata().getMutableMap()
+            .put(key, value);
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 2;</code>
+       */
+
+      public Builder putAllMetadata(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMetadata().getMutableMap()
+            .putAll(values);
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.Header)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.Header)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.Header DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.Header();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Header getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Header>
+        PARSER = new com.google.protobuf.AbstractParser<Header>() {
+      @java.lang.Override
+      public Header parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Header(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Header> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Header> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.Header getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.Record)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    boolean hasHeader();
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Header getHeader();
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    boolean hasArtifact();
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifact();
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactOrBuilder();
+
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    boolean hasClassRecord();
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord getClassRecord();
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder getClassRecordOrBuilder();
+
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    boolean hasResolvedCall();
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Call getResolvedCall();
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getResolvedCallOrBuilder();
+
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    boolean hasUnresolvedCall();
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Call getUnresolvedCall();
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getUnresolvedCallOrBuilder();
+
+    public nl.wvdzwan.lapp.protobuf.Lapp.Record.RecordCase getRecordCase();
+  }
+  /**
+   * Protobuf type {@code lapp.Record}
+   */
+  public  static final class Record extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.Record)
+      RecordOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Record.newBuilder() to construct.
+    private Record(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Record() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Record(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder subBuilder = null;
+              if (recordCase_ == 1) {
+                subBuilder = ((nl.wvdzwan.lapp.protobuf.Lapp.Header) record_).toBuilder();
+              }
+              record_ =
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.Header.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Header) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 1;
+              break;
+            }
+            case 18: {
+              nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder subBuilder = null;
+              if (recordCase_ == 2) {
+                subBuilder = ((nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_).toBuilder();
+              }
+              record_ =
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.Artifact.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 2;
+              break;
+            }
+            case 26: {
+              nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder subBuilder = null;
+              if (recordCase_ == 3) {
+                subBuilder = ((nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_).toBuilder();
+              }
+              record_ =
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 3;
+              break;
+            }
+            case 34: {
+              nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder subBuilder = null;
+              if (recordCase_ == 4) {
+                subBuilder = ((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_).toBuilder();
+              }
+              record_ =
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.Call.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 4;
+              break;
+            }
+            case 42: {
+              nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder subBuilder = null;
+              if (recordCase_ == 5) {
+                subBuilder = ((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_).toBuilder();
+              }
+              record_ =
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.Call.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 5;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Record_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Record_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.Record.class, nl.wvdzwan.lapp.protobuf.Lapp.Record.Builder.class);
+    }
+
+    private int recordCase_ = 0;
+    private java.lang.Object record_;
+    public enum RecordCase
+        implements com.google.protobuf.Internal.EnumLite {
+      HEADER(1),
+      ARTIFACT(2),
+      CLASSRECORD(3),
+      RESOLVEDCALL(4),
+      UNRESOLVEDCALL(5),
+      RECORD_NOT_SET(0);
+      private final int value;
+      private RecordCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static RecordCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static RecordCase forNumber(int value) {
+        switch (value) {
+          case 1: return HEADER;
+          case 2: return ARTIFACT;
+          case 3: return CLASSRECORD;
+          case 4: return RESOLVEDCALL;
+          case 5: return UNRESOLVEDCALL;
+          case 0: return RECORD_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public RecordCase
+    getRecordCase() {
+      return RecordCase.forNumber(
+          recordCase_);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    public boolean hasHeader() {
+      return recordCase_ == 1;
+    }
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Header getHeader() {
+      if (recordCase_ == 1) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+    }
+    /**
+     * <code>.lapp.Header header = 1;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder getHeaderOrBuilder() {
+      if (recordCase_ == 1) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+    }
+
+    public static final int ARTIFACT_FIELD_NUMBER = 2;
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    public boolean hasArtifact() {
+      return recordCase_ == 2;
+    }
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifact() {
+      if (recordCase_ == 2) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+    }
+    /**
+     * <code>.lapp.Artifact artifact = 2;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactOrBuilder() {
+      if (recordCase_ == 2) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+    }
+
+    public static final int CLASSRECORD_FIELD_NUMBER = 3;
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    public boolean hasClassRecord() {
+      return recordCase_ == 3;
+    }
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord getClassRecord() {
+      if (recordCase_ == 3) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+    }
+    /**
+     * <code>.lapp.ClassRecord classRecord = 3;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder getClassRecordOrBuilder() {
+      if (recordCase_ == 3) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+    }
+
+    public static final int RESOLVEDCALL_FIELD_NUMBER = 4;
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    public boolean hasResolvedCall() {
+      return recordCase_ == 4;
+    }
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Call getResolvedCall() {
+      if (recordCase_ == 4) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+    }
+    /**
+     * <code>.lapp.Call resolvedCall = 4;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getResolvedCallOrBuilder() {
+      if (recordCase_ == 4) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+    }
+
+    public static final int UNRESOLVEDCALL_FIELD_NUMBER = 5;
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    public boolean hasUnresolvedCall() {
+      return recordCase_ == 5;
+    }
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Call getUnresolvedCall() {
+      if (recordCase_ == 5) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+    }
+    /**
+     * <code>.lapp.Call unresolvedCall = 5;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getUnresolvedCallOrBuilder() {
+      if (recordCase_ == 5) {
+         return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+      }
+      return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (recordCase_ == 1) {
+        output.writeMessage(1, (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_);
+      }
+      if (recordCase_ == 2) {
+        output.writeMessage(2, (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_);
+      }
+      if (recordCase_ == 3) {
+        output.writeMessage(3, (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_);
+      }
+      if (recordCase_ == 4) {
+        output.writeMessage(4, (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+      }
+      if (recordCase_ == 5) {
+        output.writeMessage(5, (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (recordCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_);
+      }
+      if (recordCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_);
+      }
+      if (recordCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_);
+      }
+      if (recordCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+      }
+      if (recordCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.Record)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.Record other = (nl.wvdzwan.lapp.protobuf.Lapp.Record) obj;
+
+      if (!getRecordCase().equals(other.getRecordCase())) return false;
+      switch (recordCase_) {
+        case 1:
+          if (!getHeader()
+              .equals(other.getHeader())) return false;
+          break;
+        case 2:
+          if (!getArtifact()
+              .equals(other.getArtifact())) return false;
+          break;
+        case 3:
+          if (!getClassRecord()
+              .equals(other.getClassRecord())) return false;
+          break;
+        case 4:
+          if (!getResolvedCall()
+              .equals(other.getResolvedCall())) return false;
+          break;
+        case 5:
+          if (!getUnresolvedCall()
+              .equals(other.getUnresolvedCall())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (recordCase_) {
+        case 1:
+          hash = (37 * hash) + HEADER_FIELD_NUMBER;
+          hash = (53 * hash) + getHeader().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + ARTIFACT_FIELD_NUMBER;
+          hash = (53 * hash) + getArtifact().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + CLASSRECORD_FIELD_NUMBER;
+          hash = (53 * hash) + getClassRecord().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + RESOLVEDCALL_FIELD_NUMBER;
+          hash = (53 * hash) + getResolvedCall().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + UNRESOLVEDCALL_FIELD_NUMBER;
+          hash = (53 * hash) + getUnresolvedCall().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.Record prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code lapp.Record}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.Record)
+        nl.wvdzwan.lapp.protobuf.Lapp.RecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Record_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Record_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.Record.class, nl.wvdzwan.lapp.protobuf.Lapp.Record.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.Record.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        recordCase_ = 0;
+        record_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_Record_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Record getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.Record.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Record build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.Record result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.Record buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.Record result = new nl.wvdzwan.lapp.protobuf.Lapp.Record(this);
+        if (recordCase_ == 1) {
+          if (headerBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = headerBuilder_.build();
+          }
+        }
+        if (recordCase_ == 2) {
+          if (artifactBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = artifactBuilder_.build();
+          }
+        }
+        if (recordCase_ == 3) {
+          if (classRecordBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = classRecordBuilder_.build();
+          }
+        }
+        if (recordCase_ == 4) {
+          if (resolvedCallBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = resolvedCallBuilder_.build();
+          }
+        }
+        if (recordCase_ == 5) {
+          if (unresolvedCallBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = unresolvedCallBuilder_.build();
+          }
+        }
+        result.recordCase_ = recordCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.Record) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.Record)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.Record other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.Record.getDefaultInstance()) return this;
+        switch (other.getRecordCase()) {
+          case HEADER: {
+            mergeHeader(other.getHeader());
+            break;
+          }
+          case ARTIFACT: {
+            mergeArtifact(other.getArtifact());
+            break;
+          }
+          case CLASSRECORD: {
+            mergeClassRecord(other.getClassRecord());
+            break;
+          }
+          case RESOLVEDCALL: {
+            mergeResolvedCall(other.getResolvedCall());
+            break;
+          }
+          case UNRESOLVEDCALL: {
+            mergeUnresolvedCall(other.getUnresolvedCall());
+            break;
+          }
+          case RECORD_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.Record parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.Record) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int recordCase_ = 0;
+      private java.lang.Object record_;
+      public RecordCase
+          getRecordCase() {
+        return RecordCase.forNumber(
+            recordCase_);
+      }
+
+      public Builder clearRecord() {
+        recordCase_ = 0;
+        record_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Header, nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder, nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public boolean hasHeader() {
+        return recordCase_ == 1;
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Header getHeader() {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+        } else {
+          if (recordCase_ == 1) {
+            return headerBuilder_.getMessage();
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public Builder setHeader(nl.wvdzwan.lapp.protobuf.Lapp.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public Builder setHeader(
+          nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public Builder mergeHeader(nl.wvdzwan.lapp.protobuf.Lapp.Header value) {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1 &&
+              record_ != nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance()) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Header.newBuilder((nl.wvdzwan.lapp.protobuf.Lapp.Header) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 1) {
+            headerBuilder_.mergeFrom(value);
+          }
+          headerBuilder_.setMessage(value);
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 1) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          headerBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder getHeaderBuilder() {
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder getHeaderOrBuilder() {
+        if ((recordCase_ == 1) && (headerBuilder_ != null)) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 1) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Header, nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder, nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          if (!(recordCase_ == 1)) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Header.getDefaultInstance();
+          }
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.Header, nl.wvdzwan.lapp.protobuf.Lapp.Header.Builder, nl.wvdzwan.lapp.protobuf.Lapp.HeaderOrBuilder>(
+                  (nl.wvdzwan.lapp.protobuf.Lapp.Header) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 1;
+        onChanged();;
+        return headerBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> artifactBuilder_;
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public boolean hasArtifact() {
+        return recordCase_ == 2;
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifact() {
+        if (artifactBuilder_ == null) {
+          if (recordCase_ == 2) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+        } else {
+          if (recordCase_ == 2) {
+            return artifactBuilder_.getMessage();
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public Builder setArtifact(nl.wvdzwan.lapp.protobuf.Lapp.Artifact value) {
+        if (artifactBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          artifactBuilder_.setMessage(value);
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public Builder setArtifact(
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder builderForValue) {
+        if (artifactBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          artifactBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public Builder mergeArtifact(nl.wvdzwan.lapp.protobuf.Lapp.Artifact value) {
+        if (artifactBuilder_ == null) {
+          if (recordCase_ == 2 &&
+              record_ != nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance()) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Artifact.newBuilder((nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 2) {
+            artifactBuilder_.mergeFrom(value);
+          }
+          artifactBuilder_.setMessage(value);
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public Builder clearArtifact() {
+        if (artifactBuilder_ == null) {
+          if (recordCase_ == 2) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 2) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          artifactBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder getArtifactBuilder() {
+        return getArtifactFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactOrBuilder() {
+        if ((recordCase_ == 2) && (artifactBuilder_ != null)) {
+          return artifactBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 2) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Artifact artifact = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> 
+          getArtifactFieldBuilder() {
+        if (artifactBuilder_ == null) {
+          if (!(recordCase_ == 2)) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance();
+          }
+          artifactBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder>(
+                  (nl.wvdzwan.lapp.protobuf.Lapp.Artifact) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 2;
+        onChanged();;
+        return artifactBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder> classRecordBuilder_;
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public boolean hasClassRecord() {
+        return recordCase_ == 3;
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord getClassRecord() {
+        if (classRecordBuilder_ == null) {
+          if (recordCase_ == 3) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+        } else {
+          if (recordCase_ == 3) {
+            return classRecordBuilder_.getMessage();
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public Builder setClassRecord(nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord value) {
+        if (classRecordBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          classRecordBuilder_.setMessage(value);
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public Builder setClassRecord(
+          nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder builderForValue) {
+        if (classRecordBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          classRecordBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public Builder mergeClassRecord(nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord value) {
+        if (classRecordBuilder_ == null) {
+          if (recordCase_ == 3 &&
+              record_ != nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance()) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.newBuilder((nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 3) {
+            classRecordBuilder_.mergeFrom(value);
+          }
+          classRecordBuilder_.setMessage(value);
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public Builder clearClassRecord() {
+        if (classRecordBuilder_ == null) {
+          if (recordCase_ == 3) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 3) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          classRecordBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder getClassRecordBuilder() {
+        return getClassRecordFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder getClassRecordOrBuilder() {
+        if ((recordCase_ == 3) && (classRecordBuilder_ != null)) {
+          return classRecordBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 3) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.ClassRecord classRecord = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder> 
+          getClassRecordFieldBuilder() {
+        if (classRecordBuilder_ == null) {
+          if (!(recordCase_ == 3)) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.getDefaultInstance();
+          }
+          classRecordBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ClassRecordOrBuilder>(
+                  (nl.wvdzwan.lapp.protobuf.Lapp.ClassRecord) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 3;
+        onChanged();;
+        return classRecordBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder> resolvedCallBuilder_;
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public boolean hasResolvedCall() {
+        return recordCase_ == 4;
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Call getResolvedCall() {
+        if (resolvedCallBuilder_ == null) {
+          if (recordCase_ == 4) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        } else {
+          if (recordCase_ == 4) {
+            return resolvedCallBuilder_.getMessage();
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public Builder setResolvedCall(nl.wvdzwan.lapp.protobuf.Lapp.Call value) {
+        if (resolvedCallBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          resolvedCallBuilder_.setMessage(value);
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public Builder setResolvedCall(
+          nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder builderForValue) {
+        if (resolvedCallBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          resolvedCallBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public Builder mergeResolvedCall(nl.wvdzwan.lapp.protobuf.Lapp.Call value) {
+        if (resolvedCallBuilder_ == null) {
+          if (recordCase_ == 4 &&
+              record_ != nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance()) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Call.newBuilder((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 4) {
+            resolvedCallBuilder_.mergeFrom(value);
+          }
+          resolvedCallBuilder_.setMessage(value);
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public Builder clearResolvedCall() {
+        if (resolvedCallBuilder_ == null) {
+          if (recordCase_ == 4) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 4) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          resolvedCallBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder getResolvedCallBuilder() {
+        return getResolvedCallFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getResolvedCallOrBuilder() {
+        if ((recordCase_ == 4) && (resolvedCallBuilder_ != null)) {
+          return resolvedCallBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 4) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Call resolvedCall = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder> 
+          getResolvedCallFieldBuilder() {
+        if (resolvedCallBuilder_ == null) {
+          if (!(recordCase_ == 4)) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+          }
+          resolvedCallBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder>(
+                  (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 4;
+        onChanged();;
+        return resolvedCallBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder> unresolvedCallBuilder_;
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public boolean hasUnresolvedCall() {
+        return recordCase_ == 5;
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Call getUnresolvedCall() {
+        if (unresolvedCallBuilder_ == null) {
+          if (recordCase_ == 5) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        } else {
+          if (recordCase_ == 5) {
+            return unresolvedCallBuilder_.getMessage();
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public Builder setUnresolvedCall(nl.wvdzwan.lapp.protobuf.Lapp.Call value) {
+        if (unresolvedCallBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          unresolvedCallBuilder_.setMessage(value);
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public Builder setUnresolvedCall(
+          nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder builderForValue) {
+        if (unresolvedCallBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          unresolvedCallBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public Builder mergeUnresolvedCall(nl.wvdzwan.lapp.protobuf.Lapp.Call value) {
+        if (unresolvedCallBuilder_ == null) {
+          if (recordCase_ == 5 &&
+              record_ != nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance()) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Call.newBuilder((nl.wvdzwan.lapp.protobuf.Lapp.Call) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 5) {
+            unresolvedCallBuilder_.mergeFrom(value);
+          }
+          unresolvedCallBuilder_.setMessage(value);
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public Builder clearUnresolvedCall() {
+        if (unresolvedCallBuilder_ == null) {
+          if (recordCase_ == 5) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 5) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          unresolvedCallBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder getUnresolvedCallBuilder() {
+        return getUnresolvedCallFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder getUnresolvedCallOrBuilder() {
+        if ((recordCase_ == 5) && (unresolvedCallBuilder_ != null)) {
+          return unresolvedCallBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 5) {
+            return (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_;
+          }
+          return nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.lapp.Call unresolvedCall = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder> 
+          getUnresolvedCallFieldBuilder() {
+        if (unresolvedCallBuilder_ == null) {
+          if (!(recordCase_ == 5)) {
+            record_ = nl.wvdzwan.lapp.protobuf.Lapp.Call.getDefaultInstance();
+          }
+          unresolvedCallBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.Call, nl.wvdzwan.lapp.protobuf.Lapp.Call.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CallOrBuilder>(
+                  (nl.wvdzwan.lapp.protobuf.Lapp.Call) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 5;
+        onChanged();;
+        return unresolvedCallBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.Record)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.Record)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.Record DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.Record();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.Record getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Record>
+        PARSER = new com.google.protobuf.AbstractParser<Record>() {
+      @java.lang.Override
+      public Record parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Record(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Record> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Record> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.Record getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompactMethodOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.CompactMethod)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 namespace = 1;</code>
+     */
+    int getNamespace();
+
+    /**
+     * <code>int32 symbol = 2;</code>
+     */
+    int getSymbol();
+
+    /**
+     * <code>int32 artifact = 3;</code>
+     */
+    int getArtifact();
+  }
+  /**
+   * <pre>
+   * Version 2, compact lapp file: strings and methods are stored once and referenced by their index.
+   * Index 0 of the string table is always the empty string, a method with artifact 0 is unresolved.
+   * </pre>
+   *
+   * Protobuf type {@code lapp.CompactMethod}
+   */
+  public  static final class CompactMethod extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.CompactMethod)
+      CompactMethodOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompactMethod.newBuilder() to construct.
+    private CompactMethod(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompactMethod() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompactMethod(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              namespace_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              symbol_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              artifact_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactMethod_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactMethod_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder.class);
+    }
+
+    public static final int NAMESPACE_FIELD_NUMBER = 1;
+    private int namespace_;
+    /**
+     * <code>int32 namespace = 1;</code>
+     */
+    public int getNamespace() {
+      return namespace_;
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 2;
+    private int symbol_;
+    /**
+     * <code>int32 symbol = 2;</code>
+     */
+    public int getSymbol() {
+      return symbol_;
+    }
+
+    public static final int ARTIFACT_FIELD_NUMBER = 3;
+    private int artifact_;
+    /**
+     * <code>int32 artifact = 3;</code>
+     */
+    public int getArtifact() {
+      return artifact_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (namespace_ != 0) {
+        output.writeInt32(1, namespace_);
+      }
+      if (symbol_ != 0) {
+        output.writeInt32(2, symbol_);
+      }
+      if (artifact_ != 0) {
+        output.writeInt32(3, artifact_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (namespace_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, namespace_);
+      }
+      if (symbol_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, symbol_);
+      }
+      if (artifact_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, artifact_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod other = (nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod) obj;
+
+      if (getNamespace()
+          != other.getNamespace()) return false;
+      if (getSymbol()
+          != other.getSymbol()) return false;
+      if (getArtifact()
+          != other.getArtifact()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAMESPACE_FIELD_NUMBER;
+      hash = (53 * hash) + getNamespace();
+      hash = (37 * hash) + SYMBOL_FIELD_NUMBER;
+      hash = (53 * hash) + getSymbol();
+      hash = (37 * hash) + ARTIFACT_FIELD_NUMBER;
+      hash = (53 * hash) + getArtifact();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Version 2, compact lapp file: strings and methods are stored once and referenced by their index.
+     * Index 0 of the string table is always the empty string, a method with artifact 0 is unresolved.
+     * </pre>
+     *
+     * Protobuf type {@code lapp.CompactMethod}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.CompactMethod)
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactMethod_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactMethod_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        namespace_ = 0;
+
+        symbol_ = 0;
+
+        artifact_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactMethod_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod result = new nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod(this);
+        result.namespace_ = namespace_;
+        result.symbol_ = symbol_;
+        result.artifact_ = artifact_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.getDefaultInstance()) return this;
+        if (other.getNamespace() != 0) {
+          setNamespace(other.getNamespace());
+        }
+        if (other.getSymbol() != 0) {
+          setSymbol(other.getSymbol());
+        }
+        if (other.getArtifact() != 0) {
+          setArtifact(other.getArtifact());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int namespace_ ;
+      /**
+       * <code>int32 namespace = 1;</code>
+       */
+      public int getNamespace() {
+        return namespace_;
+      }
+      /**
+       * <code>int32 namespace = 1;</code>
+       */
+      public Builder setNamespace(int value) {
+        
+        namespace_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 namespace = 1;</code>
+       */
+      public Builder clearNamespace() {
+        
+        namespace_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int symbol_ ;
+      /**
+       * <code>int32 symbol = 2;</code>
+       */
+      public int getSymbol() {
+        return symbol_;
+      }
+      /**
+       * <code>int32 symbol = 2;</code>
+       */
+      public Builder setSymbol(int value) {
+        
+        symbol_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 symbol = 2;</code>
+       */
+      public Builder clearSymbol() {
+        
+        symbol_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int artifact_ ;
+      /**
+       * <code>int32 artifact = 3;</code>
+       */
+      public int getArtifact() {
+        return artifact_;
+      }
+      /**
+       * <code>int32 artifact = 3;</code>
+       */
+      public Builder setArtifact(int value) {
+        
+        artifact_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 artifact = 3;</code>
+       */
+      public Builder clearArtifact() {
+        
+        artifact_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.CompactMethod)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.CompactMethod)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CompactMethod>
+        PARSER = new com.google.protobuf.AbstractParser<CompactMethod>() {
+      @java.lang.Override
+      public CompactMethod parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompactMethod(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompactMethod> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompactMethod> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompactCallOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.CompactCall)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 source = 1;</code>
+     */
+    int getSource();
+
+    /**
+     * <code>int32 target = 2;</code>
+     */
+    int getTarget();
+
+    /**
+     * <code>.lapp.Call.CallType callType = 3;</code>
+     */
+    int getCallTypeValue();
+    /**
+     * <code>.lapp.Call.CallType callType = 3;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType getCallType();
+  }
+  /**
+   * Protobuf type {@code lapp.CompactCall}
+   */
+  public  static final class CompactCall extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.CompactCall)
+      CompactCallOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompactCall.newBuilder() to construct.
+    private CompactCall(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompactCall() {
+      callType_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompactCall(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              source_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              target_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+
+              callType_ = rawValue;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactCall_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactCall_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder.class);
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 1;
+    private int source_;
+    /**
+     * <code>int32 source = 1;</code>
+     */
+    public int getSource() {
+      return source_;
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 2;
+    private int target_;
+    /**
+     * <code>int32 target = 2;</code>
+     */
+    public int getTarget() {
+      return target_;
+    }
+
+    public static final int CALLTYPE_FIELD_NUMBER = 3;
+    private int callType_;
+    /**
+     * <code>.lapp.Call.CallType callType = 3;</code>
+     */
+    public int getCallTypeValue() {
+      return callType_;
+    }
+    /**
+     * <code>.lapp.Call.CallType callType = 3;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType getCallType() {
+      @SuppressWarnings("deprecation")
+      nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType result = nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.valueOf(callType_);
+      return result == null ? nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (source_ != 0) {
+        output.writeInt32(1, source_);
+      }
+      if (target_ != 0) {
+        output.writeInt32(2, target_);
+      }
+      if (callType_ != nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.UNKNOWN.getNumber()) {
+        output.writeEnum(3, callType_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (source_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, source_);
+      }
+      if (target_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, target_);
+      }
+      if (callType_ != nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.UNKNOWN.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, callType_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactCall)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.CompactCall other = (nl.wvdzwan.lapp.protobuf.Lapp.CompactCall) obj;
+
+      if (getSource()
+          != other.getSource()) return false;
+      if (getTarget()
+          != other.getTarget()) return false;
+      if (callType_ != other.callType_) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource();
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget();
+      hash = (37 * hash) + CALLTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + callType_;
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code lapp.CompactCall}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.CompactCall)
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactCall_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactCall_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        source_ = 0;
+
+        target_ = 0;
+
+        callType_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactCall_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactCall result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactCall result = new nl.wvdzwan.lapp.protobuf.Lapp.CompactCall(this);
+        result.source_ = source_;
+        result.target_ = target_;
+        result.callType_ = callType_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactCall) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.CompactCall)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance()) return this;
+        if (other.getSource() != 0) {
+          setSource(other.getSource());
+        }
+        if (other.getTarget() != 0) {
+          setTarget(other.getTarget());
+        }
+        if (other.callType_ != 0) {
+          setCallTypeValue(other.getCallTypeValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactCall parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.CompactCall) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int source_ ;
+      /**
+       * <code>int32 source = 1;</code>
+       */
+      public int getSource() {
+        return source_;
+      }
+      /**
+       * <code>int32 source = 1;</code>
+       */
+      public Builder setSource(int value) {
+        
+        source_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 source = 1;</code>
+       */
+      public Builder clearSource() {
+        
+        source_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int target_ ;
+      /**
+       * <code>int32 target = 2;</code>
+       */
+      public int getTarget() {
+        return target_;
+      }
+      /**
+       * <code>int32 target = 2;</code>
+       */
+      public Builder setTarget(int value) {
+        
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 target = 2;</code>
+       */
+      public Builder clearTarget() {
+        
+        target_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int callType_ = 0;
+      /**
+       * <code>.lapp.Call.CallType callType = 3;</code>
+       */
+      public int getCallTypeValue() {
+        return callType_;
+      }
+      /**
+       * <code>.lapp.Call.CallType callType = 3;</code>
+       */
+      public Builder setCallTypeValue(int value) {
+        callType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.lapp.Call.CallType callType = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType getCallType() {
+        @SuppressWarnings("deprecation")
+        nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType result = nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.valueOf(callType_);
+        return result == null ? nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.lapp.Call.CallType callType = 3;</code>
+       */
+      public Builder setCallType(nl.wvdzwan.lapp.protobuf.Lapp.Call.CallType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        callType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.lapp.Call.CallType callType = 3;</code>
+       */
+      public Builder clearCallType() {
+        
+        callType_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.CompactCall)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.CompactCall)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.CompactCall DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.CompactCall();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CompactCall>
+        PARSER = new com.google.protobuf.AbstractParser<CompactCall>() {
+      @java.lang.Override
+      public CompactCall parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompactCall(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompactCall> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompactCall> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompactClassRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.CompactClassRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 name = 1;</code>
+     */
+    int getName();
+
+    /**
+     * <code>int32 package = 2;</code>
+     */
+    int getPackage();
+
+    /**
+     * <code>int32 superClass = 3;</code>
+     */
+    int getSuperClass();
+
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    java.util.List<java.lang.Integer> getInterfacesList();
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    int getInterfacesCount();
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    int getInterfaces(int index);
+
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    java.util.List<java.lang.Integer> getMethodsList();
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    int getMethodsCount();
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    int getMethods(int index);
+
+    /**
+     * <code>bool public = 6;</code>
+     */
+    boolean getPublic();
+
+    /**
+     * <code>bool private = 7;</code>
+     */
+    boolean getPrivate();
+
+    /**
+     * <code>bool interface = 8;</code>
+     */
+    boolean getInterface();
+
+    /**
+     * <code>bool abstract = 9;</code>
+     */
+    boolean getAbstract();
+  }
+  /**
+   * Protobuf type {@code lapp.CompactClassRecord}
+   */
+  public  static final class CompactClassRecord extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.CompactClassRecord)
+      CompactClassRecordOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompactClassRecord.newBuilder() to construct.
+    private CompactClassRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompactClassRecord() {
+      interfaces_ = emptyIntList();
+      methods_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompactClassRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              name_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              package_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              superClass_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                interfaces_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              interfaces_.addInt(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) != 0) && input.getBytesUntilLimit() > 0) {
+                interfaces_ = newIntList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                interfaces_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                methods_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              methods_.addInt(input.readInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                methods_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                methods_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 48: {
+
+              public_ = input.readBool();
+              break;
+            }
+            case 56: {
+
+              private_ = input.readBool();
+              break;
+            }
+            case 64: {
+
+              interface_ = input.readBool();
+              break;
+            }
+            case 72: {
+
+              abstract_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          interfaces_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          methods_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactClassRecord_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactClassRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private int name_;
+    /**
+     * <code>int32 name = 1;</code>
+     */
+    public int getName() {
+      return name_;
+    }
+
+    public static final int PACKAGE_FIELD_NUMBER = 2;
+    private int package_;
+    /**
+     * <code>int32 package = 2;</code>
+     */
+    public int getPackage() {
+      return package_;
+    }
+
+    public static final int SUPERCLASS_FIELD_NUMBER = 3;
+    private int superClass_;
+    /**
+     * <code>int32 superClass = 3;</code>
+     */
+    public int getSuperClass() {
+      return superClass_;
+    }
+
+    public static final int INTERFACES_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList interfaces_;
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getInterfacesList() {
+      return interfaces_;
+    }
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    public int getInterfacesCount() {
+      return interfaces_.size();
+    }
+    /**
+     * <code>repeated int32 interfaces = 4;</code>
+     */
+    public int getInterfaces(int index) {
+      return interfaces_.getInt(index);
+    }
+    private int interfacesMemoizedSerializedSize = -1;
+
+    public static final int METHODS_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.IntList methods_;
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getMethodsList() {
+      return methods_;
+    }
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    public int getMethodsCount() {
+      return methods_.size();
+    }
+    /**
+     * <code>repeated int32 methods = 5;</code>
+     */
+    public int getMethods(int index) {
+      return methods_.getInt(index);
+    }
+    private int methodsMemoizedSerializedSize = -1;
+
+    public static final int PUBLIC_FIELD_NUMBER = 6;
+    private boolean public_;
+    /**
+     * <code>bool public = 6;</code>
+     */
+    public boolean getPublic() {
+      return public_;
+    }
+
+    public static final int PRIVATE_FIELD_NUMBER = 7;
+    private boolean private_;
+    /**
+     * <code>bool private = 7;</code>
+     */
+    public boolean getPrivate() {
+      return private_;
+    }
+
+    public static final int INTERFACE_FIELD_NUMBER = 8;
+    private boolean interface_;
+    /**
+     * <code>bool interface = 8;</code>
+     */
+    public boolean getInterface() {
+      return interface_;
+    }
+
+    public static final int ABSTRACT_FIELD_NUMBER = 9;
+    private boolean abstract_;
+    /**
+     * <code>bool abstract = 9;</code>
+     */
+    public boolean getAbstract() {
+      return abstract_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (name_ != 0) {
+        output.writeInt32(1, name_);
+      }
+      if (package_ != 0) {
+        output.writeInt32(2, package_);
+      }
+      if (superClass_ != 0) {
+        output.writeInt32(3, superClass_);
+      }
+      if (getInterfacesList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(interfacesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < interfaces_.size(); i++) {
+        output.writeInt32NoTag(interfaces_.getInt(i));
+      }
+      if (getMethodsList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(methodsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < methods_.size(); i++) {
+        output.writeInt32NoTag(methods_.getInt(i));
+      }
+      if (public_ != false) {
+        output.writeBool(6, public_);
+      }
+      if (private_ != false) {
+        output.writeBool(7, private_);
+      }
+      if (interface_ != false) {
+        output.writeBool(8, interface_);
+      }
+      if (abstract_ != false) {
+        output.writeBool(9, abstract_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (name_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, name_);
+      }
+      if (package_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, package_);
+      }
+      if (superClass_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, superClass_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < interfaces_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(interfaces_.getInt(i));
+        }
+        size += dataSize;
+        if (!getInterfacesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        interfacesMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < methods_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(methods_.getInt(i));
+        }
+        size += dataSize;
+        if (!getMethodsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        methodsMemoizedSerializedSize = dataSize;
+      }
+      if (public_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, public_);
+      }
+      if (private_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, private_);
+      }
+      if (interface_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, interface_);
+      }
+      if (abstract_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, abstract_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord other = (nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord) obj;
+
+      if (getName()
+          != other.getName()) return false;
+      if (getPackage()
+          != other.getPackage()) return false;
+      if (getSuperClass()
+          != other.getSuperClass()) return false;
+      if (!getInterfacesList()
+          .equals(other.getInterfacesList())) return false;
+      if (!getMethodsList()
+          .equals(other.getMethodsList())) return false;
+      if (getPublic()
+          != other.getPublic()) return false;
+      if (getPrivate()
+          != other.getPrivate()) return false;
+      if (getInterface()
+          != other.getInterface()) return false;
+      if (getAbstract()
+          != other.getAbstract()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName();
+      hash = (37 * hash) + PACKAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getPackage();
+      hash = (37 * hash) + SUPERCLASS_FIELD_NUMBER;
+      hash = (53 * hash) + getSuperClass();
+      if (getInterfacesCount() > 0) {
+        hash = (37 * hash) + INTERFACES_FIELD_NUMBER;
+        hash = (53 * hash) + getInterfacesList().hashCode();
+      }
+      if (getMethodsCount() > 0) {
+        hash = (37 * hash) + METHODS_FIELD_NUMBER;
+        hash = (53 * hash) + getMethodsList().hashCode();
+      }
+      hash = (37 * hash) + PUBLIC_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPublic());
+      hash = (37 * hash) + PRIVATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPrivate());
+      hash = (37 * hash) + INTERFACE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getInterface());
+      hash = (37 * hash) + ABSTRACT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getAbstract());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code lapp.CompactClassRecord}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.CompactClassRecord)
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactClassRecord_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactClassRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = 0;
+
+        package_ = 0;
+
+        superClass_ = 0;
+
+        interfaces_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        methods_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        public_ = false;
+
+        private_ = false;
+
+        interface_ = false;
+
+        abstract_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactClassRecord_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord result = new nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.name_ = name_;
+        result.package_ = package_;
+        result.superClass_ = superClass_;
+        if (((bitField0_ & 0x00000008) != 0)) {
+          interfaces_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.interfaces_ = interfaces_;
+        if (((bitField0_ & 0x00000010) != 0)) {
+          methods_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.methods_ = methods_;
+        result.public_ = public_;
+        result.private_ = private_;
+        result.interface_ = interface_;
+        result.abstract_ = abstract_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.getDefaultInstance()) return this;
+        if (other.getName() != 0) {
+          setName(other.getName());
+        }
+        if (other.getPackage() != 0) {
+          setPackage(other.getPackage());
+        }
+        if (other.getSuperClass() != 0) {
+          setSuperClass(other.getSuperClass());
+        }
+        if (!other.interfaces_.isEmpty()) {
+          if (interfaces_.isEmpty()) {
+            interfaces_ = other.interfaces_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureInterfacesIsMutable();
+            interfaces_.addAll(other.interfaces_);
+          }
+          onChanged();
+        }
+        if (!other.methods_.isEmpty()) {
+          if (methods_.isEmpty()) {
+            methods_ = other.methods_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureMethodsIsMutable();
+            methods_.addAll(other.methods_);
+          }
+          onChanged();
+        }
+        if (other.getPublic() != false) {
+          setPublic(other.getPublic());
+        }
+        if (other.getPrivate() != false) {
+          setPrivate(other.getPrivate());
+        }
+        if (other.getInterface() != false) {
+          setInterface(other.getInterface());
+        }
+        if (other.getAbstract() != false) {
+          setAbstract(other.getAbstract());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int name_ ;
+      /**
+       * <code>int32 name = 1;</code>
+       */
+      public int getName() {
+        return name_;
+      }
+      /**
+       * <code>int32 name = 1;</code>
+       */
+      public Builder setName(int value) {
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 name = 1;</code>
+       */
+      public Builder clearName() {
+        
+        name_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int package_ ;
+      /**
+       * <code>int32 package = 2;</code>
+       */
+      public int getPackage() {
+        return package_;
+      }
+      /**
+       * <code>int32 package = 2;</code>
+       */
+      public Builder setPackage(int value) {
+        
+        package_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 package = 2;</code>
+       */
+      public Builder clearPackage() {
+        
+        package_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int superClass_ ;
+      /**
+       * <code>int32 superClass = 3;</code>
+       */
+      public int getSuperClass() {
+        return superClass_;
+      }
+      /**
+       * <code>int32 superClass = 3;</code>
+       */
+      public Builder setSuperClass(int value) {
+        
+        superClass_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 superClass = 3;</code>
+       */
+      public Builder clearSuperClass() {
+        
+        superClass_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList interfaces_ = emptyIntList();
+      private void ensureInterfacesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          interfaces_ = mutableCopy(interfaces_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getInterfacesList() {
+        return ((bitField0_ & 0x00000008) != 0) ?
+                 java.util.Collections.unmodifiableList(interfaces_) : interfaces_;
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public int getInterfacesCount() {
+        return interfaces_.size();
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public int getInterfaces(int index) {
+        return interfaces_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public Builder setInterfaces(
+          int index, int value) {
+        ensureInterfacesIsMutable();
+        interfaces_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public Builder addInterfaces(int value) {
+        ensureInterfacesIsMutable();
+        interfaces_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public Builder addAllInterfaces(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureInterfacesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, interfaces_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 interfaces = 4;</code>
+       */
+      public Builder clearInterfaces() {
+        interfaces_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList methods_ = emptyIntList();
+      private void ensureMethodsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          methods_ = mutableCopy(methods_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getMethodsList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(methods_) : methods_;
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public int getMethodsCount() {
+        return methods_.size();
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public int getMethods(int index) {
+        return methods_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public Builder setMethods(
+          int index, int value) {
+        ensureMethodsIsMutable();
+        methods_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public Builder addMethods(int value) {
+        ensureMethodsIsMutable();
+        methods_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public Builder addAllMethods(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMethodsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, methods_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 methods = 5;</code>
+       */
+      public Builder clearMethods() {
+        methods_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private boolean public_ ;
+      /**
+       * <code>bool public = 6;</code>
+       */
+      public boolean getPublic() {
+        return public_;
+      }
+      /**
+       * <code>bool public = 6;</code>
+       */
+      public Builder setPublic(boolean value) {
+        
+        public_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool public = 6;</code>
+       */
+      public Builder clearPublic() {
+        
+        public_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean private_ ;
+      /**
+       * <code>bool private = 7;</code>
+       */
+      public boolean getPrivate() {
+        return private_;
+      }
+      /**
+       * <code>bool private = 7;</code>
+       */
+      public Builder setPrivate(boolean value) {
+        
+        private_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool private = 7;</code>
+       */
+      public Builder clearPrivate() {
+        
+        private_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean interface_ ;
+      /**
+       * <code>bool interface = 8;</code>
+       */
+      public boolean getInterface() {
+        return interface_;
+      }
+      /**
+       * <code>bool interface = 8;</code>
+       */
+      public Builder setInterface(boolean value) {
+        
+        interface_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool interface = 8;</code>
+       */
+      public Builder clearInterface() {
+        
+        interface_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean abstract_ ;
+      /**
+       * <code>bool abstract = 9;</code>
+       */
+      public boolean getAbstract() {
+        return abstract_;
+      }
+      /**
+       * <code>bool abstract = 9;</code>
+       */
+      public Builder setAbstract(boolean value) {
+        
+        abstract_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool abstract = 9;</code>
+       */
+      public Builder clearAbstract() {
+        
+        abstract_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.CompactClassRecord)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.CompactClassRecord)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CompactClassRecord>
+        PARSER = new com.google.protobuf.AbstractParser<CompactClassRecord>() {
+      @java.lang.Override
+      public CompactClassRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompactClassRecord(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompactClassRecord> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompactClassRecord> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CompactPackageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:lapp.CompactPackage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    java.util.List<java.lang.String>
+        getStringsList();
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    int getStringsCount();
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    java.lang.String getStrings(int index);
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getStringsBytes(int index);
+
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> 
+        getMethodsList();
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getMethods(int index);
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    int getMethodsCount();
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder> 
+        getMethodsOrBuilderList();
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder getMethodsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact> 
+        getArtifactsList();
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifacts(int index);
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    int getArtifactsCount();
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> 
+        getArtifactsOrBuilderList();
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> 
+        getClassRecordsList();
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getClassRecords(int index);
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    int getClassRecordsCount();
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder> 
+        getClassRecordsOrBuilderList();
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder getClassRecordsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> 
+        getResolvedCallsList();
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getResolvedCalls(int index);
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    int getResolvedCallsCount();
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+        getResolvedCallsOrBuilderList();
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getResolvedCallsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> 
+        getUnresolvedCallsList();
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getUnresolvedCalls(int index);
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    int getUnresolvedCallsCount();
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+        getUnresolvedCallsOrBuilderList();
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getUnresolvedCallsOrBuilder(
+        int index);
+
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+    int getMetadataCount();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+    boolean containsMetadata(
+        java.lang.String key);
+    /**
+     * Use {@link #getMetadataMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getMetadata();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getMetadataMap();
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    java.lang.String getMetadataOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue);
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    java.lang.String getMetadataOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * Protobuf type {@code lapp.CompactPackage}
+   */
+  public  static final class CompactPackage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:lapp.CompactPackage)
+      CompactPackageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CompactPackage.newBuilder() to construct.
+    private CompactPackage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CompactPackage() {
+      strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      methods_ = java.util.Collections.emptyList();
+      artifacts_ = java.util.Collections.emptyList();
+      classRecords_ = java.util.Collections.emptyList();
+      resolvedCalls_ = java.util.Collections.emptyList();
+      unresolvedCalls_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompactPackage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                strings_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              strings_.add(s);
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                methods_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              methods_.add(
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.parser(), extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                artifacts_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.Artifact>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              artifacts_.add(
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.Artifact.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                classRecords_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              classRecords_.add(
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                resolvedCalls_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              resolvedCalls_.add(
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.parser(), extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                unresolvedCalls_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              unresolvedCalls_.add(
+                  input.readMessage(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.parser(), extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                metadata_ = com.google.protobuf.MapField.newMapField(
+                    MetadataDefaultEntryHolder.defaultEntry);
+                mutable_bitField0_ |= 0x00000040;
+              }
+              com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+              metadata__ = input.readMessage(
+                  MetadataDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+              metadata_.getMutableMap().put(
+                  metadata__.getKey(), metadata__.getValue());
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          strings_ = strings_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          methods_ = java.util.Collections.unmodifiableList(methods_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          artifacts_ = java.util.Collections.unmodifiableList(artifacts_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          classRecords_ = java.util.Collections.unmodifiableList(classRecords_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          resolvedCalls_ = java.util.Collections.unmodifiableList(resolvedCalls_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          unresolvedCalls_ = java.util.Collections.unmodifiableList(unresolvedCalls_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 7:
+          return internalGetMetadata();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.Builder.class);
+    }
+
+    public static final int STRINGS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList strings_;
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getStringsList() {
+      return strings_;
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    public int getStringsCount() {
+      return strings_.size();
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    public java.lang.String getStrings(int index) {
+      return strings_.get(index);
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStringsBytes(int index) {
+      return strings_.getByteString(index);
+    }
+
+    public static final int METHODS_FIELD_NUMBER = 2;
+    private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> methods_;
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> getMethodsList() {
+      return methods_;
+    }
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder> 
+        getMethodsOrBuilderList() {
+      return methods_;
+    }
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    public int getMethodsCount() {
+      return methods_.size();
+    }
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getMethods(int index) {
+      return methods_.get(index);
+    }
+    /**
+     * <code>repeated .lapp.CompactMethod methods = 2;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder getMethodsOrBuilder(
+        int index) {
+      return methods_.get(index);
+    }
+
+    public static final int ARTIFACTS_FIELD_NUMBER = 3;
+    private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact> artifacts_;
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact> getArtifactsList() {
+      return artifacts_;
+    }
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> 
+        getArtifactsOrBuilderList() {
+      return artifacts_;
+    }
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    public int getArtifactsCount() {
+      return artifacts_.size();
+    }
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifacts(int index) {
+      return artifacts_.get(index);
+    }
+    /**
+     * <code>repeated .lapp.Artifact artifacts = 3;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactsOrBuilder(
+        int index) {
+      return artifacts_.get(index);
+    }
+
+    public static final int CLASSRECORDS_FIELD_NUMBER = 4;
+    private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> classRecords_;
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> getClassRecordsList() {
+      return classRecords_;
+    }
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder> 
+        getClassRecordsOrBuilderList() {
+      return classRecords_;
+    }
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    public int getClassRecordsCount() {
+      return classRecords_.size();
+    }
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getClassRecords(int index) {
+      return classRecords_.get(index);
+    }
+    /**
+     * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder getClassRecordsOrBuilder(
+        int index) {
+      return classRecords_.get(index);
+    }
+
+    public static final int RESOLVEDCALLS_FIELD_NUMBER = 5;
+    private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> resolvedCalls_;
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> getResolvedCallsList() {
+      return resolvedCalls_;
+    }
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+        getResolvedCallsOrBuilderList() {
+      return resolvedCalls_;
+    }
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    public int getResolvedCallsCount() {
+      return resolvedCalls_.size();
+    }
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getResolvedCalls(int index) {
+      return resolvedCalls_.get(index);
+    }
+    /**
+     * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getResolvedCallsOrBuilder(
+        int index) {
+      return resolvedCalls_.get(index);
+    }
+
+    public static final int UNRESOLVEDCALLS_FIELD_NUMBER = 6;
+    private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> unresolvedCalls_;
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> getUnresolvedCallsList() {
+      return unresolvedCalls_;
+    }
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+        getUnresolvedCallsOrBuilderList() {
+      return unresolvedCalls_;
+    }
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    public int getUnresolvedCallsCount() {
+      return unresolvedCalls_.size();
+    }
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getUnresolvedCalls(int index) {
+      return unresolvedCalls_.get(index);
+    }
+    /**
+     * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+     */
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getUnresolvedCallsOrBuilder(
+        int index) {
+      return unresolvedCalls_.get(index);
+    }
+
+    public static final int METADATA_FIELD_NUMBER = 7;
+    private static final class MetadataDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_MetadataEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> metadata_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetMetadata() {
+      if (metadata_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MetadataDefaultEntryHolder.defaultEntry);
+      }
+      return metadata_;
+    }
+
+    public int getMetadataCount() {
+      return internalGetMetadata().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    public boolean containsMetadata(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetMetadata().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMetadataMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getMetadata() {
+      return getMetadataMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getMetadataMap() {
+      return internalGetMetadata().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    public java.lang.String getMetadataOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetadata().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; metadata = 7;</code>
+     */
+
+    public java.lang.String getMetadataOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetMetadata().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < strings_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, strings_.getRaw(i));
+      }
+      for (int i = 0; i < methods_.size(); i++) {
+        output.writeMessage(2, methods_.get(i));
+      }
+      for (int i = 0; i < artifacts_.size(); i++) {
+        output.writeMessage(3, artifacts_.get(i));
+      }
+      for (int i = 0; i < classRecords_.size(); i++) {
+        output.writeMessage(4, classRecords_.get(i));
+      }
+      for (int i = 0; i < resolvedCalls_.size(); i++) {
+        output.writeMessage(5, resolvedCalls_.get(i));
+      }
+      for (int i = 0; i < unresolvedCalls_.size(); i++) {
+        output.writeMessage(6, unresolvedCalls_.get(i));
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetMetadata(),
+          MetadataDefaultEntryHolder.defaultEntry,
+          7);
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < strings_.size(); i++) {
+          dataSize += computeStringSizeNoTag(strings_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getStringsList().size();
+      }
+      for (int i = 0; i < methods_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, methods_.get(i));
+      }
+      for (int i = 0; i < artifacts_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, artifacts_.get(i));
+      }
+      for (int i = 0; i < classRecords_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, classRecords_.get(i));
+      }
+      for (int i = 0; i < resolvedCalls_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, resolvedCalls_.get(i));
+      }
+      for (int i = 0; i < unresolvedCalls_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, unresolvedCalls_.get(i));
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetMetadata().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        metadata__ = MetadataDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(7, metadata__);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage)) {
+        return super.equals(obj);
+      }
+      nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage other = (nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage) obj;
+
+      if (!getStringsList()
+          .equals(other.getStringsList())) return false;
+      if (!getMethodsList()
+          .equals(other.getMethodsList())) return false;
+      if (!getArtifactsList()
+          .equals(other.getArtifactsList())) return false;
+      if (!getClassRecordsList()
+          .equals(other.getClassRecordsList())) return false;
+      if (!getResolvedCallsList()
+          .equals(other.getResolvedCallsList())) return false;
+      if (!getUnresolvedCallsList()
+          .equals(other.getUnresolvedCallsList())) return false;
+      if (!internalGetMetadata().equals(
+          other.internalGetMetadata())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getStringsCount() > 0) {
+        hash = (37 * hash) + STRINGS_FIELD_NUMBER;
+        hash = (53 * hash) + getStringsList().hashCode();
+      }
+      if (getMethodsCount() > 0) {
+        hash = (37 * hash) + METHODS_FIELD_NUMBER;
+        hash = (53 * hash) + getMethodsList().hashCode();
+      }
+      if (getArtifactsCount() > 0) {
+        hash = (37 * hash) + ARTIFACTS_FIELD_NUMBER;
+        hash = (53 * hash) + getArtifactsList().hashCode();
+      }
+      if (getClassRecordsCount() > 0) {
+        hash = (37 * hash) + CLASSRECORDS_FIELD_NUMBER;
+        hash = (53 * hash) + getClassRecordsList().hashCode();
+      }
+      if (getResolvedCallsCount() > 0) {
+        hash = (37 * hash) + RESOLVEDCALLS_FIELD_NUMBER;
+        hash = (53 * hash) + getResolvedCallsList().hashCode();
+      }
+      if (getUnresolvedCallsCount() > 0) {
+        hash = (37 * hash) + UNRESOLVEDCALLS_FIELD_NUMBER;
+        hash = (53 * hash) + getUnresolvedCallsList().hashCode();
+      }
+      if (!internalGetMetadata().getMap().isEmpty()) {
+        hash = (37 * hash) + METADATA_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMetadata().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code lapp.CompactPackage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:lapp.CompactPackage)
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactPackageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetMetadata();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetMutableMetadata();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.class, nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.Builder.class);
+      }
+
+      // Construct using nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getMethodsFieldBuilder();
+          getArtifactsFieldBuilder();
+          getClassRecordsFieldBuilder();
+          getResolvedCallsFieldBuilder();
+          getUnresolvedCallsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (methodsBuilder_ == null) {
+          methods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          methodsBuilder_.clear();
+        }
+        if (artifactsBuilder_ == null) {
+          artifacts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          artifactsBuilder_.clear();
+        }
+        if (classRecordsBuilder_ == null) {
+          classRecords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          classRecordsBuilder_.clear();
+        }
+        if (resolvedCallsBuilder_ == null) {
+          resolvedCalls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          resolvedCallsBuilder_.clear();
+        }
+        if (unresolvedCallsBuilder_ == null) {
+          unresolvedCalls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          unresolvedCallsBuilder_.clear();
+        }
+        internalGetMutableMetadata().clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.internal_static_lapp_CompactPackage_descriptor;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage getDefaultInstanceForType() {
+        return nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage build() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage buildPartial() {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage result = new nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          strings_ = strings_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.strings_ = strings_;
+        if (methodsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            methods_ = java.util.Collections.unmodifiableList(methods_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.methods_ = methods_;
+        } else {
+          result.methods_ = methodsBuilder_.build();
+        }
+        if (artifactsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            artifacts_ = java.util.Collections.unmodifiableList(artifacts_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.artifacts_ = artifacts_;
+        } else {
+          result.artifacts_ = artifactsBuilder_.build();
+        }
+        if (classRecordsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            classRecords_ = java.util.Collections.unmodifiableList(classRecords_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.classRecords_ = classRecords_;
+        } else {
+          result.classRecords_ = classRecordsBuilder_.build();
+        }
+        if (resolvedCallsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            resolvedCalls_ = java.util.Collections.unmodifiableList(resolvedCalls_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.resolvedCalls_ = resolvedCalls_;
+        } else {
+          result.resolvedCalls_ = resolvedCallsBuilder_.build();
+        }
+        if (unresolvedCallsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            unresolvedCalls_ = java.util.Collections.unmodifiableList(unresolvedCalls_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.unresolvedCalls_ = unresolvedCalls_;
+        } else {
+          result.unresolvedCalls_ = unresolvedCallsBuilder_.build();
+        }
+        result.metadata_ = internalGetMetadata();
+        result.metadata_.makeImmutable();
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage) {
+          return mergeFrom((nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage other) {
+        if (other == nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage.getDefaultInstance()) return this;
+        if (!other.strings_.isEmpty()) {
+          if (strings_.isEmpty()) {
+            strings_ = other.strings_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureStringsIsMutable();
+            strings_.addAll(other.strings_);
+          }
+          onChanged();
+        }
+        if (methodsBuilder_ == null) {
+          if (!other.methods_.isEmpty()) {
+            if (methods_.isEmpty()) {
+              methods_ = other.methods_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureMethodsIsMutable();
+              methods_.addAll(other.methods_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.methods_.isEmpty()) {
+            if (methodsBuilder_.isEmpty()) {
+              methodsBuilder_.dispose();
+              methodsBuilder_ = null;
+              methods_ = other.methods_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              methodsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMethodsFieldBuilder() : null;
+            } else {
+              methodsBuilder_.addAllMessages(other.methods_);
+            }
+          }
+        }
+        if (artifactsBuilder_ == null) {
+          if (!other.artifacts_.isEmpty()) {
+            if (artifacts_.isEmpty()) {
+              artifacts_ = other.artifacts_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureArtifactsIsMutable();
+              artifacts_.addAll(other.artifacts_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.artifacts_.isEmpty()) {
+            if (artifactsBuilder_.isEmpty()) {
+              artifactsBuilder_.dispose();
+              artifactsBuilder_ = null;
+              artifacts_ = other.artifacts_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              artifactsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getArtifactsFieldBuilder() : null;
+            } else {
+              artifactsBuilder_.addAllMessages(other.artifacts_);
+            }
+          }
+        }
+        if (classRecordsBuilder_ == null) {
+          if (!other.classRecords_.isEmpty()) {
+            if (classRecords_.isEmpty()) {
+              classRecords_ = other.classRecords_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureClassRecordsIsMutable();
+              classRecords_.addAll(other.classRecords_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.classRecords_.isEmpty()) {
+            if (classRecordsBuilder_.isEmpty()) {
+              classRecordsBuilder_.dispose();
+              classRecordsBuilder_ = null;
+              classRecords_ = other.classRecords_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              classRecordsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getClassRecordsFieldBuilder() : null;
+            } else {
+              classRecordsBuilder_.addAllMessages(other.classRecords_);
+            }
+          }
+        }
+        if (resolvedCallsBuilder_ == null) {
+          if (!other.resolvedCalls_.isEmpty()) {
+            if (resolvedCalls_.isEmpty()) {
+              resolvedCalls_ = other.resolvedCalls_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureResolvedCallsIsMutable();
+              resolvedCalls_.addAll(other.resolvedCalls_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.resolvedCalls_.isEmpty()) {
+            if (resolvedCallsBuilder_.isEmpty()) {
+              resolvedCallsBuilder_.dispose();
+              resolvedCallsBuilder_ = null;
+              resolvedCalls_ = other.resolvedCalls_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              resolvedCallsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResolvedCallsFieldBuilder() : null;
+            } else {
+              resolvedCallsBuilder_.addAllMessages(other.resolvedCalls_);
+            }
+          }
+        }
+        if (unresolvedCallsBuilder_ == null) {
+          if (!other.unresolvedCalls_.isEmpty()) {
+            if (unresolvedCalls_.isEmpty()) {
+              unresolvedCalls_ = other.unresolvedCalls_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureUnresolvedCallsIsMutable();
+              unresolvedCalls_.addAll(other.unresolvedCalls_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.unresolvedCalls_.isEmpty()) {
+            if (unresolvedCallsBuilder_.isEmpty()) {
+              unresolvedCallsBuilder_.dispose();
+              unresolvedCallsBuilder_ = null;
+              unresolvedCalls_ = other.unresolvedCalls_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              unresolvedCallsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getUnresolvedCallsFieldBuilder() : null;
+            } else {
+              unresolvedCallsBuilder_.addAllMessages(other.unresolvedCalls_);
+            }
+          }
+        }
+        internalGetMutableMetadata().mergeFrom(
+            other.internalGetMetadata());
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureStringsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          strings_ = new com.google.protobuf.LazyStringArrayList(strings_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getStringsList() {
+        return strings_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public int getStringsCount() {
+        return strings_.size();
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public java.lang.String getStrings(int index) {
+        return strings_.get(index);
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStringsBytes(int index) {
+        return strings_.getByteString(index);
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public Builder setStrings(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStringsIsMutable();
+        strings_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public Builder addStrings(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStringsIsMutable();
+        strings_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public Builder addAllStrings(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureStringsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, strings_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public Builder clearStrings() {
+        strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       */
+      public Builder addStringsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureStringsIsMutable();
+        strings_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> methods_ =
+        java.util.Collections.emptyList();
+      private void ensureMethodsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          methods_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod>(methods_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder> methodsBuilder_;
+
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> getMethodsList() {
+        if (methodsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(methods_);
+        } else {
+          return methodsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public int getMethodsCount() {
+        if (methodsBuilder_ == null) {
+          return methods_.size();
+        } else {
+          return methodsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod getMethods(int index) {
+        if (methodsBuilder_ == null) {
+          return methods_.get(index);
+        } else {
+          return methodsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder setMethods(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod value) {
+        if (methodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMethodsIsMutable();
+          methods_.set(index, value);
+          onChanged();
+        } else {
+          methodsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder setMethods(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder builderForValue) {
+        if (methodsBuilder_ == null) {
+          ensureMethodsIsMutable();
+          methods_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          methodsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder addMethods(nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod value) {
+        if (methodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMethodsIsMutable();
+          methods_.add(value);
+          onChanged();
+        } else {
+          methodsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder addMethods(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod value) {
+        if (methodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMethodsIsMutable();
+          methods_.add(index, value);
+          onChanged();
+        } else {
+          methodsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder addMethods(
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder builderForValue) {
+        if (methodsBuilder_ == null) {
+          ensureMethodsIsMutable();
+          methods_.add(builderForValue.build());
+          onChanged();
+        } else {
+          methodsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder addMethods(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder builderForValue) {
+        if (methodsBuilder_ == null) {
+          ensureMethodsIsMutable();
+          methods_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          methodsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder addAllMethods(
+          java.lang.Iterable<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod> values) {
+        if (methodsBuilder_ == null) {
+          ensureMethodsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, methods_);
+          onChanged();
+        } else {
+          methodsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder clearMethods() {
+        if (methodsBuilder_ == null) {
+          methods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          methodsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public Builder removeMethods(int index) {
+        if (methodsBuilder_ == null) {
+          ensureMethodsIsMutable();
+          methods_.remove(index);
+          onChanged();
+        } else {
+          methodsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder getMethodsBuilder(
+          int index) {
+        return getMethodsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder getMethodsOrBuilder(
+          int index) {
+        if (methodsBuilder_ == null) {
+          return methods_.get(index);  } else {
+          return methodsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder> 
+           getMethodsOrBuilderList() {
+        if (methodsBuilder_ != null) {
+          return methodsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(methods_);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder addMethodsBuilder() {
+        return getMethodsFieldBuilder().addBuilder(
+            nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder addMethodsBuilder(
+          int index) {
+        return getMethodsFieldBuilder().addBuilder(
+            index, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactMethod methods = 2;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder> 
+           getMethodsBuilderList() {
+        return getMethodsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder> 
+          getMethodsFieldBuilder() {
+        if (methodsBuilder_ == null) {
+          methodsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethod.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactMethodOrBuilder>(
+                  methods_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          methods_ = null;
+        }
+        return methodsBuilder_;
+      }
+
+      private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact> artifacts_ =
+        java.util.Collections.emptyList();
+      private void ensureArtifactsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          artifacts_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.Artifact>(artifacts_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> artifactsBuilder_;
+
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact> getArtifactsList() {
+        if (artifactsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(artifacts_);
+        } else {
+          return artifactsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public int getArtifactsCount() {
+        if (artifactsBuilder_ == null) {
+          return artifacts_.size();
+        } else {
+          return artifactsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact getArtifacts(int index) {
+        if (artifactsBuilder_ == null) {
+          return artifacts_.get(index);
+        } else {
+          return artifactsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder setArtifacts(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.Artifact value) {
+        if (artifactsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureArtifactsIsMutable();
+          artifacts_.set(index, value);
+          onChanged();
+        } else {
+          artifactsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder setArtifacts(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder builderForValue) {
+        if (artifactsBuilder_ == null) {
+          ensureArtifactsIsMutable();
+          artifacts_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          artifactsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder addArtifacts(nl.wvdzwan.lapp.protobuf.Lapp.Artifact value) {
+        if (artifactsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureArtifactsIsMutable();
+          artifacts_.add(value);
+          onChanged();
+        } else {
+          artifactsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder addArtifacts(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.Artifact value) {
+        if (artifactsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureArtifactsIsMutable();
+          artifacts_.add(index, value);
+          onChanged();
+        } else {
+          artifactsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder addArtifacts(
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder builderForValue) {
+        if (artifactsBuilder_ == null) {
+          ensureArtifactsIsMutable();
+          artifacts_.add(builderForValue.build());
+          onChanged();
+        } else {
+          artifactsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder addArtifacts(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder builderForValue) {
+        if (artifactsBuilder_ == null) {
+          ensureArtifactsIsMutable();
+          artifacts_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          artifactsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder addAllArtifacts(
+          java.lang.Iterable<? extends nl.wvdzwan.lapp.protobuf.Lapp.Artifact> values) {
+        if (artifactsBuilder_ == null) {
+          ensureArtifactsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, artifacts_);
+          onChanged();
+        } else {
+          artifactsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder clearArtifacts() {
+        if (artifactsBuilder_ == null) {
+          artifacts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          artifactsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public Builder removeArtifacts(int index) {
+        if (artifactsBuilder_ == null) {
+          ensureArtifactsIsMutable();
+          artifacts_.remove(index);
+          onChanged();
+        } else {
+          artifactsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder getArtifactsBuilder(
+          int index) {
+        return getArtifactsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder getArtifactsOrBuilder(
+          int index) {
+        if (artifactsBuilder_ == null) {
+          return artifacts_.get(index);  } else {
+          return artifactsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> 
+           getArtifactsOrBuilderList() {
+        if (artifactsBuilder_ != null) {
+          return artifactsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(artifacts_);
+        }
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder addArtifactsBuilder() {
+        return getArtifactsFieldBuilder().addBuilder(
+            nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder addArtifactsBuilder(
+          int index) {
+        return getArtifactsFieldBuilder().addBuilder(
+            index, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.Artifact artifacts = 3;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder> 
+           getArtifactsBuilderList() {
+        return getArtifactsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder> 
+          getArtifactsFieldBuilder() {
+        if (artifactsBuilder_ == null) {
+          artifactsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.Artifact, nl.wvdzwan.lapp.protobuf.Lapp.Artifact.Builder, nl.wvdzwan.lapp.protobuf.Lapp.ArtifactOrBuilder>(
+                  artifacts_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          artifacts_ = null;
+        }
+        return artifactsBuilder_;
+      }
+
+      private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> classRecords_ =
+        java.util.Collections.emptyList();
+      private void ensureClassRecordsIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          classRecords_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord>(classRecords_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder> classRecordsBuilder_;
+
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> getClassRecordsList() {
+        if (classRecordsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(classRecords_);
+        } else {
+          return classRecordsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public int getClassRecordsCount() {
+        if (classRecordsBuilder_ == null) {
+          return classRecords_.size();
+        } else {
+          return classRecordsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord getClassRecords(int index) {
+        if (classRecordsBuilder_ == null) {
+          return classRecords_.get(index);
+        } else {
+          return classRecordsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder setClassRecords(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord value) {
+        if (classRecordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassRecordsIsMutable();
+          classRecords_.set(index, value);
+          onChanged();
+        } else {
+          classRecordsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder setClassRecords(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder builderForValue) {
+        if (classRecordsBuilder_ == null) {
+          ensureClassRecordsIsMutable();
+          classRecords_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          classRecordsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder addClassRecords(nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord value) {
+        if (classRecordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassRecordsIsMutable();
+          classRecords_.add(value);
+          onChanged();
+        } else {
+          classRecordsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder addClassRecords(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord value) {
+        if (classRecordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassRecordsIsMutable();
+          classRecords_.add(index, value);
+          onChanged();
+        } else {
+          classRecordsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder addClassRecords(
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder builderForValue) {
+        if (classRecordsBuilder_ == null) {
+          ensureClassRecordsIsMutable();
+          classRecords_.add(builderForValue.build());
+          onChanged();
+        } else {
+          classRecordsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder addClassRecords(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder builderForValue) {
+        if (classRecordsBuilder_ == null) {
+          ensureClassRecordsIsMutable();
+          classRecords_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          classRecordsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder addAllClassRecords(
+          java.lang.Iterable<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord> values) {
+        if (classRecordsBuilder_ == null) {
+          ensureClassRecordsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, classRecords_);
+          onChanged();
+        } else {
+          classRecordsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder clearClassRecords() {
+        if (classRecordsBuilder_ == null) {
+          classRecords_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          classRecordsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public Builder removeClassRecords(int index) {
+        if (classRecordsBuilder_ == null) {
+          ensureClassRecordsIsMutable();
+          classRecords_.remove(index);
+          onChanged();
+        } else {
+          classRecordsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder getClassRecordsBuilder(
+          int index) {
+        return getClassRecordsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder getClassRecordsOrBuilder(
+          int index) {
+        if (classRecordsBuilder_ == null) {
+          return classRecords_.get(index);  } else {
+          return classRecordsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder> 
+           getClassRecordsOrBuilderList() {
+        if (classRecordsBuilder_ != null) {
+          return classRecordsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(classRecords_);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder addClassRecordsBuilder() {
+        return getClassRecordsFieldBuilder().addBuilder(
+            nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder addClassRecordsBuilder(
+          int index) {
+        return getClassRecordsFieldBuilder().addBuilder(
+            index, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactClassRecord classRecords = 4;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder> 
+           getClassRecordsBuilderList() {
+        return getClassRecordsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder> 
+          getClassRecordsFieldBuilder() {
+        if (classRecordsBuilder_ == null) {
+          classRecordsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecord.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactClassRecordOrBuilder>(
+                  classRecords_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          classRecords_ = null;
+        }
+        return classRecordsBuilder_;
+      }
+
+      private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> resolvedCalls_ =
+        java.util.Collections.emptyList();
+      private void ensureResolvedCallsIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          resolvedCalls_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall>(resolvedCalls_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> resolvedCallsBuilder_;
+
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> getResolvedCallsList() {
+        if (resolvedCallsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(resolvedCalls_);
+        } else {
+          return resolvedCallsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public int getResolvedCallsCount() {
+        if (resolvedCallsBuilder_ == null) {
+          return resolvedCalls_.size();
+        } else {
+          return resolvedCallsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getResolvedCalls(int index) {
+        if (resolvedCallsBuilder_ == null) {
+          return resolvedCalls_.get(index);
+        } else {
+          return resolvedCallsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder setResolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (resolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.set(index, value);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder setResolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (resolvedCallsBuilder_ == null) {
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder addResolvedCalls(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (resolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.add(value);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder addResolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (resolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.add(index, value);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder addResolvedCalls(
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (resolvedCallsBuilder_ == null) {
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder addResolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (resolvedCallsBuilder_ == null) {
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder addAllResolvedCalls(
+          java.lang.Iterable<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> values) {
+        if (resolvedCallsBuilder_ == null) {
+          ensureResolvedCallsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, resolvedCalls_);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder clearResolvedCalls() {
+        if (resolvedCallsBuilder_ == null) {
+          resolvedCalls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public Builder removeResolvedCalls(int index) {
+        if (resolvedCallsBuilder_ == null) {
+          ensureResolvedCallsIsMutable();
+          resolvedCalls_.remove(index);
+          onChanged();
+        } else {
+          resolvedCallsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder getResolvedCallsBuilder(
+          int index) {
+        return getResolvedCallsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getResolvedCallsOrBuilder(
+          int index) {
+        if (resolvedCallsBuilder_ == null) {
+          return resolvedCalls_.get(index);  } else {
+          return resolvedCallsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+           getResolvedCallsOrBuilderList() {
+        if (resolvedCallsBuilder_ != null) {
+          return resolvedCallsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(resolvedCalls_);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder addResolvedCallsBuilder() {
+        return getResolvedCallsFieldBuilder().addBuilder(
+            nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder addResolvedCallsBuilder(
+          int index) {
+        return getResolvedCallsFieldBuilder().addBuilder(
+            index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactCall resolvedCalls = 5;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder> 
+           getResolvedCallsBuilderList() {
+        return getResolvedCallsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+          getResolvedCallsFieldBuilder() {
+        if (resolvedCallsBuilder_ == null) {
+          resolvedCallsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder>(
+                  resolvedCalls_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          resolvedCalls_ = null;
+        }
+        return resolvedCallsBuilder_;
+      }
+
+      private java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> unresolvedCalls_ =
+        java.util.Collections.emptyList();
+      private void ensureUnresolvedCallsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          unresolvedCalls_ = new java.util.ArrayList<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall>(unresolvedCalls_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> unresolvedCallsBuilder_;
+
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> getUnresolvedCallsList() {
+        if (unresolvedCallsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(unresolvedCalls_);
+        } else {
+          return unresolvedCallsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public int getUnresolvedCallsCount() {
+        if (unresolvedCallsBuilder_ == null) {
+          return unresolvedCalls_.size();
+        } else {
+          return unresolvedCallsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall getUnresolvedCalls(int index) {
+        if (unresolvedCallsBuilder_ == null) {
+          return unresolvedCalls_.get(index);
+        } else {
+          return unresolvedCallsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder setUnresolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (unresolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.set(index, value);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder setUnresolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (unresolvedCallsBuilder_ == null) {
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder addUnresolvedCalls(nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (unresolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.add(value);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder addUnresolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall value) {
+        if (unresolvedCallsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.add(index, value);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder addUnresolvedCalls(
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (unresolvedCallsBuilder_ == null) {
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.add(builderForValue.build());
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder addUnresolvedCalls(
+          int index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder builderForValue) {
+        if (unresolvedCallsBuilder_ == null) {
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder addAllUnresolvedCalls(
+          java.lang.Iterable<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCall> values) {
+        if (unresolvedCallsBuilder_ == null) {
+          ensureUnresolvedCallsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, unresolvedCalls_);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder clearUnresolvedCalls() {
+        if (unresolvedCallsBuilder_ == null) {
+          unresolvedCalls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public Builder removeUnresolvedCalls(int index) {
+        if (unresolvedCallsBuilder_ == null) {
+          ensureUnresolvedCallsIsMutable();
+          unresolvedCalls_.remove(index);
+          onChanged();
+        } else {
+          unresolvedCallsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder getUnresolvedCallsBuilder(
+          int index) {
+        return getUnresolvedCallsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder getUnresolvedCallsOrBuilder(
+          int index) {
+        if (unresolvedCallsBuilder_ == null) {
+          return unresolvedCalls_.get(index);  } else {
+          return unresolvedCallsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public java.util.List<? extends nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+           getUnresolvedCallsOrBuilderList() {
+        if (unresolvedCallsBuilder_ != null) {
+          return unresolvedCallsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(unresolvedCalls_);
+        }
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder addUnresolvedCallsBuilder() {
+        return getUnresolvedCallsFieldBuilder().addBuilder(
+            nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder addUnresolvedCallsBuilder(
+          int index) {
+        return getUnresolvedCallsFieldBuilder().addBuilder(
+            index, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .lapp.CompactCall unresolvedCalls = 6;</code>
+       */
+      public java.util.List<nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder> 
+           getUnresolvedCallsBuilderList() {
+        return getUnresolvedCallsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder> 
+          getUnresolvedCallsFieldBuilder() {
+        if (unresolvedCallsBuilder_ == null) {
+          unresolvedCallsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              nl.wvdzwan.lapp.protobuf.Lapp.CompactCall, nl.wvdzwan.lapp.protobuf.Lapp.CompactCall.Builder, nl.wvdzwan.lapp.protobuf.Lapp.CompactCallOrBuilder>(
+                  unresolvedCalls_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          unresolvedCalls_ = null;
+        }
+        return unresolvedCallsBuilder_;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> metadata_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetMetadata() {
+        if (metadata_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              MetadataDefaultEntryHolder.defaultEntry);
+        }
+        return metadata_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetMutableMetadata() {
+        onChanged();;
+        if (metadata_ == null) {
+          metadata_ = com.google.protobuf.MapField.newMapField(
+              MetadataDefaultEntryHolder.defaultEntry);
+        }
+        if (!metadata_.isMutable()) {
+          metadata_ = metadata_.copy();
+        }
+        return metadata_;
+      }
+
+      public int getMetadataCount() {
+        return internalGetMetadata().getMap().size();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public boolean containsMetadata(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        return internalGetMetadata().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getMetadataMap()} instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getMetadata() {
+        return getMetadataMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public java.util.Map<java.lang.String, java.lang.String> getMetadataMap() {
+        return internalGetMetadata().getMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public java.lang.String getMetadataOrDefault(
+          java.lang.String key,
+          java.lang.String defaultValue) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMetadata().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public java.lang.String getMetadataOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetMetadata().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+
+      public Builder clearMetadata() {
+        internalGetMutableMetadata().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public Builder removeMetadata(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableMetadata().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+      getMutableMetadata() {
+        return internalGetMutableMetadata().getMutableMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+      public Builder putMetadata(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (value == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableMetadata().getMutableMap()
+            .put(key, value);
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; metadata = 7;</code>
+       */
+
+      public Builder putAllMetadata(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableMetadata().getMutableMap()
+            .putAll(values);
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:lapp.CompactPackage)
+    }
+
+    // @@protoc_insertion_point(class_scope:lapp.CompactPackage)
+    private static final nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage();
+    }
+
+    public static nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CompactPackage>
+        PARSER = new com.google.protobuf.AbstractParser<CompactPackage>() {
+      @java.lang.Override
+      public CompactPackage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompactPackage(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompactPackage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompactPackage> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public nl.wvdzwan.lapp.protobuf.Lapp.CompactPackage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_lapp_Method_descriptor;
   private static final 
@@ -6673,6 +14217,46 @@ public final class Lapp {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_lapp_Package_MetadataEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_Header_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_Header_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_Header_MetadataEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_Header_MetadataEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_Record_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_Record_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_CompactMethod_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_CompactMethod_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_CompactCall_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_CompactCall_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_CompactClassRecord_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_CompactClassRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_CompactPackage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_CompactPackage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_lapp_CompactPackage_MetadataEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_lapp_CompactPackage_MetadataEntry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -6704,8 +14288,33 @@ public final class Lapp {
       "\017unresolvedCalls\030\005 \003(\0132\n.lapp.Call\022-\n\010me" +
       "tadata\030\010 \003(\0132\033.lapp.Package.MetadataEntr" +
       "y\032/\n\rMetadataEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
-      "\030\002 \001(\t:\0028\001B \n\030nl.wvdzwan.lapp.protobufB\004" +
-      "Lappb\006proto3"
+      "\030\002 \001(\t:\0028\001\"x\n\006Header\022\017\n\007version\030\001 \001(\005\022,\n" +
+      "\010metadata\030\002 \003(\0132\032.lapp.Header.MetadataEn" +
+      "try\032/\n\rMetadataEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005val" +
+      "ue\030\002 \001(\t:\0028\001\"\312\001\n\006Record\022\036\n\006header\030\001 \001(\0132" +
+      "\014.lapp.HeaderH\000\022\"\n\010artifact\030\002 \001(\0132\016.lapp" +
+      ".ArtifactH\000\022(\n\013classRecord\030\003 \001(\0132\021.lapp." +
+      "ClassRecordH\000\022\"\n\014resolvedCall\030\004 \001(\0132\n.la" +
+      "pp.CallH\000\022$\n\016unresolvedCall\030\005 \001(\0132\n.lapp" +
+      ".CallH\000B\010\n\006record\"D\n\rCompactMethod\022\021\n\tna" +
+      "mespace\030\001 \001(\005\022\016\n\006symbol\030\002 \001(\005\022\020\n\010artifac" +
+      "t\030\003 \001(\005\"T\n\013CompactCall\022\016\n\006source\030\001 \001(\005\022\016" +
+      "\n\006target\030\002 \001(\005\022%\n\010callType\030\003 \001(\0162\023.lapp." +
+      "Call.CallType\"\262\001\n\022CompactClassRecord\022\014\n\004" +
+      "name\030\001 \001(\005\022\017\n\007package\030\002 \001(\005\022\022\n\nsuperClas" +
+      "s\030\003 \001(\005\022\022\n\ninterfaces\030\004 \003(\005\022\017\n\007methods\030\005" +
+      " \003(\005\022\016\n\006public\030\006 \001(\010\022\017\n\007private\030\007 \001(\010\022\021\n" +
+      "\tinterface\030\010 \001(\010\022\020\n\010abstract\030\t \001(\010\"\327\002\n\016C" +
+      "ompactPackage\022\017\n\007strings\030\001 \003(\t\022$\n\007method" +
+      "s\030\002 \003(\0132\023.lapp.CompactMethod\022!\n\tartifact" +
+      "s\030\003 \003(\0132\016.lapp.Artifact\022.\n\014classRecords\030" +
+      "\004 \003(\0132\030.lapp.CompactClassRecord\022(\n\rresol" +
+      "vedCalls\030\005 \003(\0132\021.lapp.CompactCall\022*\n\017unr" +
+      "esolvedCalls\030\006 \003(\0132\021.lapp.CompactCall\0224\n" +
+      "\010metadata\030\007 \003(\0132\".lapp.CompactPackage.Me" +
+      "tadataEntry\032/\n\rMetadataEntry\022\013\n\003key\030\001 \001(" +
+      "\t\022\r\n\005value\030\002 \001(\t:\0028\001B \n\030nl.wvdzwan.lapp." +
+      "protobufB\004Lappb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -6761,6 +14370,54 @@ public final class Lapp {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_lapp_Package_MetadataEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
+    internal_static_lapp_Header_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_lapp_Header_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_Header_descriptor,
+        new java.lang.String[] { "Version", "Metadata", });
+    internal_static_lapp_Header_MetadataEntry_descriptor =
+      internal_static_lapp_Header_descriptor.getNestedTypes().get(0);
+    internal_static_lapp_Header_MetadataEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_Header_MetadataEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_lapp_Record_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_lapp_Record_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_Record_descriptor,
+        new java.lang.String[] { "Header", "Artifact", "ClassRecord", "ResolvedCall", "UnresolvedCall", "Record", });
+    internal_static_lapp_CompactMethod_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_lapp_CompactMethod_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_CompactMethod_descriptor,
+        new java.lang.String[] { "Namespace", "Symbol", "Artifact", });
+    internal_static_lapp_CompactCall_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_lapp_CompactCall_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_CompactCall_descriptor,
+        new java.lang.String[] { "Source", "Target", "CallType", });
+    internal_static_lapp_CompactClassRecord_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_lapp_CompactClassRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_CompactClassRecord_descriptor,
+        new java.lang.String[] { "Name", "Package", "SuperClass", "Interfaces", "Methods", "Public", "Private", "Interface", "Abstract", });
+    internal_static_lapp_CompactPackage_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_lapp_CompactPackage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_CompactPackage_descriptor,
+        new java.lang.String[] { "Strings", "Methods", "Artifacts", "ClassRecords", "ResolvedCalls", "UnresolvedCalls", "Metadata", });
+    internal_static_lapp_CompactPackage_MetadataEntry_descriptor =
+      internal_static_lapp_CompactPackage_descriptor.getNestedTypes().get(0);
+    internal_static_lapp_CompactPackage_MetadataEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_lapp_CompactPackage_MetadataEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
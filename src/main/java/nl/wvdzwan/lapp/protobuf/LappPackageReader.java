@@ -1,5 +1,6 @@
 package nl.wvdzwan.lapp.protobuf;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
@@ -7,78 +8,168 @@ import java.util.stream.Collectors;
 
 import nl.wvdzwan.lapp.call.Call;
 import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
+import nl.wvdzwan.lapp.core.AnalysisContext;
 import nl.wvdzwan.lapp.core.ClassRecord;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
 import nl.wvdzwan.lapp.core.LappPackage;
 import nl.wvdzwan.lapp.core.Method;
 import nl.wvdzwan.lapp.core.ResolvedMethod;
-import nl.wvdzwan.lapp.core.UnresolvedMethod;
 
 public class LappPackageReader {
 
 
     public static LappPackage from(Lapp.Package proto) {
+        return from(proto, new DefaultAnalysisContext());
+    }
+
+    public static LappPackage from(Lapp.Package proto, AnalysisContext context) {
 
         LappPackage lappPackage = new LappPackage();
 
         lappPackage.artifacts.addAll(fromArtifacts(proto.getArtifactsList()));
 
         lappPackage.classRecords.addAll(fromClassRecords(proto.getClassRecordsList()));
-        lappPackage.resolvedCalls.addAll(fromCalls(proto.getResolvedCallsList()));
-        lappPackage.unresolvedCalls.addAll(fromCalls(proto.getUnresolvedCallsList()));
+        lappPackage.resolvedCalls.addAll(fromCalls(proto.getResolvedCallsList(), context));
+        lappPackage.unresolvedCalls.addAll(fromCalls(proto.getUnresolvedCallsList(), context));
 
         lappPackage.metadata.putAll(new HashMap<>(proto.getMetadataMap()));
 
         return lappPackage;
     }
 
+    public static LappPackage from(LappStreamReader reader, AnalysisContext context) throws IOException {
+
+        if (reader.getFormat() == LappStreamWriter.COMPACT_FORMAT) {
+            return from(reader.getCompactPackage(), context);
+        }
+
+        LappPackage lappPackage = new LappPackage();
+
+        for (Lapp.Record record = reader.next(); record != null; record = reader.next()) {
+            switch (record.getRecordCase()) {
+                case ARTIFACT:
+                    lappPackage.artifacts.add(fromArtifact(record.getArtifact()));
+                    break;
+                case CLASSRECORD:
+                    lappPackage.classRecords.add(fromClassRecord(record.getClassRecord()));
+                    break;
+                case RESOLVEDCALL:
+                    lappPackage.resolvedCalls.add(fromCall(record.getResolvedCall(), context));
+                    break;
+                case UNRESOLVEDCALL:
+                    lappPackage.unresolvedCalls.add(fromCall(record.getUnresolvedCall(), context));
+                    break;
+            }
+        }
+
+        lappPackage.metadata.putAll(reader.getMetadata());
+
+        return lappPackage;
+    }
+
+
+    /**
+     * Read a compact (version 2) package, every method in the method table is created only once.
+     */
+    public static LappPackage from(Lapp.CompactPackage proto, AnalysisContext context) {
+
+        LappPackage lappPackage = new LappPackage();
+        List<String> strings = proto.getStringsList();
+
+        Method[] methods = new Method[proto.getMethodsCount()];
+        for (int i = 0; i < methods.length; i++) {
+            Lapp.CompactMethod m = proto.getMethods(i);
+            if (m.getArtifact() != 0) {
+                methods[i] = context.makeResolved(strings.get(m.getNamespace()), strings.get(m.getSymbol()), strings.get(m.getArtifact()));
+            } else {
+                methods[i] = context.makeUnresolved(strings.get(m.getNamespace()), strings.get(m.getSymbol()));
+            }
+        }
+
+        lappPackage.artifacts.addAll(fromArtifacts(proto.getArtifactsList()));
+
+        for (Lapp.CompactClassRecord c : proto.getClassRecordsList()) {
+            ClassRecord result = new ClassRecord(strings.get(c.getPackage()), strings.get(c.getName()));
+            result.setSuperClass(strings.get(c.getSuperClass()));
+            c.getInterfacesList().forEach(i -> result.interfaces.add(strings.get(i)));
+            c.getMethodsList().forEach(m -> result.methods.add(strings.get(m)));
+
+            result.isPublic = c.getPublic();
+            result.isPrivate = c.getPrivate();
+            result.isInterface = c.getInterface();
+            result.isAbstract = c.getAbstract();
+
+            lappPackage.classRecords.add(result);
+        }
+
+        for (Lapp.CompactCall c : proto.getResolvedCallsList()) {
+            lappPackage.resolvedCalls.add(new Call(methods[c.getSource()], methods[c.getTarget()], fromCallType(c.getCallType())));
+        }
+        for (Lapp.CompactCall c : proto.getUnresolvedCallsList()) {
+            lappPackage.unresolvedCalls.add(new Call(methods[c.getSource()], methods[c.getTarget()], fromCallType(c.getCallType())));
+        }
+
+        lappPackage.metadata.putAll(proto.getMetadataMap());
+
+        return lappPackage;
+    }
 
     public static Set<ArtifactRecord> fromArtifacts(List<Lapp.Artifact> proto) {
         return proto.stream()
-                .map(a -> new ArtifactRecord(a.getGroup(), a.getName(), a.getVersion()))
+                .map(LappPackageReader::fromArtifact)
                 .collect(Collectors.toSet());
     }
 
+    public static ArtifactRecord fromArtifact(Lapp.Artifact proto) {
+        return new ArtifactRecord(proto.getGroup(), proto.getName(), proto.getVersion());
+    }
+
 
-    public static ResolvedMethod fromResolvedMethod(Lapp.Method proto) {
-        return ResolvedMethod.findOrCreate(proto.getNamespace(), proto.getSymbol(), proto.getArtifact());
+    public static ResolvedMethod fromResolvedMethod(Lapp.Method proto, AnalysisContext context) {
+        return context.makeResolved(proto.getNamespace(), proto.getSymbol(), proto.getArtifact());
     }
 
-    public static Method fromMethod(Lapp.Method proto) {
+    public static Method fromMethod(Lapp.Method proto, AnalysisContext context) {
         if (proto.getArtifact() != null && !proto.getArtifact().equals("")) {
-            return fromResolvedMethod(proto);
+            return fromResolvedMethod(proto, context);
         } else {
-            return UnresolvedMethod.findOrCreate(proto.getNamespace(), proto.getSymbol());
+            return context.makeUnresolved(proto.getNamespace(), proto.getSymbol());
         }
     }
 
-    private static Set<Call> fromCalls(List<Lapp.Call> proto) {
+    private static Set<Call> fromCalls(List<Lapp.Call> proto, AnalysisContext context) {
         return proto.stream()
-                .map(c -> new Call(
-                        fromMethod(c.getSource()),
-                        fromMethod(c.getTarget()),
-                        fromCallType(c.getCallType()
-                        )))
+                .map(c -> fromCall(c, context))
                 .collect(Collectors.toSet());
     }
 
+    public static Call fromCall(Lapp.Call proto, AnalysisContext context) {
+        return new Call(
+                fromMethod(proto.getSource(), context),
+                fromMethod(proto.getTarget(), context),
+                fromCallType(proto.getCallType()));
+    }
+
     private static Set<ClassRecord> fromClassRecords(List<Lapp.ClassRecord> proto) {
         return proto.stream()
-                .map(c -> {
-                    ClassRecord result = new ClassRecord(c.getPackage(), c.getName());
-                    result.setSuperClass(c.getSuperClass());
-                    result.interfaces.addAll(c.getInterfacesList());
-                    result.methods.addAll(c.getMethodsList());
-
-                    result.isPublic = c.getPublic();
-                    result.isPrivate = c.getPrivate();
-                    result.isInterface = c.getInterface();
-                    result.isAbstract = c.getAbstract();
-
-                    return result;
-                })
+                .map(LappPackageReader::fromClassRecord)
                 .collect(Collectors.toSet());
     }
 
+    public static ClassRecord fromClassRecord(Lapp.ClassRecord proto) {
+        ClassRecord result = new ClassRecord(proto.getPackage(), proto.getName());
+        result.setSuperClass(proto.getSuperClass());
+        result.interfaces.addAll(proto.getInterfacesList());
+        result.methods.addAll(proto.getMethodsList());
+
+        result.isPublic = proto.getPublic();
+        result.isPrivate = proto.getPrivate();
+        result.isInterface = proto.getInterface();
+        result.isAbstract = proto.getAbstract();
+
+        return result;
+    }
+
 
     public static Call.CallType fromCallType(Lapp.Call.CallType proto) {
         switch (proto) {
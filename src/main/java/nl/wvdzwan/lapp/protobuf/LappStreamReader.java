@@ -0,0 +1,432 @@
+package nl.wvdzwan.lapp.protobuf;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+
+import nl.wvdzwan.lapp.columnar.ColumnarStore;
+
+/**
+ * Reads a lapp file one record at a time.
+ *
+ * <p>Streamed files (see {@link LappStreamWriter}), compact files and files containing a single Lapp.Package message
+ * are supported. The format is detected from the first bytes: a serialized Package never starts with 'L', as that
+ * would be an end group tag. For a Package every repeated field is parsed on its own, so neither format is loaded in
+ * memory as a whole. A compact file is parsed at once, but its records are far smaller. Columnar stores are memory
+ * mapped and can only be opened from a file.</p>
+ */
+public class LappStreamReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream inputStream;
+    private final CodedInputStream input;
+    private final int format;
+
+    private final Lapp.Header header;
+    private final Map<String, String> metadata = new HashMap<>();
+
+    private Lapp.CompactPackage compactPackage;
+    private Lapp.Method[] compactMethods;
+
+    private ColumnarStore columnarStore;
+    private int sourceMethod = 0;
+    private Lapp.Method source;
+
+    private Lapp.Record.RecordCase section = Lapp.Record.RecordCase.ARTIFACT;
+    private int sectionIndex = 0;
+
+    public LappStreamReader(InputStream inputStream) throws IOException {
+        this.inputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        this.format = readMagic(this.inputStream);
+
+        this.input = CodedInputStream.newInstance(this.inputStream);
+
+        if (format == LappStreamWriter.COLUMNAR_FORMAT) {
+            throw new IOException("Columnar lapp stores can only be opened from a file");
+        } else if (format == LappStreamWriter.STREAM_FORMAT) {
+            Lapp.Record first = readRecord();
+            if (first == null || first.getRecordCase() != Lapp.Record.RecordCase.HEADER) {
+                throw new IOException("Lapp stream does not start with a header");
+            }
+            header = first.getHeader();
+        } else if (format == LappStreamWriter.COMPACT_FORMAT) {
+            compactPackage = Lapp.CompactPackage.parseFrom(input);
+            header = Lapp.Header.newBuilder()
+                    .setVersion(LappStreamWriter.COMPACT_FORMAT)
+                    .putAllMetadata(compactPackage.getMetadataMap())
+                    .build();
+        } else {
+            header = Lapp.Header.getDefaultInstance();
+        }
+        metadata.putAll(header.getMetadataMap());
+    }
+
+    private LappStreamReader(ColumnarStore columnarStore) {
+        this.inputStream = null;
+        this.input = null;
+        this.format = LappStreamWriter.COLUMNAR_FORMAT;
+
+        this.columnarStore = columnarStore;
+        this.header = Lapp.Header.newBuilder().setVersion(LappStreamWriter.COLUMNAR_FORMAT).build();
+    }
+
+    public static LappStreamReader open(File file) throws IOException {
+        if (readFormat(file) == LappStreamWriter.COLUMNAR_FORMAT) {
+            return new LappStreamReader(ColumnarStore.open(file));
+        }
+
+        return new LappStreamReader(new FileInputStream(file));
+    }
+
+    /**
+     * Read a complete package in memory, only to be used by consumers that need all records at the same time.
+     *
+     * @param file lapp file in any of the supported formats
+     * @return package containing all records of the file
+     * @throws IOException when the file could not be read or parsed
+     */
+    public static Lapp.Package readPackage(File file) throws IOException {
+        try (LappStreamReader reader = open(file)) {
+            if (!reader.isStream()) {
+                return Lapp.Package.parseFrom(reader.inputStream);
+            }
+
+            Lapp.Package.Builder builder = Lapp.Package.newBuilder();
+            for (Lapp.Record record = reader.next(); record != null; record = reader.next()) {
+                switch (record.getRecordCase()) {
+                    case ARTIFACT:
+                        builder.addArtifacts(record.getArtifact());
+                        break;
+                    case CLASSRECORD:
+                        builder.addClassRecords(record.getClassRecord());
+                        break;
+                    case RESOLVEDCALL:
+                        builder.addResolvedCalls(record.getResolvedCall());
+                        break;
+                    case UNRESOLVEDCALL:
+                        builder.addUnresolvedCalls(record.getUnresolvedCall());
+                        break;
+                }
+            }
+            builder.putAllMetadata(reader.getMetadata());
+
+            return builder.build();
+        }
+    }
+
+    /**
+     * Read only the metadata of a file, for single message files all other fields are skipped without parsing them.
+     *
+     * @param file lapp file in any of the supported formats
+     * @return metadata of the file
+     * @throws IOException when the file could not be read or parsed
+     */
+    public static Map<String, String> readMetadata(File file) throws IOException {
+        try (LappStreamReader reader = open(file)) {
+            if (!reader.isStream()) {
+                reader.skipToMetadata();
+            }
+
+            return reader.getMetadata();
+        }
+    }
+
+    /**
+     * @return true when the file starts with the lapp magic bytes, false for a single Lapp.Package message
+     */
+    public boolean isStream() {
+        return format != 0;
+    }
+
+    /**
+     * @return format byte following the magic bytes, 0 for a single Lapp.Package message
+     */
+    public int getFormat() {
+        return format;
+    }
+
+    Lapp.CompactPackage getCompactPackage() {
+        return compactPackage;
+    }
+
+    public Lapp.Header getHeader() {
+        return header;
+    }
+
+    /**
+     * Metadata of the file. For single message files metadata is only complete after all records are read, use
+     * {@link #readMetadata(File)} when it is needed before the records.
+     */
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @return the next artifact, class record or call, null at the end of the file
+     * @throws IOException when the file could not be read or parsed
+     */
+    public Lapp.Record next() throws IOException {
+        switch (format) {
+            case LappStreamWriter.STREAM_FORMAT:
+                return readRecord();
+            case LappStreamWriter.COMPACT_FORMAT:
+                return readCompactRecord();
+            case LappStreamWriter.COLUMNAR_FORMAT:
+                return readColumnarRecord();
+            default:
+                return readPackageField();
+        }
+    }
+
+    private Lapp.Record readRecord() throws IOException {
+        if (input.isAtEnd()) {
+            return null;
+        }
+
+        Lapp.Record record = input.readMessage(Lapp.Record.parser(), ExtensionRegistryLite.getEmptyRegistry());
+
+        // Files can exceed the 2GB size limit, only a single record has to fit
+        input.resetSizeCounter();
+
+        return record;
+    }
+
+    private Lapp.Record readCompactRecord() {
+        // Sections are read in order, a finished section falls through to the next one
+        switch (section) {
+            case ARTIFACT:
+                if (sectionIndex < compactPackage.getArtifactsCount()) {
+                    return Lapp.Record.newBuilder().setArtifact(compactPackage.getArtifacts(sectionIndex++)).build();
+                }
+                nextSection(Lapp.Record.RecordCase.CLASSRECORD);
+            case CLASSRECORD:
+                if (sectionIndex < compactPackage.getClassRecordsCount()) {
+                    return Lapp.Record.newBuilder().setClassRecord(fromCompact(compactPackage.getClassRecords(sectionIndex++))).build();
+                }
+                nextSection(Lapp.Record.RecordCase.RESOLVEDCALL);
+            case RESOLVEDCALL:
+                if (sectionIndex < compactPackage.getResolvedCallsCount()) {
+                    return Lapp.Record.newBuilder().setResolvedCall(fromCompact(compactPackage.getResolvedCalls(sectionIndex++))).build();
+                }
+                nextSection(Lapp.Record.RecordCase.UNRESOLVEDCALL);
+            case UNRESOLVEDCALL:
+                if (sectionIndex < compactPackage.getUnresolvedCallsCount()) {
+                    return Lapp.Record.newBuilder().setUnresolvedCall(fromCompact(compactPackage.getUnresolvedCalls(sectionIndex++))).build();
+                }
+                nextSection(Lapp.Record.RecordCase.RECORD_NOT_SET);
+            default:
+                return null;
+        }
+    }
+
+    private Lapp.Record readColumnarRecord() {
+        // Sections are read in order, a finished section falls through to the next one
+        switch (section) {
+            case ARTIFACT:
+                if (sectionIndex < columnarStore.getArtifactCount()) {
+                    return Lapp.Record.newBuilder().setArtifact(columnarStore.getArtifact(sectionIndex++)).build();
+                }
+                nextSection(Lapp.Record.RecordCase.CLASSRECORD);
+            case CLASSRECORD:
+                if (sectionIndex < columnarStore.getClassCount()) {
+                    return Lapp.Record.newBuilder().setClassRecord(columnarStore.getClassRecord(sectionIndex++)).build();
+                }
+                nextSection(Lapp.Record.RecordCase.RESOLVEDCALL);
+            case RESOLVEDCALL:
+                Lapp.Call resolvedCall = nextColumnarCall(columnarStore.getResolvedCalls());
+                if (resolvedCall != null) {
+                    return Lapp.Record.newBuilder().setResolvedCall(resolvedCall).build();
+                }
+                nextSection(Lapp.Record.RecordCase.UNRESOLVEDCALL);
+            case UNRESOLVEDCALL:
+                Lapp.Call unresolvedCall = nextColumnarCall(columnarStore.getUnresolvedCalls());
+                if (unresolvedCall != null) {
+                    return Lapp.Record.newBuilder().setUnresolvedCall(unresolvedCall).build();
+                }
+                nextSection(Lapp.Record.RecordCase.RECORD_NOT_SET);
+            default:
+                return null;
+        }
+    }
+
+    private Lapp.Call nextColumnarCall(ColumnarStore.Adjacency calls) {
+        if (sectionIndex >= calls.getCount()) {
+            return null;
+        }
+
+        if (source == null || sectionIndex >= calls.end(sourceMethod)) {
+            while (sectionIndex >= calls.end(sourceMethod)) {
+                sourceMethod++;
+            }
+            source = columnarStore.getMethod(sourceMethod);
+        }
+
+        int edge = sectionIndex++;
+        return Lapp.Call.newBuilder()
+                .setSource(source)
+                .setTarget(columnarStore.getMethod(calls.target(edge)))
+                .setCallType(calls.type(edge))
+                .build();
+    }
+
+    private void nextSection(Lapp.Record.RecordCase next) {
+        section = next;
+        sectionIndex = 0;
+        sourceMethod = 0;
+        source = null;
+    }
+
+    private Lapp.ClassRecord fromCompact(Lapp.CompactClassRecord record) {
+        Lapp.ClassRecord.Builder builder = Lapp.ClassRecord.newBuilder()
+                .setName(compactPackage.getStrings(record.getName()))
+                .setPackage(compactPackage.getStrings(record.getPackage()))
+                .setSuperClass(compactPackage.getStrings(record.getSuperClass()))
+
+                .setPublic(record.getPublic())
+                .setPrivate(record.getPrivate())
+                .setInterface(record.getInterface())
+                .setAbstract(record.getAbstract());
+
+        record.getInterfacesList().forEach(i -> builder.addInterfaces(compactPackage.getStrings(i)));
+        record.getMethodsList().forEach(m -> builder.addMethods(compactPackage.getStrings(m)));
+
+        return builder.build();
+    }
+
+    private Lapp.Call fromCompact(Lapp.CompactCall call) {
+        if (compactMethods == null) {
+            // Methods are shared by all calls that refer to them
+            compactMethods = new Lapp.Method[compactPackage.getMethodsCount()];
+            for (int i = 0; i < compactMethods.length; i++) {
+                Lapp.CompactMethod m = compactPackage.getMethods(i);
+                compactMethods[i] = Lapp.Method.newBuilder()
+                        .setNamespace(compactPackage.getStrings(m.getNamespace()))
+                        .setSymbol(compactPackage.getStrings(m.getSymbol()))
+                        .setArtifact(compactPackage.getStrings(m.getArtifact()))
+                        .build();
+            }
+        }
+
+        return Lapp.Call.newBuilder()
+                .setSource(compactMethods[call.getSource()])
+                .setTarget(compactMethods[call.getTarget()])
+                .setCallType(call.getCallType())
+                .build();
+    }
+
+    private Lapp.Record readPackageField() throws IOException {
+        ExtensionRegistryLite registry = ExtensionRegistryLite.getEmptyRegistry();
+
+        while (true) {
+            int tag = input.readTag();
+            input.resetSizeCounter();
+
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 0:
+                    return null;
+                case Lapp.Package.ARTIFACTS_FIELD_NUMBER:
+                    return Lapp.Record.newBuilder()
+                            .setArtifact(input.readMessage(Lapp.Artifact.parser(), registry))
+                            .build();
+                case Lapp.Package.CLASSRECORDS_FIELD_NUMBER:
+                    return Lapp.Record.newBuilder()
+                            .setClassRecord(input.readMessage(Lapp.ClassRecord.parser(), registry))
+                            .build();
+                case Lapp.Package.RESOLVEDCALLS_FIELD_NUMBER:
+                    return Lapp.Record.newBuilder()
+                            .setResolvedCall(input.readMessage(Lapp.Call.parser(), registry))
+                            .build();
+                case Lapp.Package.UNRESOLVEDCALLS_FIELD_NUMBER:
+                    return Lapp.Record.newBuilder()
+                            .setUnresolvedCall(input.readMessage(Lapp.Call.parser(), registry))
+                            .build();
+                case Lapp.Package.METADATA_FIELD_NUMBER:
+                    readMetadataEntry();
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+    }
+
+    private void skipToMetadata() throws IOException {
+        // Metadata entries can be anywhere in the message
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            input.resetSizeCounter();
+
+            if (WireFormat.getTagFieldNumber(tag) == Lapp.Package.METADATA_FIELD_NUMBER) {
+                readMetadataEntry();
+            } else {
+                input.skipField(tag);
+            }
+        }
+    }
+
+    private void readMetadataEntry() throws IOException {
+        // Map entries are messages with the key as field 1 and the value as field 2
+        CodedInputStream entry = CodedInputStream.newInstance(input.readByteArray());
+
+        String key = "";
+        String value = "";
+        for (int tag = entry.readTag(); tag != 0; tag = entry.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1:
+                    key = entry.readStringRequireUtf8();
+                    break;
+                case 2:
+                    value = entry.readStringRequireUtf8();
+                    break;
+                default:
+                    entry.skipField(tag);
+            }
+        }
+
+        metadata.put(key, value);
+    }
+
+    private static int readFormat(File file) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+            return readMagic(inputStream);
+        }
+    }
+
+    private static int readMagic(InputStream inputStream) throws IOException {
+        byte[] magic = new byte[LappStreamWriter.MAGIC.length];
+
+        inputStream.mark(magic.length + 1);
+        int read = inputStream.read(magic);
+
+        if (read != magic.length || !Arrays.equals(magic, LappStreamWriter.MAGIC)) {
+            inputStream.reset();
+            return 0;
+        }
+
+        int format = inputStream.read();
+        if (format != LappStreamWriter.STREAM_FORMAT && format != LappStreamWriter.COMPACT_FORMAT
+                && format != LappStreamWriter.COLUMNAR_FORMAT) {
+            throw new IOException("Unsupported lapp stream format " + format);
+        }
+
+        return format;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (columnarStore != null) {
+            columnarStore.close();
+        } else {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package nl.wvdzwan.lapp.protobuf;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Writes a lapp package as a stream of records instead of a single Lapp.Package message.
+ *
+ * <p>A streamed file starts with the magic bytes "LAPP" followed by a format byte, after that length delimited
+ * Lapp.Record messages follow. The first record is always a header, after that artifacts, class records and calls
+ * are written in the order they are offered to the writer.</p>
+ */
+public class LappStreamWriter implements Closeable {
+
+    public static final byte[] MAGIC = {'L', 'A', 'P', 'P'};
+    public static final byte STREAM_FORMAT = 1;
+    public static final byte COMPACT_FORMAT = 2;
+    public static final byte COLUMNAR_FORMAT = 3;
+    public static final int VERSION = 1;
+
+    private final OutputStream outputStream;
+    private long recordCount = 0;
+
+    public LappStreamWriter(OutputStream outputStream, Map<String, String> metadata) throws IOException {
+        this.outputStream = new BufferedOutputStream(outputStream);
+
+        this.outputStream.write(MAGIC);
+        this.outputStream.write(STREAM_FORMAT);
+
+        write(Lapp.Record.newBuilder()
+                .setHeader(Lapp.Header.newBuilder()
+                        .setVersion(VERSION)
+                        .putAllMetadata(metadata))
+                .build());
+    }
+
+    public void writeArtifact(Lapp.Artifact artifact) throws IOException {
+        write(Lapp.Record.newBuilder().setArtifact(artifact).build());
+    }
+
+    public void writeClassRecord(Lapp.ClassRecord classRecord) throws IOException {
+        write(Lapp.Record.newBuilder().setClassRecord(classRecord).build());
+    }
+
+    public void writeResolvedCall(Lapp.Call call) throws IOException {
+        write(Lapp.Record.newBuilder().setResolvedCall(call).build());
+    }
+
+    public void writeUnresolvedCall(Lapp.Call call) throws IOException {
+        write(Lapp.Record.newBuilder().setUnresolvedCall(call).build());
+    }
+
+    /**
+     * Write all parts of a package.
+     *
+     * @param lappPackage package to write
+     * @throws IOException when writing fails
+     */
+    public void writePackage(Lapp.Package lappPackage) throws IOException {
+        for (Lapp.Artifact artifact : lappPackage.getArtifactsList()) {
+            writeArtifact(artifact);
+        }
+        for (Lapp.ClassRecord classRecord : lappPackage.getClassRecordsList()) {
+            writeClassRecord(classRecord);
+        }
+        for (Lapp.Call call : lappPackage.getResolvedCallsList()) {
+            writeResolvedCall(call);
+        }
+        for (Lapp.Call call : lappPackage.getUnresolvedCallsList()) {
+            writeUnresolvedCall(call);
+        }
+    }
+
+    /**
+     * Write a compact package, the magic bytes and format are followed by a single Lapp.CompactPackage message.
+     *
+     * @param outputStream   stream to write to
+     * @param compactPackage package to write
+     * @throws IOException when writing fails
+     */
+    public static void writeCompact(OutputStream outputStream, Lapp.CompactPackage compactPackage) throws IOException {
+        outputStream.write(MAGIC);
+        outputStream.write(COMPACT_FORMAT);
+
+        compactPackage.writeTo(outputStream);
+        outputStream.flush();
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    private void write(Lapp.Record record) throws IOException {
+        record.writeDelimitedTo(outputStream);
+        recordCount++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -1,5 +1,7 @@
 package nl.wvdzwan.lapp.protobuf;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import nl.wvdzwan.lapp.call.Call;
@@ -82,4 +84,94 @@ public class Protobuf {
 
                 .build();
     }
+
+    /**
+     * Convert to the compact (version 2) format where every string and method is only stored once.
+     */
+    public static Lapp.CompactPackage toCompact(LappPackage p) {
+        Lapp.CompactPackage.Builder builder = Lapp.CompactPackage.newBuilder();
+
+        Map<String, Integer> strings = new HashMap<>();
+        Map<Method, Integer> methods = new HashMap<>();
+        stringId(builder, strings, "");
+
+        builder.addAllArtifacts(p.artifacts.stream().map(Protobuf::of).collect(Collectors.toList()));
+
+        for (ClassRecord r : p.classRecords) {
+            Lapp.CompactClassRecord.Builder record = Lapp.CompactClassRecord.newBuilder()
+                    .setName(stringId(builder, strings, r.name))
+                    .setPackage(stringId(builder, strings, r.artifact))
+                    .setSuperClass(stringId(builder, strings, r.superClass))
+
+                    .setPublic(r.isPublic)
+                    .setPrivate(r.isPrivate)
+                    .setInterface(r.isInterface)
+                    .setAbstract(r.isAbstract);
+
+            for (String i : r.interfaces) {
+                record.addInterfaces(stringId(builder, strings, i));
+            }
+            for (String m : r.methods) {
+                record.addMethods(stringId(builder, strings, m));
+            }
+
+            builder.addClassRecords(record);
+        }
+
+        for (Call c : p.resolvedCalls) {
+            builder.addResolvedCalls(toCompact(builder, strings, methods, c));
+        }
+        for (Call c : p.unresolvedCalls) {
+            builder.addUnresolvedCalls(toCompact(builder, strings, methods, c));
+        }
+
+        builder.putAllMetadata(p.metadata);
+
+        return builder.build();
+    }
+
+    private static Lapp.CompactCall toCompact(Lapp.CompactPackage.Builder builder, Map<String, Integer> strings,
+                                              Map<Method, Integer> methods, Call c) {
+        return Lapp.CompactCall.newBuilder()
+                .setSource(methodId(builder, strings, methods, c.source))
+                .setTarget(methodId(builder, strings, methods, c.target))
+                .setCallType(of(c.callType))
+                .build();
+    }
+
+    private static int methodId(Lapp.CompactPackage.Builder builder, Map<String, Integer> strings,
+                                Map<Method, Integer> methods, Method m) {
+        // Methods are interned by their analysis context, so identity is enough to find duplicates
+        Integer id = methods.get(m);
+        if (id == null) {
+            Lapp.CompactMethod.Builder method = Lapp.CompactMethod.newBuilder()
+                    .setNamespace(stringId(builder, strings, m.namespace))
+                    .setSymbol(stringId(builder, strings, m.symbol));
+
+            if (m instanceof ResolvedMethod) {
+                method.setArtifact(stringId(builder, strings, ((ResolvedMethod) m).artifact));
+            }
+
+            id = builder.getMethodsCount();
+            builder.addMethods(method);
+            methods.put(m, id);
+        }
+
+        return id;
+    }
+
+    private static int stringId(Lapp.CompactPackage.Builder builder, Map<String, Integer> strings, String s) {
+        if (s == null) {
+            s = "";
+        }
+
+        Integer id = strings.get(s);
+        if (id == null) {
+            id = builder.getStringsCount();
+            builder.addStrings(s);
+            strings.put(s, id);
+        }
+
+        return id;
+    }
 }
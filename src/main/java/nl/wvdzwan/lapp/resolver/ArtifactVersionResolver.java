@@ -8,6 +8,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
@@ -49,9 +50,20 @@ public class ArtifactVersionResolver {
      */
     public Version latestBeforeDate(String packageIdentifier, LocalDateTime dateLimit)
             throws VersionRangeResolutionException {
+        return latestBeforeDate(Booter.newRepositorySystemSession(system), packageIdentifier, dateLimit);
+    }
+
+    /**
+     * Return latest version of an artifact before date, using the caches of an existing session.
+     *
+     * <p>The session itself is not modified, the date limit is set on a copy.</p>
+     */
+    public Version latestBeforeDate(RepositorySystemSession sharedSession, String packageIdentifier,
+                                    LocalDateTime dateLimit)
+            throws VersionRangeResolutionException {
         logger.debug("Find latest version of {} before {}...", packageIdentifier, dateLimit);
 
-        DefaultRepositorySystemSession session = Booter.newRepositorySystemSession(system);
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(sharedSession);
         session.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, dateLimit);
 
 
@@ -59,10 +71,12 @@ public class ArtifactVersionResolver {
 
         VersionRangeRequest rangeRequest = new VersionRangeRequest();
         rangeRequest.setArtifact(artifact);
-        rangeRequest.setRepositories(Booter.newRepositories());
+        rangeRequest.setRepositories(Booter.newRepositories(session));
 
 
+        long start = System.nanoTime();
         VersionRangeResult rangeResult = system.resolveVersionRange(session, rangeRequest);
+        ResolveMetrics.of(session).recordSince("find-version", start);
 
         if (rangeResult.getVersions().size() == 0) {
             logger.error("No suitable artifact found for {} before {}", packageIdentifier, dateLimit);
@@ -89,10 +103,9 @@ public class ArtifactVersionResolver {
             // TODO make nice exception
         }
 
-        for (VersionDate versionDate : project.getVersions()) {
-            if (versionDate.getNumber().equals(version)) {
-                return versionDate.getPublished_at();
-            }
+        LocalDateTime publishedAt = project.getPublishedAt(version);
+        if (publishedAt != null) {
+            return publishedAt;
         }
 
         List<String> foundVersions = project.getVersions().stream()
@@ -2,7 +2,7 @@ package nl.wvdzwan.lapp.resolver;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,12 +17,12 @@ import org.eclipse.aether.version.Version;
 
 import nl.wvdzwan.librariesio.LibrariesIoInterface;
 import nl.wvdzwan.librariesio.Project;
-import nl.wvdzwan.librariesio.VersionDate;
 
 public class CustomVersionRangeResolver extends DefaultVersionRangeResolver {
     protected static Logger logger = LogManager.getLogger("VersionRangeResolver");
 
     public static final String CONFIG_LIMIT_DATE = "time-machine.date";
+    public static final String CONFIG_CONSULTED_PROJECTS = "time-machine.consulted-projects";
 
     private LibrariesIoInterface api;
 
@@ -30,32 +30,46 @@ public class CustomVersionRangeResolver extends DefaultVersionRangeResolver {
     public VersionRangeResult resolveVersionRange(RepositorySystemSession session, VersionRangeRequest request )
             throws VersionRangeResolutionException {
 
+        ResolveMetrics metrics = ResolveMetrics.of(session);
+        long start = System.nanoTime();
         VersionRangeResult parentResult = super.resolveVersionRange(session, request);
+        metrics.recordSince("version-range-metadata", start);
 
         // Only filter if version was actually a range
         if (parentResult.getVersionConstraint().getRange() != null) {
             logger.info("Resolve version range for {}", () -> request.getArtifact().getArtifactId());
 
             Artifact artifact = request.getArtifact();
-            Project project = api.getProjectInfo(artifact.getGroupId() + ":" + artifact.getArtifactId());
+            String identifier = artifact.getGroupId() + ":" + artifact.getArtifactId();
+            recordConsulted(session, identifier);
 
-            LocalDateTime date = (LocalDateTime) session.getConfigProperties().get(CONFIG_LIMIT_DATE);
-
-            List<String> dateFilteredVersions = project.getVersions().stream()
-                    .filter(v -> v.getPublished_at().isBefore(date)) // Filter on timestamp
-                    .map(VersionDate::getNumber)
-                    .collect(Collectors.toList());
+            start = System.nanoTime();
+            Project project = api.getProjectInfo(identifier);
+            metrics.recordSince("project-lookup", start);
+            metrics.increment("version-range-filters");
 
+            LocalDateTime date = (LocalDateTime) session.getConfigProperties().get(CONFIG_LIMIT_DATE);
 
             List<Version> versions = parentResult.getVersions();
 
-            versions.removeIf(testVersion -> !dateFilteredVersions.contains(testVersion.toString()));
+            versions.removeIf(testVersion -> !project.isPublishedBefore(testVersion.toString(), date));
 
         }
 
         return parentResult;
     }
 
+    /**
+     * Add a project whose publish dates decided the outcome of the request, when the session collects them.
+     */
+    @SuppressWarnings("unchecked")
+    static void recordConsulted(RepositorySystemSession session, String identifier) {
+        Set<String> consulted = (Set<String>) session.getConfigProperties().get(CONFIG_CONSULTED_PROJECTS);
+        if (consulted != null) {
+            consulted.add(identifier);
+        }
+    }
+
     @Override
     public void initService( ServiceLocator locator ) {
         super.initService(locator);
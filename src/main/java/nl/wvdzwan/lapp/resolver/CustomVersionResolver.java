@@ -1,7 +1,8 @@
 package nl.wvdzwan.lapp.resolver;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,15 +17,14 @@ import org.eclipse.aether.spi.locator.ServiceLocator;
 import nl.wvdzwan.lapp.resolver.util.LibIOVersionResolutionException;
 import nl.wvdzwan.librariesio.LibrariesIoInterface;
 import nl.wvdzwan.librariesio.Project;
-import nl.wvdzwan.librariesio.VersionDate;
-import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
 
 public class CustomVersionResolver extends DefaultVersionResolver {
     protected static Logger logger = LogManager.getLogger("VersionRangeResolver");
 
     private LibrariesIoInterface api;
 
-    private HashSet<String> verifiedArtifacts = new HashSet<>();
+    // Publish dates of verified versions, the limit date can differ between requests of a session
+    private Map<String, LocalDateTime> verifiedArtifacts = new ConcurrentHashMap<>();
 
     @Override
     public VersionResult resolveVersion(RepositorySystemSession session, VersionRequest request)
@@ -32,30 +32,37 @@ public class CustomVersionResolver extends DefaultVersionResolver {
         VersionResult parentResult = super.resolveVersion(session, request);
 
         Artifact artifact = request.getArtifact();
+        String identifier = artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + parentResult.getVersion();
 
-        if (verifiedArtifacts.contains(ArtifactRecord.getIdentifier(artifact))) {
-            logger.trace("Artifact {} publish date already verified this session, just accept", () -> ArtifactRecord.getIdentifier(artifact));
-            return parentResult;
-        }
+        LocalDateTime date = (LocalDateTime) session.getConfigProperties().get(CustomVersionRangeResolver.CONFIG_LIMIT_DATE);
 
-        logger.info("Check publish date of {}", () -> ArtifactRecord.getIdentifier(artifact));
+        CustomVersionRangeResolver.recordConsulted(session, artifact.getGroupId() + ":" + artifact.getArtifactId());
 
-        Project project = api.getProjectInfo(artifact.getGroupId() + ":" + artifact.getArtifactId());
+        ResolveMetrics metrics = ResolveMetrics.of(session);
+        LocalDateTime published = verifiedArtifacts.get(identifier);
+        if (published != null) {
+            logger.trace("Artifact {} publish date already verified this session", identifier);
+            metrics.increment("version-checks-cached");
+        } else {
+            logger.info("Check publish date of {}", identifier);
 
-        LocalDateTime date = (LocalDateTime) session.getConfigProperties().get(CustomVersionRangeResolver.CONFIG_LIMIT_DATE);
+            long start = System.nanoTime();
+            Project project = api.getProjectInfo(artifact.getGroupId() + ":" + artifact.getArtifactId());
+            metrics.recordSince("project-lookup", start);
+            metrics.increment("version-checks");
+            published = project == null ? null : project.getPublishedAt(parentResult.getVersion());
 
+            if (published == null) {
+                throw new LibIOVersionResolutionException(parentResult);
+            }
 
-        boolean foundVersion = project.getVersions().stream()
-                .filter(v -> v.getPublished_at().isBefore(date)) // Filter on timestamp
-                .map(VersionDate::getNumber)
-                .anyMatch(s -> s.equals(parentResult.getVersion()));
+            verifiedArtifacts.put(identifier, published);
+        }
 
-        if (!foundVersion) {
+        if (!published.isBefore(date)) {
             throw new LibIOVersionResolutionException(parentResult);
         }
 
-        verifiedArtifacts.add(ArtifactRecord.getIdentifier(artifact));
-
         return parentResult;
 
     }
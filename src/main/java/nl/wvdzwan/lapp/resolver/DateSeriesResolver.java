@@ -0,0 +1,89 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.resolution.VersionRangeResolutionException;
+
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.Project;
+
+/**
+ * Resolve one artifact at a series of increasing dates.
+ *
+ * <p>The versions in a dependency tree only depend on the publish dates of the projects that were consulted while
+ * resolving it. When none of those projects published a version between the previous date and the next, the tree of
+ * the previous date is returned without collecting it again.</p>
+ */
+public class DateSeriesResolver {
+
+    private static final Logger logger = LogManager.getLogger(DateSeriesResolver.class);
+
+    private final ResolveDependencies resolver;
+    private final LibrariesIoInterface api;
+
+    private LocalDateTime previousDate;
+    private DependencyResult previousResult;
+    private Set<String> previousProjects;
+
+    private int reused = 0;
+
+    public DateSeriesResolver(ResolveDependencies resolver, LibrariesIoInterface api) {
+        this.resolver = resolver;
+        this.api = api;
+    }
+
+    /**
+     * @param dateLimit date after the date of the previous call
+     */
+    public DependencyResult resolveFromDate(String packageIdentifier, LocalDateTime dateLimit)
+            throws VersionRangeResolutionException, DependencyResolutionException {
+
+        if (previousResult != null && !dateLimit.isBefore(previousDate)
+                && !publishedBetween(previousProjects, previousDate, dateLimit)) {
+            logger.info("No consulted project changed between {} and {}, reusing dependency tree",
+                    previousDate, dateLimit);
+
+            previousDate = dateLimit;
+            reused++;
+            ResolveMetrics.of(resolver.getSession()).increment("reused-trees");
+            return previousResult;
+        }
+
+        previousResult = null;
+        Set<String> consultedProjects = ConcurrentHashMap.newKeySet();
+        DependencyResult result = resolver.resolveFromDate(packageIdentifier, dateLimit, consultedProjects);
+
+        previousDate = dateLimit;
+        previousResult = result;
+        previousProjects = consultedProjects;
+
+        return result;
+    }
+
+    /**
+     * @return true when one of the projects published a version on or after from and before to
+     */
+    private boolean publishedBetween(Set<String> projects, LocalDateTime from, LocalDateTime to) {
+        for (String identifier : projects) {
+            Project project = api.getProjectInfo(identifier);
+            if (project == null || project.getVersionsBefore(to).size() != project.getVersionsBefore(from).size()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return number of dates for which the tree of the previous date was reused
+     */
+    public int getReusedCount() {
+        return reused;
+    }
+}
@@ -1,33 +1,52 @@
 package nl.wvdzwan.lapp.resolver;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.impl.DefaultServiceLocator;
 import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import picocli.CommandLine;
 
+import nl.wvdzwan.lapp.index.VersionIndex;
 import nl.wvdzwan.lapp.resolver.outputs.ConsoleOutput;
 import nl.wvdzwan.lapp.resolver.outputs.DependencyJarFolder;
 import nl.wvdzwan.lapp.resolver.outputs.DependencyTreeWriterOutput;
+import nl.wvdzwan.lapp.resolver.outputs.JarStore;
+import nl.wvdzwan.lapp.resolver.outputs.MetricsReportOutput;
 import nl.wvdzwan.lapp.resolver.outputs.OutputHandler;
 import nl.wvdzwan.lapp.resolver.util.Booter;
 import nl.wvdzwan.lapp.resolver.util.LibIOVersionResolutionException;
 import nl.wvdzwan.lapp.resolver.util.VersionNotFoundException;
 import nl.wvdzwan.librariesio.ApiConnectionParameters;
+import nl.wvdzwan.librariesio.CachingLibrariesIoClient;
+import nl.wvdzwan.librariesio.HttpClientInterface;
+import nl.wvdzwan.librariesio.LibrariesIoClient;
 import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.PooledHttpClient;
 import nl.wvdzwan.librariesio.RateLimitedClient;
+import nl.wvdzwan.librariesio.SharedTokenBucket;
+import nl.wvdzwan.librariesio.TokenBucket;
 
 
 @CommandLine.Command(
@@ -56,6 +75,48 @@ public class Main implements Callable<File> {
     )
     private boolean rateLimit = false;
 
+    @CommandLine.Option(
+            names = {"--limit-rate"},
+            description = "Requests per minute when rate limiting (default: 54)"
+    )
+    private double limitRate = 54;
+
+    @CommandLine.Option(
+            names = {"--limit-burst"},
+            description = "Requests that can be made at once when rate limiting (default: 1)"
+    )
+    private int limitBurst = 1;
+
+    @CommandLine.Option(
+            names = {"--limit-file"},
+            description = "File to share the rate limit with other processes using the same file"
+    )
+    private File limitFile = null;
+
+    @CommandLine.Option(
+            names = {"--cache-ttl"},
+            description = "Hours to reuse project information cached in the local repository, 0 to always refresh (default: 24)"
+    )
+    private long cacheTtlHours = CachingLibrariesIoClient.DEFAULT_TTL.toHours();
+
+    @CommandLine.Option(
+            names = {"--connect-timeout"},
+            description = "Seconds to wait for a connection to the api (default: 10)"
+    )
+    private long connectTimeout = PooledHttpClient.DEFAULT_CONNECT_TIMEOUT.getSeconds();
+
+    @CommandLine.Option(
+            names = {"--read-timeout"},
+            description = "Seconds to wait for a response of the api (default: 30)"
+    )
+    private long readTimeout = PooledHttpClient.DEFAULT_READ_TIMEOUT.getSeconds();
+
+    @CommandLine.Option(
+            names = {"--index"},
+            description = "Offline version-date index to use instead of the api, see 'index build'"
+    )
+    private File indexFile = null;
+
 
     @CommandLine.Option(
             names = {"-d", "--date"},
@@ -63,14 +124,76 @@ public class Main implements Callable<File> {
     )
     private boolean searchByDate = false;
 
+    @CommandLine.Option(
+            names = {"-b", "--batch"},
+            description = "Read first argument as a file listing a package identifier and version per line, "
+                    + "all are resolved in one session"
+    )
+    private boolean isBatch = false;
+
+    @CommandLine.Option(
+            names = {"--dates"},
+            split = ",",
+            description = "Resolve the package at each of these dates (format: yyyy-MM-dd), a dependency tree is "
+                    + "reused for the next date while none of the projects it depends on published a version"
+    )
+    private List<String> dates = new ArrayList<>();
+
 
     @CommandLine.Option(
             names = {"-o", "--output"},
-            description = "Output folder, defaults to \"output/[group]_[artifact]_[version]\""
+            description = "Output folder, defaults to \"output/[group]_[artifact]_[version]\". "
+                    + "In batch mode the folder the output folder of every package is created in"
     )
     private File outputDirectoryArgument = null;
 
 
+    @CommandLine.Option(
+            names = {"--jars"},
+            description = "How jars are placed in the output folder: COPY, HARDLINK or SYMLINK (default: COPY)"
+    )
+    private DependencyJarFolder.LinkMode linkMode = DependencyJarFolder.LinkMode.COPY;
+
+    @CommandLine.Option(
+            names = {"--store"},
+            description = "Shared content addressed jar store, classpath.txt will refer to jars in the store"
+    )
+    private File storeDirectory = null;
+
+    @CommandLine.Option(
+            names = {"--copy-threads"},
+            description = "Number of jars copied at the same time (default: 4)"
+    )
+    private int copyThreads = DependencyJarFolder.DEFAULT_THREADS;
+
+    @CommandLine.Option(
+            names = {"--download-threads"},
+            description = "Number of artifacts downloaded at the same time (default: 8)"
+    )
+    private int downloadThreads = Booter.DEFAULT_DOWNLOAD_THREADS;
+
+    @CommandLine.Option(
+            names = {"-r", "--repository"},
+            description = "Maven repository to resolve from as [id]::[url] or [url], file:// urls can be used for "
+                    + "local mirrors. Can be repeated, defaults to Maven Central"
+    )
+    private List<String> repositories = new ArrayList<>();
+
+    @CommandLine.Option(
+            names = {"--offline"},
+            description = "Only resolve from the local repository and file:// repositories, "
+                    + "only cached project information is used regardless of its age"
+    )
+    private boolean offline = false;
+
+    @CommandLine.Option(
+            names = {"--no-result-cache"},
+            description = "Always resolve the dependency tree, instead of reusing a tree stored for the same "
+                    + "package, version and date"
+    )
+    private boolean noResultCache = false;
+
+
     @CommandLine.Parameters(
             index = "0",
             paramLabel = "package_identifier",
@@ -81,12 +204,16 @@ public class Main implements Callable<File> {
 
     @CommandLine.Parameters(
             index = "1",
+            arity = "0..1",
             paramLabel = "version",
             description = "Package version or if --date is used the date used for finding the latest version."
     )
     private String versionOrDate;
 
 
+    private ResolveMetrics metrics = new ResolveMetrics();
+
+
     public static void main(String[] args) {
 
         logger.debug("Supplied arguments: {}", Arrays.toString(args));
@@ -95,37 +222,163 @@ public class Main implements Callable<File> {
 
 
     public File call() throws Exception {
-        logger.info("Start analysis of {}", packageIdentifier);
+        if (!isBatch && dates.isEmpty() && versionOrDate == null) {
+            CommandLine.usage(new Main(), System.out);
+            return null;
+        }
 
         DefaultServiceLocator locator = Booter.newServiceLocator();
+        locator.setServices(HttpClientInterface.class, new PooledHttpClient(PooledHttpClient.DEFAULT_MAX_CONNECTIONS,
+                Duration.ofSeconds(connectTimeout), Duration.ofSeconds(readTimeout)));
         if (rateLimit) {
-            locator.setService(LibrariesIoInterface.class, RateLimitedClient.class);
+            locator.setService(LibrariesIoClient.class, RateLimitedClient.class);
+        }
+
+        if (indexFile != null) {
+            locator.setServices(LibrariesIoInterface.class, VersionIndex.open(indexFile));
         }
 
         initLibrariesIoApi(locator, new ApiConnectionParameters(apiBaseUrl, apiKey));
+        initLibrariesIoCache(locator);
+        if (rateLimit) {
+            initRateLimit(locator);
+        }
 
         RepositorySystem system = Booter.newRepositorySystem(locator);
         ArtifactVersionResolver versionFinder = new ArtifactVersionResolver(system, locator.getService(LibrariesIoInterface.class));
 
 
         ResolveDependencies resolver = new ResolveDependencies(system, versionFinder);
-        DependencyResult resolveResult;
+        metrics = ResolveMetrics.of(resolver.getSession());
+        initLibrariesIoMetrics(locator);
+        DefaultRepositorySystemSession session = resolver.getSession();
+        session.setConfigProperty(Booter.CONFIG_DOWNLOAD_THREADS, downloadThreads);
+        if (!repositories.isEmpty()) {
+            Booter.setRepositories(session, repositories.stream()
+                    .map(Booter::newRepository)
+                    .collect(Collectors.toList()));
+        }
+        if (offline) {
+            Booter.setOffline(system, session);
+        }
+        if (!noResultCache) {
+            String versionSource = indexFile != null ? indexFile.getAbsolutePath() : apiBaseUrl;
+            resolver.setResultCache(new ResolutionCache(new File(Booter.LOCAL_REPO, ".resolutions"), versionSource));
+        }
 
-        if (searchByDate) {
-            logger.debug("Parse date");
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        if (isBatch) {
+            return runBatch(resolver);
+        }
+
+        if (!dates.isEmpty()) {
+            return runDates(resolver, locator.getService(LibrariesIoInterface.class));
+        }
 
-            LocalDateTime dateStamp;
+        return resolve(resolver, packageIdentifier, versionOrDate, outputDirectoryArgument, new File("output"));
+    }
+
+    /**
+     * Resolve all packages of the batch file with one resolver, the repository system, session caches and verified
+     * versions are reused while the date limit is set per package.
+     */
+    private File runBatch(ResolveDependencies resolver) throws IOException {
+        List<String[]> packages = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(packageIdentifier))) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
 
+            String[] fields = line.split("\\s+");
+            if (fields.length != 2) {
+                logger.error("Invalid batch line \"{}\", expected \"[package_identifier] [version]\"", line);
+                return null;
+            }
+            packages.add(fields);
+        }
+
+        File baseFolder = outputDirectoryArgument != null ? outputDirectoryArgument : new File("output");
+
+        logger.info("Resolve {} packages", packages.size());
+        int failed = 0;
+        for (String[] fields : packages) {
+            File outputFolder;
             try {
-                dateStamp = LocalDate.parse(versionOrDate, formatter).atStartOfDay();
-            } catch (DateTimeParseException e) {
+                outputFolder = resolve(resolver, fields[0], fields[1], null, baseFolder);
+            } catch (Exception e) {
+                logger.error("Failed to resolve {} {}: {}", fields[0], fields[1], e.getMessage());
+                outputFolder = null;
+            }
+
+            if (outputFolder == null) {
+                failed++;
+            }
+        }
+        logger.info("Batch finished, {}/{} packages resolved", packages.size() - failed, packages.size());
+
+        return failed == 0 ? baseFolder : null;
+    }
+
+    /**
+     * Resolve the package at all dates in chronological order, every date gets its own output folder.
+     */
+    private File runDates(ResolveDependencies resolver, LibrariesIoInterface api) {
+        List<LocalDateTime> dateLimits = new ArrayList<>();
+        for (String date : dates) {
+            LocalDateTime dateLimit = parseDateLimit(date);
+            if (dateLimit == null) {
                 CommandLine.usage(new Main(), System.out);
                 return null;
             }
+            dateLimits.add(dateLimit);
+        }
+        Collections.sort(dateLimits);
+
+        File baseFolder = outputDirectoryArgument != null ? outputDirectoryArgument : new File("output");
 
-            // Dates will be compared to be before or on the same day as the by the user provided date
-            LocalDateTime dateTime = dateStamp.plusDays(1);
+        DateSeriesResolver series = new DateSeriesResolver(resolver, api);
+        int failed = 0;
+        for (LocalDateTime dateLimit : dateLimits) {
+            String date = dateLimit.minusDays(1).toLocalDate().toString();
+
+            metrics.reset();
+            long start = System.nanoTime();
+
+            DependencyResult resolveResult;
+            try {
+                resolveResult = series.resolveFromDate(packageIdentifier, dateLimit);
+            } catch (VersionRangeResolutionException | DependencyResolutionException e) {
+                logger.error("Failed to resolve {} at {}: {}", packageIdentifier, date, e.getMessage());
+                failed++;
+                continue;
+            }
+
+            metrics.recordSince("resolve", start);
+
+            Artifact mainArtifact = resolveResult.getRoot().getArtifact();
+            writeOutput(resolveResult, new File(baseFolder, String.format("%s_%s_%s_%s",
+                    mainArtifact.getGroupId(), mainArtifact.getArtifactId(), mainArtifact.getVersion(), date)));
+        }
+        logger.info("Resolved {} at {}/{} dates, {} dependency trees reused",
+                packageIdentifier, dateLimits.size() - failed, dateLimits.size(), series.getReusedCount());
+
+        return failed == 0 ? baseFolder : null;
+    }
+
+    private File resolve(ResolveDependencies resolver, String packageIdentifier, String versionOrDate,
+                         File outputDirectory, File baseFolder) throws Exception {
+        logger.info("Start analysis of {}", packageIdentifier);
+        metrics.reset();
+        long start = System.nanoTime();
+
+        DependencyResult resolveResult;
+
+        if (searchByDate) {
+            LocalDateTime dateTime = parseDateLimit(versionOrDate);
+            if (dateTime == null) {
+                CommandLine.usage(new Main(), System.out);
+                return null;
+            }
 
             resolveResult = resolver.resolveFromDate(packageIdentifier, dateTime);
 
@@ -160,19 +413,43 @@ public class Main implements Callable<File> {
             return null;
         }
 
-        File outputFolder = getOutputFolder(outputDirectoryArgument, resolveResult);
+        metrics.recordSince("resolve", start);
+
+        File outputFolder = getOutputFolder(outputDirectory, baseFolder, resolveResult);
+        writeOutput(resolveResult, outputFolder);
 
+        return outputFolder;
+    }
+
+    /**
+     * @return the date limit for a date given by the user or null when it can not be parsed
+     */
+    private static LocalDateTime parseDateLimit(String date) {
+        logger.debug("Parse date");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+        LocalDateTime dateStamp;
+
+        try {
+            dateStamp = LocalDate.parse(date, formatter).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        // Dates will be compared to be before or on the same day as the by the user provided date
+        return dateStamp.plusDays(1);
+    }
+
+    private void writeOutput(DependencyResult resolveResult, File outputFolder) {
         if (!outputFolder.exists()) {
             outputFolder.mkdirs();
         }
 
         OutputHandler handler = buildOutputHandler(outputFolder);
         handler.process(resolveResult);
-
-        return outputFolder;
     }
 
-    private File getOutputFolder(File outputDirectory, DependencyResult resolveResult) {
+    private File getOutputFolder(File outputDirectory, File baseFolder, DependencyResult resolveResult) {
 
         // If output directory is supplied by the user just return that folder
         if (outputDirectory != null) {
@@ -183,7 +460,7 @@ public class Main implements Callable<File> {
 
         String artifactFolderName = String.format("%s_%s_%s", mainArtifact.getGroupId(), mainArtifact.getArtifactId(), mainArtifact.getVersion());
 
-        return new File("output", artifactFolderName);
+        return new File(baseFolder, artifactFolderName);
     }
 
     private OutputHandler buildOutputHandler(File outputDirectory) {
@@ -191,7 +468,15 @@ public class Main implements Callable<File> {
 
         handler.add(new ConsoleOutput());
         handler.add(new DependencyTreeWriterOutput(new File(outputDirectory, "dependency_tree.txt")));
-        handler.add(new DependencyJarFolder(outputDirectory));
+        DependencyJarFolder jarFolder;
+        if (storeDirectory != null) {
+            jarFolder = new DependencyJarFolder(outputDirectory, new JarStore(storeDirectory), copyThreads);
+        } else {
+            jarFolder = new DependencyJarFolder(outputDirectory, linkMode, copyThreads);
+        }
+        jarFolder.setMetrics(metrics);
+        handler.add(jarFolder);
+        handler.add(new MetricsReportOutput(new File(outputDirectory, "resolve_metrics.json"), metrics));
 
         return handler;
     }
@@ -206,4 +491,38 @@ public class Main implements Callable<File> {
 
     }
 
+    private void initRateLimit(DefaultServiceLocator locator) {
+        Duration period = Duration.ofMillis((long) Math.ceil(60_000 / limitRate));
+
+        TokenBucket bucket;
+        if (limitFile != null) {
+            bucket = new SharedTokenBucket(limitFile, limitBurst, period);
+        } else {
+            bucket = new TokenBucket(limitBurst, period);
+        }
+
+        ((RateLimitedClient) locator.getService(LibrariesIoClient.class)).setBucket(bucket);
+    }
+
+    private void initLibrariesIoMetrics(DefaultServiceLocator locator) {
+        LibrariesIoInterface api = locator.getService(LibrariesIoInterface.class);
+
+        // Without a cache there are no api clients, publish dates are read from the index
+        if (api instanceof CachingLibrariesIoClient) {
+            ((CachingLibrariesIoClient) api).setCounters(metrics::add);
+            locator.getService(LibrariesIoClient.class).setCounters(metrics::add);
+        }
+    }
+
+    private void initLibrariesIoCache(DefaultServiceLocator locator) {
+        LibrariesIoInterface api = locator.getService(LibrariesIoInterface.class);
+
+        if (api instanceof CachingLibrariesIoClient) {
+            CachingLibrariesIoClient cache = (CachingLibrariesIoClient) api;
+            cache.setCacheDirectory(new File(Booter.LOCAL_REPO, ".libraries-io"));
+            cache.setTtl(Duration.ofHours(cacheTtlHours));
+            cache.setOffline(offline);
+        }
+    }
+
 }
@@ -0,0 +1,68 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.maven.repository.internal.DefaultArtifactDescriptorReader;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.spi.locator.ServiceLocator;
+import org.eclipse.aether.util.artifact.JavaScopes;
+
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+
+/**
+ * Reads artifact descriptors and starts retrieving the project information of their dependencies.
+ *
+ * <p>The version resolvers are called one dependency at a time while the dependency graph is collected. Starting all
+ * lookups of a descriptor at once lets the project information of a whole level of the graph be retrieved
+ * concurrently, so the version resolvers find it in the cache.</p>
+ */
+public class PrefetchingArtifactDescriptorReader extends DefaultArtifactDescriptorReader {
+    private static Logger logger = LogManager.getLogger();
+
+    // Dependencies in these scopes are not collected for transitive dependencies
+    private static final Set<String> SKIPPED_SCOPES = new HashSet<>(Arrays.asList(
+            JavaScopes.TEST, JavaScopes.PROVIDED, JavaScopes.SYSTEM));
+
+    private LibrariesIoInterface api;
+
+    @Override
+    public ArtifactDescriptorResult readArtifactDescriptor(RepositorySystemSession session, ArtifactDescriptorRequest request)
+            throws ArtifactDescriptorException {
+        ArtifactDescriptorResult result = super.readArtifactDescriptor(session, request);
+
+        // Offline only cached projects are used, they are read when needed
+        if (session.isOffline()) {
+            return result;
+        }
+
+        for (Dependency dependency : result.getDependencies()) {
+            if (dependency.isOptional() || SKIPPED_SCOPES.contains(dependency.getScope())) {
+                continue;
+            }
+
+            Artifact artifact = dependency.getArtifact();
+            String identifier = artifact.getGroupId() + ":" + artifact.getArtifactId();
+
+            logger.trace("Prefetch project information of {}", identifier);
+            api.getProjectInfoAsync(identifier);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void initService(ServiceLocator locator) {
+        super.initService(locator);
+
+        this.api = locator.getService(LibrariesIoInterface.class);
+    }
+}
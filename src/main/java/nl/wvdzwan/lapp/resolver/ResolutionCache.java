@@ -0,0 +1,265 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResult;
+
+import nl.wvdzwan.lapp.resolver.outputs.JarStore;
+import nl.wvdzwan.lapp.resolver.util.Booter;
+
+/**
+ * Stores resolved dependency trees on disk, keyed by artifact, version, date limit and resolve configuration.
+ *
+ * <p>A stored result contains the dependency tree, the coordinates and SHA-1 of every resolved artifact and the
+ * projects whose publish dates decided the versions. The jars themselves are taken from the local repository, a stored
+ * result is only used when all of them are still present with the same content. The checksum files next to the jars
+ * are not used for this, they do not change when a jar is replaced.</p>
+ *
+ * <p>The configuration part of the key is a digest of the repositories, the offline mode and the source of the
+ * publish dates, trees resolved from other repositories or with another version index are not reused.</p>
+ */
+public class ResolutionCache {
+
+    private static Logger logger = LogManager.getLogger(ResolutionCache.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final Gson gson = new Gson();
+
+    /**
+     * Version of the stored format, stored results of another version are resolved again.
+     */
+    private static final int FORMAT = 1;
+
+    private final File directory;
+    private final String versionSource;
+
+    /**
+     * @param versionSource identifies where publish dates are looked up, such as the api url or the index file
+     */
+    public ResolutionCache(File directory, String versionSource) {
+        this.directory = directory;
+        this.versionSource = versionSource;
+    }
+
+    private static class StoredNode {
+        String artifact;
+        String scope;
+        boolean optional;
+        List<StoredNode> children = new ArrayList<>();
+    }
+
+    private static class StoredArtifact {
+        String artifact;
+        String sha1;
+    }
+
+    /**
+     * Gson keeps field initializers for fields missing from the json, fields that tell the format apart have none.
+     */
+    private static class StoredResult {
+        int format;
+        StoredNode root;
+        String rootSha1;
+        List<StoredArtifact> artifacts = new ArrayList<>();
+        List<String> consultedProjects;
+    }
+
+    /**
+     * @param consultedProjects the projects that decided the versions of the stored result are added to this set
+     * @return the stored result or null when there is none or one of its jars changed
+     */
+    public DependencyResult get(RepositorySystemSession session, String packageIdentifier, String version,
+                                LocalDateTime dateLimit, Set<String> consultedProjects) {
+        File file = cacheFile(session, packageIdentifier, version, dateLimit);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        StoredResult stored;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            stored = gson.fromJson(reader, StoredResult.class);
+        } catch (IOException | JsonParseException e) {
+            logger.warn("Failed to read stored resolution {}: {}", file, e.getMessage());
+            return null;
+        }
+        if (stored == null || stored.format != FORMAT || stored.root == null || stored.consultedProjects == null) {
+            logger.debug("Stored resolution {} has an older format", file);
+            return null;
+        }
+
+        Map<String, DependencyNode> nodes = new HashMap<>();
+        DependencyNode root = toNode(stored.root, nodes);
+
+        Artifact rootArtifact = localArtifact(session, root.getArtifact(), stored.rootSha1);
+        if (rootArtifact == null) {
+            logger.debug("Stored resolution of {} {} is outdated, the artifact changed", packageIdentifier, version);
+            return null;
+        }
+        root.setArtifact(rootArtifact);
+
+        List<ArtifactResult> artifactResults = new ArrayList<>();
+        for (StoredArtifact storedArtifact : stored.artifacts) {
+            DependencyNode node = nodes.get(storedArtifact.artifact);
+            Artifact artifact = localArtifact(session, new DefaultArtifact(storedArtifact.artifact), storedArtifact.sha1);
+            if (node == null || artifact == null) {
+                logger.debug("Stored resolution of {} {} is outdated, {} changed",
+                        packageIdentifier, version, storedArtifact.artifact);
+                return null;
+            }
+
+            node.setArtifact(artifact);
+            artifactResults.add(new ArtifactResult(new ArtifactRequest(node)).setArtifact(artifact));
+        }
+
+        DependencyResult result = new DependencyResult(new DependencyRequest(root, null));
+        result.setArtifactResults(artifactResults);
+        consultedProjects.addAll(stored.consultedProjects);
+
+        return result;
+    }
+
+    /**
+     * Store a resolved tree, the root and all artifacts in the result must have been resolved.
+     */
+    public void put(RepositorySystemSession session, String packageIdentifier, String version, LocalDateTime dateLimit,
+                    DependencyResult result, Set<String> consultedProjects) {
+        StoredResult stored = new StoredResult();
+        stored.format = FORMAT;
+        stored.root = toStored(result.getRoot());
+        stored.consultedProjects = new ArrayList<>(consultedProjects);
+        Collections.sort(stored.consultedProjects);
+
+        try {
+            stored.rootSha1 = JarStore.computeSha1(result.getRoot().getArtifact().getFile().toPath());
+            for (ArtifactResult artifactResult : result.getArtifactResults()) {
+                StoredArtifact storedArtifact = new StoredArtifact();
+                storedArtifact.artifact = artifactResult.getArtifact().toString();
+                storedArtifact.sha1 = JarStore.computeSha1(artifactResult.getArtifact().getFile().toPath());
+                stored.artifacts.add(storedArtifact);
+            }
+
+            Path target = cacheFile(session, packageIdentifier, version, dateLimit).toPath();
+            Files.createDirectories(target.getParent());
+
+            // Write to a temporary file first, concurrent runs never see a partial file
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(stored, writer);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to store resolution of {} {}: {}", packageIdentifier, version, e.getMessage());
+        }
+    }
+
+    private static StoredNode toStored(DependencyNode node) {
+        StoredNode stored = new StoredNode();
+        stored.artifact = node.getArtifact().toString();
+        if (node.getDependency() != null) {
+            stored.scope = node.getDependency().getScope();
+            stored.optional = node.getDependency().isOptional();
+        }
+
+        for (DependencyNode child : node.getChildren()) {
+            stored.children.add(toStored(child));
+        }
+
+        return stored;
+    }
+
+    private static DependencyNode toNode(StoredNode stored, Map<String, DependencyNode> nodes) {
+        Artifact artifact = new DefaultArtifact(stored.artifact);
+        DefaultDependencyNode node = new DefaultDependencyNode(
+                new Dependency(artifact, stored.scope == null ? "" : stored.scope, stored.optional));
+        nodes.putIfAbsent(stored.artifact, node);
+
+        List<DependencyNode> children = new ArrayList<>();
+        for (StoredNode child : stored.children) {
+            children.add(toNode(child, nodes));
+        }
+        node.setChildren(children);
+
+        return node;
+    }
+
+    /**
+     * @return the artifact with its file in the local repository or null when the file is missing or changed
+     */
+    private static Artifact localArtifact(RepositorySystemSession session, Artifact artifact, String sha1) {
+        File file = new File(session.getLocalRepository().getBasedir(),
+                session.getLocalRepositoryManager().getPathForLocalArtifact(artifact));
+
+        try {
+            if (!file.isFile() || !JarStore.computeSha1(file.toPath()).equals(sha1)) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        return artifact.setFile(file);
+    }
+
+    private File cacheFile(RepositorySystemSession session, String packageIdentifier, String version,
+                           LocalDateTime dateLimit) {
+        // groupId:artifactId is stored as groupId/artifactId/[version]@[date]-[configuration].json
+        return new File(directory, packageIdentifier.replace(':', File.separatorChar)
+                + File.separator + version + "@" + DATE_FORMAT.format(dateLimit)
+                + "-" + configurationKey(session) + ".json");
+    }
+
+    private String configurationKey(RepositorySystemSession session) {
+        StringBuilder configuration = new StringBuilder(versionSource);
+        configuration.append('\n').append(session.isOffline());
+        for (RemoteRepository repository : Booter.newRepositories(session)) {
+            configuration.append('\n').append(repository.getId()).append('=').append(repository.getUrl());
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest(configuration.toString().getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+
+        // A prefix of the digest is enough to tell the few configurations of one local repository apart
+        return hex.substring(0, 12);
+    }
+}
@@ -2,15 +2,20 @@ package nl.wvdzwan.lapp.resolver;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
-import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.resolution.*;
@@ -19,6 +24,7 @@ import org.eclipse.aether.util.filter.ScopeDependencyFilter;
 import org.eclipse.aether.version.Version;
 
 import nl.wvdzwan.lapp.resolver.util.Booter;
+import nl.wvdzwan.lapp.resolver.util.LoggerTransferListener;
 import nl.wvdzwan.lapp.resolver.util.VersionNotFoundException;
 
 
@@ -29,6 +35,7 @@ public class ResolveDependencies {
     private RepositorySystem system;
     private DefaultRepositorySystemSession session;
     private ArtifactVersionResolver versionFinder;
+    private ResolutionCache resultCache;
 
     public ResolveDependencies(RepositorySystem system, ArtifactVersionResolver versionFinder) {
 
@@ -37,14 +44,46 @@ public class ResolveDependencies {
         this.session = Booter.newRepositorySystemSession(system);
     }
 
+    /**
+     * Resolve using an existing session, its caches are kept across all resolved artifacts.
+     */
+    public ResolveDependencies(RepositorySystem system, ArtifactVersionResolver versionFinder,
+                               DefaultRepositorySystemSession session) {
+
+        this.system = system;
+        this.versionFinder = versionFinder;
+        this.session = session;
+    }
+
+    public DefaultRepositorySystemSession getSession() {
+        return session;
+    }
+
+    /**
+     * Reuse dependency trees resolved before for the same artifact, version and date.
+     */
+    public void setResultCache(ResolutionCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
     public DependencyResult resolveFromDate(String packageIdentfier, LocalDateTime dateLimit)
             throws VersionRangeResolutionException, DependencyResolutionException {
+        return resolveFromDate(packageIdentfier, dateLimit, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Resolve the latest version before a date, the projects whose publish dates decided a version are added to
+     * consultedProjects.
+     */
+    public DependencyResult resolveFromDate(String packageIdentfier, LocalDateTime dateLimit, Set<String> consultedProjects)
+            throws VersionRangeResolutionException, DependencyResolutionException {
 
         //  Find version for date
-        Version latestVersion = versionFinder.latestBeforeDate(packageIdentfier, dateLimit);
+        Version latestVersion = versionFinder.latestBeforeDate(newRequestSession(dateLimit, consultedProjects),
+                packageIdentfier, dateLimit);
 
         // Resolve for version & date
-        return resolve(packageIdentfier, latestVersion.toString(), dateLimit);
+        return resolve(packageIdentfier, latestVersion.toString(), dateLimit, consultedProjects);
 
     }
 
@@ -52,7 +91,9 @@ public class ResolveDependencies {
             throws DependencyResolutionException, VersionNotFoundException {
 
         // Add 1 day to compare to before or on this day with less than
+        long start = System.nanoTime();
         LocalDateTime dateLimit = versionFinder.dateOfVersion(packageIdentifier, version).plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        ResolveMetrics.of(session).recordSince("find-version", start);
 
         // Resolve for version & date
         return resolve(packageIdentifier, version, dateLimit);
@@ -61,50 +102,91 @@ public class ResolveDependencies {
 
     public DependencyResult resolve(String packageIdentifier, String version, LocalDateTime datetimeLimit)
             throws DependencyResolutionException {
+        return resolve(packageIdentifier, version, datetimeLimit, ConcurrentHashMap.newKeySet());
+    }
+
+    public DependencyResult resolve(String packageIdentifier, String version, LocalDateTime datetimeLimit,
+                                    Set<String> consultedProjects)
+            throws DependencyResolutionException {
         logger.debug(
                 "Resolve dependency tree for {} {} travelling back to {}",
                 packageIdentifier, version, datetimeLimit
         );
 
-        session.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, datetimeLimit);
-
-
-        try {
-            ArtifactResult artifactResult = resolveArtifact(packageIdentifier, version);
-
-
-
-            CollectRequest collectRequest = new CollectRequest();
-            collectRequest.setRoot(new Dependency(artifactResult.getArtifact(), ""));
-            collectRequest.setRepositories(Booter.newRepositories());
-
-            HashSet<String> included = new HashSet<>();
-            included.add(JavaScopes.COMPILE);
-            DependencyFilter dependencyFilter = new ScopeDependencyFilter(included, null);
+        ResolveMetrics metrics = ResolveMetrics.of(session);
+        if (resultCache != null) {
+            DependencyResult cached = resultCache.get(session, packageIdentifier, version, datetimeLimit, consultedProjects);
+            if (cached != null) {
+                logger.info("Using stored dependency tree of {} {}", packageIdentifier, version);
+                metrics.increment("result-cache-hits");
+                return cached;
+            }
+            metrics.increment("result-cache-misses");
+        }
 
-            DependencyRequest dependencyRequest = new DependencyRequest(collectRequest, dependencyFilter);
+        DefaultRepositorySystemSession requestSession = newRequestSession(datetimeLimit, consultedProjects);
 
-            DependencyResult dependencyResult = system.resolveDependencies(session, dependencyRequest);
+        // The root artifact is resolved together with its dependencies, the connector downloads them in parallel
+        CollectRequest collectRequest = new CollectRequest();
+        collectRequest.setRoot(new Dependency(new DefaultArtifact(packageIdentifier + ":" + version), ""));
+        collectRequest.setRepositories(Booter.newRepositories(requestSession));
 
-            return dependencyResult;
+        HashSet<String> included = new HashSet<>();
+        included.add(JavaScopes.COMPILE);
+        DependencyFilter scopeFilter = new ScopeDependencyFilter(included, null);
+        DependencyFilter dependencyFilter = (node, parents) -> parents.isEmpty() || scopeFilter.accept(node, parents);
 
-        } catch (ArtifactResolutionException e) {
-            throw new DependencyResolutionException(null, e);
+        try {
+            // Collect and resolve separately to measure the time spent in each
+            long start = System.nanoTime();
+            CollectResult collectResult;
+            try {
+                collectResult = system.collectDependencies(requestSession, collectRequest);
+            } catch (DependencyCollectionException e) {
+                DependencyRequest failedRequest = new DependencyRequest(e.getResult().getRoot(), dependencyFilter);
+                throw new DependencyResolutionException(new DependencyResult(failedRequest), e);
+            } finally {
+                metrics.recordSince("collect", start);
+            }
+
+            start = System.nanoTime();
+            DependencyRequest dependencyRequest = new DependencyRequest(collectResult.getRoot(), dependencyFilter);
+            DependencyResult result;
+            try {
+                result = system.resolveDependencies(requestSession, dependencyRequest);
+            } finally {
+                metrics.recordSince("resolve-artifacts", start);
+            }
+            result.setCollectExceptions(collectResult.getExceptions());
+
+            // Artifact results are in tree order, only the dependencies of the root are kept
+            List<ArtifactResult> artifactResults = result.getArtifactResults();
+            if (!artifactResults.isEmpty() && artifactResults.get(0).getRequest().getDependencyNode() == result.getRoot()) {
+                result.setArtifactResults(new ArrayList<>(artifactResults.subList(1, artifactResults.size())));
+            }
+
+            if (resultCache != null) {
+                resultCache.put(session, packageIdentifier, version, datetimeLimit, result, consultedProjects);
+            }
+
+            return result;
+        } finally {
+            if (session.getTransferListener() instanceof LoggerTransferListener) {
+                ((LoggerTransferListener) session.getTransferListener()).logSummary();
+            }
         }
 
     }
 
-    public ArtifactResult resolveArtifact(String identifier, String version) throws ArtifactResolutionException {
-
-        Artifact artifact = new DefaultArtifact( identifier + ":" + version );
-
-        ArtifactRequest artifactRequest = new ArtifactRequest();
-        artifactRequest.setArtifact( artifact );
-        artifactRequest.setRepositories( Booter.newRepositories() );
-
-        ArtifactResult artifactResult = system.resolveArtifact( session, artifactRequest );
+    /**
+     * Scope the date to a request, the copy shares the caches of the session.
+     */
+    private DefaultRepositorySystemSession newRequestSession(LocalDateTime datetimeLimit, Set<String> consultedProjects) {
+        DefaultRepositorySystemSession requestSession = new DefaultRepositorySystemSession(session);
+        requestSession.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, datetimeLimit);
+        requestSession.setConfigProperty(CustomVersionRangeResolver.CONFIG_CONSULTED_PROJECTS, consultedProjects);
 
-        return artifactResult;
+        return requestSession;
     }
 
 }
@@ -0,0 +1,124 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * Counters and timings of a resolve, shared by all requests using a session or copies of it.
+ *
+ * <p>Every timer keeps the number of measurements, total and maximum duration and a histogram of durations in
+ * milliseconds with power of two buckets.</p>
+ */
+public class ResolveMetrics {
+
+    private static final Object KEY = ResolveMetrics.class;
+    private static final int BUCKETS = 32;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private static class Timer {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        final long[] buckets = new long[BUCKETS];
+
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            buckets[bucket(TimeUnit.NANOSECONDS.toMillis(nanos))]++;
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new TreeMap<>();
+            snapshot.put("count", count);
+            snapshot.put("totalMs", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            snapshot.put("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos));
+
+            // Bucket i holds durations less than 2^i ms
+            Map<Long, Long> histogram = new TreeMap<>();
+            for (int i = 0; i < BUCKETS; i++) {
+                if (buckets[i] > 0) {
+                    histogram.put(1L << i, buckets[i]);
+                }
+            }
+            snapshot.put("histogramMs", histogram);
+
+            return snapshot;
+        }
+    }
+
+    private static int bucket(long millis) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+    }
+
+    /**
+     * @return the metrics of the session, or a new instance that is not kept when the session does not collect metrics
+     */
+    public static ResolveMetrics of(RepositorySystemSession session) {
+        ResolveMetrics metrics = (ResolveMetrics) session.getData().get(KEY);
+
+        return metrics != null ? metrics : new ResolveMetrics();
+    }
+
+    /**
+     * Collect metrics of all requests using the session or copies of it.
+     */
+    public static ResolveMetrics install(RepositorySystemSession session) {
+        session.getData().set(KEY, null, new ResolveMetrics());
+
+        return of(session);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long value) {
+        counters.computeIfAbsent(counter, k -> new AtomicLong()).addAndGet(value);
+    }
+
+    /**
+     * @param start value of {@link System#nanoTime()} at the start of the measurement
+     */
+    public void recordSince(String timer, long start) {
+        record(timer, System.nanoTime() - start);
+    }
+
+    public void record(String timer, long nanos) {
+        timers.computeIfAbsent(timer, k -> new Timer()).record(nanos);
+    }
+
+    public long getCounter(String counter) {
+        AtomicLong value = counters.get(counter);
+        return value == null ? 0 : value.get();
+    }
+
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    /**
+     * @return counters and timers sorted by name, in a form that can be written as json
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, value) -> counterValues.put(name, value.get()));
+
+        Map<String, Object> timerValues = new TreeMap<>();
+        timers.forEach((name, timer) -> timerValues.put(name, timer.snapshot()));
+
+        Map<String, Object> snapshot = new TreeMap<>();
+        snapshot.put("counters", counterValues);
+        snapshot.put("timers", timerValues);
+
+        return snapshot;
+    }
+}
@@ -6,37 +6,93 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyResult;
 
 import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
+import nl.wvdzwan.lapp.resolver.ResolveMetrics;
 
 public class DependencyJarFolder implements ResolveOutputTask {
 
     private static Logger logger = LogManager.getLogger(DependencyJarFolder.class.getSimpleName());
 
+    /**
+     * How jars are placed in the jar folder, links fall back to copying when they can not be created, for example when
+     * the local repository is on another file system.
+     */
+    public enum LinkMode {
+        COPY,
+        HARDLINK,
+        SYMLINK
+    }
+
+    public static final int DEFAULT_THREADS = 4;
+
     private File outputFolder;
+    private LinkMode linkMode;
+    private int threads;
+    private JarStore store;
+    private ResolveMetrics metrics = new ResolveMetrics();
 
     public DependencyJarFolder(File outputFolder) {
+        this(outputFolder, LinkMode.COPY, DEFAULT_THREADS);
+    }
+
+    public DependencyJarFolder(File outputFolder, LinkMode linkMode, int threads) {
         this.outputFolder = outputFolder;
+        this.linkMode = linkMode;
+        this.threads = Math.max(threads, 1);
+    }
+
+    /**
+     * Place jars in a shared store instead of the jar folder, the class path file will contain absolute paths into the
+     * store.
+     */
+    public DependencyJarFolder(File outputFolder, JarStore store, int threads) {
+        this(outputFolder, LinkMode.COPY, threads);
+        this.store = store;
+    }
+
+    /**
+     * Record the time spent placing jars and how they were placed.
+     */
+    public void setMetrics(ResolveMetrics metrics) {
+        this.metrics = metrics;
     }
 
     @Override
     public boolean makeOutput(DependencyResult result) {
+        long start = System.nanoTime();
+        try {
+            return placeJars(result);
+        } finally {
+            metrics.recordSince("place-jars", start);
+        }
+    }
+
+    private boolean placeJars(DependencyResult result) {
 
 
         File jarOutputFolder = new File(outputFolder, "jars");
-        if (!jarOutputFolder.exists()) {
+        if (store == null && !jarOutputFolder.exists()) {
             logger.info("Output folder {} doesn't exist, creating it.", jarOutputFolder);
             jarOutputFolder.mkdirs();
         }
@@ -44,33 +100,41 @@ public class DependencyJarFolder implements ResolveOutputTask {
 
         long total = result.getArtifactResults().size() + 1 ; // +1 for main jar
 
-        List<Path> copyResults = Stream.concat(
+        List<Artifact> artifacts = Stream.concat(
                 Stream.of(result.getRoot().getArtifact()),
                 result.getArtifactResults().stream()
                         .filter(ArtifactResult::isResolved)
                         .map(ArtifactResult::getArtifact)
         )
-                .map(artifact -> {
-                    File file = artifact.getFile();
-                    String fileName = ArtifactRecord.getIdentifier(artifact).replace(":", "$") + ".jar";
-                    Path dest = Paths.get(jarOutputFolder.getPath(), fileName);
-
-                    try {
-                        Files.copy(file.toPath(), dest, StandardCopyOption.REPLACE_EXISTING);
-                    } catch (IOException e) {
-                        logger.error("Failed copying {} to {}", file, dest);
-                        return null;
-                    }
-                    logger.debug("Copied {}", file);
-                    return dest;
-
-                })
-                .filter(Objects::nonNull)
-                .map(Path::getFileName)
                 .collect(Collectors.toList());
 
+        // Jars are placed concurrently, the class path keeps the order of the artifacts
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, artifacts.size()));
+        List<Future<Path>> futures = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            futures.add(executor.submit(() -> store == null ? placeJar(artifact, jarOutputFolder) : storeJar(artifact)));
+        }
+        executor.shutdown();
+
+        List<Path> copyResults = new ArrayList<>();
+        for (Future<Path> future : futures) {
+            try {
+                Path dest = future.get();
+                if (dest != null) {
+                    // Jars in the jar folder are listed relative to it
+                    copyResults.add(store == null ? dest.getFileName() : dest);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                return false;
+            } catch (ExecutionException e) {
+                logger.error("Failed placing jar: {}", e.getCause().getMessage());
+            }
+        }
 
-        logger.info("Copied {}/{} files to jar folder (\"{}\")",
+
+        logger.info("Placed {}/{} files in jar folder (\"{}\")",
                 copyResults.size(),
                 total,
                 outputFolder);
@@ -81,6 +145,82 @@ public class DependencyJarFolder implements ResolveOutputTask {
         return copyResults.size() == total;
     }
 
+    private Path placeJar(Artifact artifact, File jarOutputFolder) {
+        Path source = artifact.getFile().toPath();
+        String fileName = ArtifactRecord.getIdentifier(artifact).replace(":", "$") + ".jar";
+        Path dest = Paths.get(jarOutputFolder.getPath(), fileName);
+
+        try {
+            if (isUpToDate(source, dest)) {
+                logger.debug("Skipped {}, already up to date", source);
+                metrics.increment("jars-up-to-date");
+                return dest;
+            }
+
+            if (linkMode != LinkMode.COPY && link(source, dest)) {
+                logger.debug("Linked {}", source);
+                metrics.increment("jars-linked");
+                return dest;
+            }
+
+            // Keep the modification time so the next run can skip the file
+            Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        } catch (IOException e) {
+            logger.error("Failed copying {} to {}", source, dest);
+            return null;
+        }
+        logger.debug("Copied {}", source);
+        metrics.increment("jars-copied");
+        return dest;
+    }
+
+    private Path storeJar(Artifact artifact) {
+        try {
+            Path dest = store.put(artifact);
+            metrics.increment("jars-stored");
+            return dest;
+        } catch (IOException e) {
+            logger.error("Failed storing {}: {}", artifact.getFile(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean link(Path source, Path dest) {
+        try {
+            Files.deleteIfExists(dest);
+
+            if (linkMode == LinkMode.HARDLINK) {
+                Files.createLink(dest, source);
+            } else {
+                Files.createSymbolicLink(dest, source.toAbsolutePath());
+            }
+
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Failed linking {}, copy instead: {}", source, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * A jar is up to date when it is a link to the source or has the same size and modification time.
+     */
+    private static boolean isUpToDate(Path source, Path dest) throws IOException {
+        if (!Files.exists(dest, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+
+        if (Files.isSymbolicLink(dest)) {
+            return Files.readSymbolicLink(dest).equals(source.toAbsolutePath());
+        }
+
+        BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        BasicFileAttributes destAttributes = Files.readAttributes(dest, BasicFileAttributes.class);
+
+        return sourceAttributes.size() == destAttributes.size()
+                && sourceAttributes.lastModifiedTime().equals(destAttributes.lastModifiedTime());
+    }
+
     protected boolean makeClassPathFile(List<Path> jarList) {
 
         logger.info("Generating Classpath file...");
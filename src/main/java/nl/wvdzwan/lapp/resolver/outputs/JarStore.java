@@ -0,0 +1,104 @@
+package nl.wvdzwan.lapp.resolver.outputs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.artifact.Artifact;
+
+import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
+
+/**
+ * Content addressed jar store shared by all resolve outputs.
+ *
+ * <p>Jars are stored as "[sha1]/[group]$[artifact]$[version].jar" so the file name keeps the layout the call graph
+ * analysis expects. The SHA-1 is taken from the checksum file maven stores next to the jar in the local repository, it
+ * is only computed when that file is missing.</p>
+ */
+public class JarStore {
+
+    private static Logger logger = LogManager.getLogger(JarStore.class.getSimpleName());
+
+    private final Path root;
+
+    public JarStore(File root) {
+        this.root = root.toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Add the jar of an artifact to the store, a jar with the same content and name is only stored once.
+     * @return absolute path of the jar in the store
+     */
+    public Path put(Artifact artifact) throws IOException {
+        Path source = artifact.getFile().toPath();
+        String fileName = ArtifactRecord.getIdentifier(artifact).replace(":", "$") + ".jar";
+
+        Path directory = root.resolve(sha1(source));
+        Path dest = directory.resolve(fileName);
+        if (Files.isRegularFile(dest) && Files.size(dest) == Files.size(source)) {
+            logger.debug("{} already stored", fileName);
+            return dest;
+        }
+
+        Files.createDirectories(directory);
+
+        // Copy to a temporary file first, concurrent resolves never see a partial jar
+        Path temp = Files.createTempFile(directory, fileName, ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        logger.debug("Stored {} as {}", source, dest);
+
+        return dest;
+    }
+
+    static String sha1(Path file) throws IOException {
+        Path checksumFile = file.resolveSibling(file.getFileName() + ".sha1");
+        if (Files.isRegularFile(checksumFile)) {
+            // Checksum files can contain the file name after the checksum
+            String checksum = new String(Files.readAllBytes(checksumFile), StandardCharsets.US_ASCII).trim().split("\\s+")[0];
+            if (checksum.matches("[0-9a-fA-F]{40}")) {
+                return checksum.toLowerCase();
+            }
+        }
+
+        return computeSha1(file);
+    }
+
+    /**
+     * @return SHA-1 of the content of the file, ignoring any checksum file next to it
+     */
+    public static String computeSha1(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+
+        return hex.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package nl.wvdzwan.lapp.resolver.outputs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import com.google.gson.GsonBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.resolution.DependencyResult;
+
+import nl.wvdzwan.lapp.callgraph.ArtifactRecord;
+import nl.wvdzwan.lapp.resolver.ResolveMetrics;
+
+/**
+ * Writes the counters and timings of the resolve as json, add it after the other outputs to include their metrics.
+ */
+public class MetricsReportOutput implements ResolveOutputTask {
+    protected static final Logger logger = LogManager.getLogger(MetricsReportOutput.class.getSimpleName());
+
+    private final File outputFile;
+    private final ResolveMetrics metrics;
+
+    public MetricsReportOutput(File outputFile, ResolveMetrics metrics) {
+        this.outputFile = outputFile;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean makeOutput(DependencyResult result) {
+        Map<String, Object> report = metrics.snapshot();
+        report.put("artifact", ArtifactRecord.getIdentifier(result.getRoot().getArtifact()));
+        report.put("dependencies", result.getArtifactResults().size());
+
+        try (Writer writer = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+        } catch (IOException e) {
+            logger.warn("Failed writing metrics to {}: {}", outputFile, e.getMessage());
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -1,13 +1,17 @@
 package nl.wvdzwan.lapp.resolver.util;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
+import org.eclipse.aether.impl.ArtifactDescriptorReader;
 import org.eclipse.aether.impl.DefaultServiceLocator;
 import org.eclipse.aether.impl.VersionRangeResolver;
 import org.eclipse.aether.impl.VersionResolver;
@@ -22,10 +26,13 @@ import org.slf4j.LoggerFactory;
 
 import nl.wvdzwan.lapp.resolver.CustomVersionRangeResolver;
 import nl.wvdzwan.lapp.resolver.CustomVersionResolver;
-import nl.wvdzwan.librariesio.HttpClient;
+import nl.wvdzwan.lapp.resolver.PrefetchingArtifactDescriptorReader;
+import nl.wvdzwan.lapp.resolver.ResolveMetrics;
+import nl.wvdzwan.librariesio.CachingLibrariesIoClient;
 import nl.wvdzwan.librariesio.HttpClientInterface;
 import nl.wvdzwan.librariesio.LibrariesIoClient;
 import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.PooledHttpClient;
 
 /**
  * A helper to boot the service locator, the repository system and a repository system session.
@@ -36,11 +43,18 @@ public class Booter {
 
     public static final String LOCAL_REPO = "local-repo";
 
+    public static final String CONFIG_DOWNLOAD_THREADS = "aether.connector.basic.threads";
+    public static final int DEFAULT_DOWNLOAD_THREADS = 8;
+
+    public static final String CONFIG_REPOSITORIES = "lapp.repositories";
+    public static final String CONFIG_OFFLINE_PROTOCOLS = "aether.offline.protocols";
+
     public static DefaultServiceLocator newServiceLocator() {
         DefaultServiceLocator locator = MavenRepositorySystemUtils.newServiceLocator();
 
-        locator.setService(HttpClientInterface.class, HttpClient.class);
-        locator.setService(LibrariesIoInterface.class, LibrariesIoClient.class);
+        locator.setService(HttpClientInterface.class, PooledHttpClient.class);
+        locator.setService(LibrariesIoClient.class, LibrariesIoClient.class);
+        locator.setService(LibrariesIoInterface.class, CachingLibrariesIoClient.class);
 
         return locator;
     }
@@ -52,6 +66,7 @@ public class Booter {
         locator.addService(TransporterFactory.class, HttpTransporterFactory.class);
         locator.setService(VersionResolver.class, CustomVersionResolver.class);
         locator.setService(VersionRangeResolver.class, CustomVersionRangeResolver.class);
+        locator.setService(ArtifactDescriptorReader.class, PrefetchingArtifactDescriptorReader.class);
 
         locator.setErrorHandler(new DefaultServiceLocator.ErrorHandler() {
             @Override
@@ -72,6 +87,12 @@ public class Booter {
         session.setTransferListener(new LoggerTransferListener());
         session.setRepositoryListener(new LoggerRepositoryListener());
 
+        // Share metadata and descriptors between requests using copies of this session
+        session.setCache(new DefaultRepositoryCache());
+        ResolveMetrics.install(session);
+
+        // Number of artifacts the basic connector downloads at the same time
+        session.setConfigProperty(CONFIG_DOWNLOAD_THREADS, DEFAULT_DOWNLOAD_THREADS);
 
         // uncomment to generate dirty trees
         // session.setDependencyGraphTransformer( null );
@@ -79,10 +100,56 @@ public class Booter {
         return session;
     }
 
+    /**
+     * Resolve in offline mode, only the local repository and repositories on the local file system are used.
+     *
+     * <p>The simple layout of the local repository is used, artifacts downloaded earlier are available no matter which
+     * repository they were downloaded from.</p>
+     */
+    public static void setOffline(RepositorySystem system, DefaultRepositorySystemSession session) {
+        session.setOffline(true);
+        session.setConfigProperty(CONFIG_OFFLINE_PROTOCOLS, "file");
+
+        File baseDirectory = session.getLocalRepository().getBasedir();
+        session.setLocalRepositoryManager(
+                system.newLocalRepositoryManager(session, new LocalRepository(baseDirectory, "simple")));
+    }
+
+    /**
+     * Use other repositories than Maven Central for all requests using the session or copies of it.
+     */
+    public static void setRepositories(DefaultRepositorySystemSession session, List<RemoteRepository> repositories) {
+        session.setConfigProperty(CONFIG_REPOSITORIES, new ArrayList<>(repositories));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<RemoteRepository> newRepositories(RepositorySystemSession session) {
+        Object repositories = session.getConfigProperties().get(CONFIG_REPOSITORIES);
+        if (repositories instanceof List) {
+            return new ArrayList<>((List<RemoteRepository>) repositories);
+        }
+
+        return newRepositories();
+    }
+
     public static List<RemoteRepository> newRepositories() {
         return new ArrayList<>(Collections.singletonList(newCentralRepository()));
     }
 
+    /**
+     * Create a repository from "[id]::[url]" or only an url, in which case the id is derived from the url.
+     */
+    public static RemoteRepository newRepository(String repository) {
+        int separator = repository.indexOf("::");
+        if (separator > 0) {
+            return new RemoteRepository.Builder(repository.substring(0, separator), "default",
+                    repository.substring(separator + 2)).build();
+        }
+
+        String id = repository.replaceFirst("^[a-z]+://", "").replaceAll("[^A-Za-z0-9.-]+", "_");
+        return new RemoteRepository.Builder(id, "default", repository).build();
+    }
+
     private static RemoteRepository newCentralRepository() {
         return new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2/").build();
     }
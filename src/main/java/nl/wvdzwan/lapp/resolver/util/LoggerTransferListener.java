@@ -5,6 +5,9 @@ import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -14,8 +17,12 @@ import org.eclipse.aether.transfer.MetadataNotFoundException;
 import org.eclipse.aether.transfer.TransferEvent;
 import org.eclipse.aether.transfer.TransferResource;
 
+import nl.wvdzwan.lapp.resolver.ResolveMetrics;
+
 /**
  * A simplistic transfer listener that logs uploads/downloads to the console.
+ *
+ * <p>Totals of all downloads are kept until {@link #logSummary()} reports the throughput of the transfers so far.</p>
  */
 public class LoggerTransferListener
         extends AbstractTransferListener {
@@ -28,8 +35,18 @@ public class LoggerTransferListener
 
     private int lastLength;
 
+    private final AtomicInteger transferredFiles = new AtomicInteger();
+    private final AtomicInteger failedFiles = new AtomicInteger();
+    private final AtomicLong transferredBytes = new AtomicLong();
+    private long firstStart = Long.MAX_VALUE;
+    private long lastEnd = 0;
+
     @Override
     public void transferInitiated(TransferEvent event) {
+        synchronized (this) {
+            firstStart = Math.min(firstStart, System.currentTimeMillis());
+        }
+
         String message = event.getRequestType() == TransferEvent.RequestType.PUT ? "Uploading" : "Downloading";
 
         logger.log(logLevel,
@@ -45,6 +62,10 @@ public class LoggerTransferListener
         TransferResource resource = event.getResource();
         downloads.put(resource, event.getTransferredBytes());
 
+        if (!logger.isEnabled(logLevel)) {
+            return;
+        }
+
         StringBuilder buffer = new StringBuilder(64);
 
         for (Map.Entry<TransferResource, Long> entry : downloads.entrySet()) {
@@ -89,6 +110,15 @@ public class LoggerTransferListener
         TransferResource resource = event.getResource();
         long contentLength = event.getTransferredBytes();
         if (contentLength >= 0) {
+            transferredFiles.incrementAndGet();
+            transferredBytes.addAndGet(contentLength - resource.getResumeOffset());
+
+            ResolveMetrics metrics = ResolveMetrics.of(event.getSession());
+            metrics.increment("downloaded-files");
+            metrics.add("downloaded-bytes", contentLength - resource.getResumeOffset());
+            metrics.record("download", TimeUnit.MILLISECONDS.toNanos(
+                    System.currentTimeMillis() - resource.getTransferStartTime()));
+
             String type = (event.getRequestType() == TransferEvent.RequestType.PUT ? "Uploaded" : "Downloaded");
             String len = contentLength >= 1024 ? toKB(contentLength) + " KB" : contentLength + " B";
 
@@ -111,12 +141,21 @@ public class LoggerTransferListener
         transferCompleted(event);
 
         if (!(event.getException() instanceof MetadataNotFoundException)) {
+            failedFiles.incrementAndGet();
+            ResolveMetrics.of(event.getSession()).increment("failed-downloads");
             event.getException().printStackTrace();
         }
     }
 
     private void transferCompleted(TransferEvent event) {
         downloads.remove(event.getResource());
+        synchronized (this) {
+            lastEnd = Math.max(lastEnd, System.currentTimeMillis());
+        }
+
+        if (!logger.isEnabled(logLevel)) {
+            return;
+        }
 
         StringBuilder buffer = new StringBuilder(64);
         pad(buffer, lastLength);
@@ -128,6 +167,35 @@ public class LoggerTransferListener
         event.getException().printStackTrace();
     }
 
+    /**
+     * Log the number of downloaded files and the throughput since the previous summary and reset the totals.
+     */
+    public void logSummary() {
+        int files = transferredFiles.getAndSet(0);
+        int failed = failedFiles.getAndSet(0);
+        long bytes = transferredBytes.getAndSet(0);
+
+        long duration;
+        synchronized (this) {
+            duration = lastEnd - firstStart;
+            firstStart = Long.MAX_VALUE;
+            lastEnd = 0;
+        }
+
+        if (files == 0 && failed == 0) {
+            return;
+        }
+
+        String throughput = "";
+        if (duration > 0) {
+            DecimalFormat format = new DecimalFormat("0.0", new DecimalFormatSymbols(Locale.ENGLISH));
+            throughput = String.format(" in %s s at %s KB/sec",
+                    format.format(duration / 1000.0), format.format((bytes / 1024.0) / (duration / 1000.0)));
+        }
+
+        logger.info("Downloaded {} files ({} KB){}, {} failed", files, toKB(bytes), throughput, failed);
+    }
+
     protected long toKB(long bytes) {
         return (bytes + 1023) / 1024;
     }
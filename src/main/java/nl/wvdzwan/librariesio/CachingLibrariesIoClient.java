@@ -0,0 +1,284 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjLongConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.aether.spi.locator.Service;
+import org.eclipse.aether.spi.locator.ServiceLocator;
+
+/**
+ * Caches project information of another client in memory and on disk.
+ *
+ * <p>Parsed projects are kept in a least recently used map, the unparsed api responses are stored as one file per
+ * project in the cache directory. Files older than the time to live are fetched again. Concurrent requests for the
+ * same project are only sent once, requests for a project that is being retrieved wait for it.</p>
+ */
+public class CachingLibrariesIoClient implements LibrariesIoInterface, Service {
+
+    private static Logger logger = LogManager.getLogger(CachingLibrariesIoClient.class);
+
+    public static final String DEFAULT_CACHE_DIRECTORY = "local-repo/.libraries-io";
+    public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+    private static final int MEMORY_SIZE = 1024;
+
+    private LibrariesIoClient delegate;
+
+    private File cacheDirectory = new File(DEFAULT_CACHE_DIRECTORY);
+    private Duration ttl = DEFAULT_TTL;
+    private boolean offline = false;
+    private final Map<String, Project> memory = newMemoryCache(MEMORY_SIZE);
+    private final Map<String, CompletableFuture<Project>> inFlight = new ConcurrentHashMap<>();
+    private ObjLongConsumer<String> counters = (counter, value) -> { };
+
+    public CachingLibrariesIoClient() {
+        // Enable default constructor for use with ServiceLocator
+    }
+
+    public CachingLibrariesIoClient(LibrariesIoClient delegate, File cacheDirectory) {
+        this.delegate = delegate;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    @Override
+    public Project getProjectInfo(String identifier) {
+        Project project = fromMemory(identifier);
+        if (project != null) {
+            return project;
+        }
+
+        // Concurrent requests for the same project, also prefetches, wait for the one retrieving it
+        CompletableFuture<Project> future = new CompletableFuture<>();
+        CompletableFuture<Project> pending = inFlight.putIfAbsent(identifier, future);
+        if (pending != null) {
+            counters.accept("libraries-io-pending-waits", 1);
+            return pending.join();
+        }
+
+        try {
+            project = retrieve(identifier);
+            future.complete(project);
+
+            return project;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(identifier, future);
+        }
+    }
+
+    private Project retrieve(String identifier) {
+        File file = cacheFile(identifier);
+        String data = fromDisk(file);
+        if (data == null && offline) {
+            return offlineMiss(identifier);
+        }
+        if (data == null) {
+            try {
+                counters.accept("libraries-io-fetches", 1);
+                data = delegate.getProjectJson(identifier);
+                writeCached(file, data);
+            } catch (IOException e) {
+                return fromExpired(identifier, file, e);
+            }
+        }
+
+        return remember(identifier, data);
+    }
+
+    @Override
+    public CompletableFuture<Project> getProjectInfoAsync(String identifier) {
+        Project project = fromMemory(identifier);
+        if (project != null) {
+            return CompletableFuture.completedFuture(project);
+        }
+
+        CompletableFuture<Project> pending = inFlight.get(identifier);
+        if (pending != null) {
+            counters.accept("libraries-io-pending-waits", 1);
+            return pending;
+        }
+
+        File file = cacheFile(identifier);
+        String cached = fromDisk(file);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(remember(identifier, cached));
+        }
+        if (offline) {
+            return CompletableFuture.completedFuture(offlineMiss(identifier));
+        }
+
+        CompletableFuture<Project> future = inFlight.computeIfAbsent(identifier, id -> {
+            counters.accept("libraries-io-fetches", 1);
+            return delegate.getProjectJsonAsync(id).handle((data, e) -> {
+                if (e != null) {
+                    return fromExpired(id, file, e.getCause() != null ? e.getCause() : e);
+                }
+
+                writeCached(file, data);
+                return remember(id, data);
+            });
+        });
+        future.whenComplete((p, e) -> inFlight.remove(identifier, future));
+
+        return future;
+    }
+
+    private Project fromMemory(String identifier) {
+        Project project;
+        synchronized (memory) {
+            project = memory.get(identifier);
+        }
+        if (project != null) {
+            counters.accept("libraries-io-memory-hits", 1);
+        }
+
+        return project;
+    }
+
+    private String fromDisk(File file) {
+        String data = isFresh(file) ? readCached(file) : null;
+        if (data != null) {
+            counters.accept("libraries-io-disk-hits", 1);
+        }
+
+        return data;
+    }
+
+    private Project remember(String identifier, String data) {
+        Project project = Project.fromJson(data);
+        if (project != null) {
+            synchronized (memory) {
+                memory.put(identifier, project);
+            }
+        }
+
+        return project;
+    }
+
+    /**
+     * Fall back to an expired entry when the api can not be reached.
+     */
+    private Project fromExpired(String identifier, File file, Throwable e) {
+        String data = readCached(file);
+        if (data == null) {
+            logger.error("Failed to retrieve project {}: {}", identifier, e.getMessage());
+            counters.accept("libraries-io-failures", 1);
+            return null;
+        }
+
+        counters.accept("libraries-io-expired-fallbacks", 1);
+        logger.warn("Failed to retrieve project {}, using expired cache entry", identifier);
+        return remember(identifier, data);
+    }
+
+    private Project offlineMiss(String identifier) {
+        logger.warn("Project {} is not cached, it is not requested in offline mode", identifier);
+        counters.accept("libraries-io-offline-misses", 1);
+
+        return null;
+    }
+
+    private boolean isFresh(File file) {
+        return file.isFile() && (offline || System.currentTimeMillis() - file.lastModified() < ttl.toMillis());
+    }
+
+    private String readCached(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to read cache file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCached(File file, String data) {
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        Path target = file.toPath();
+        try {
+            Files.createDirectories(target.getParent());
+
+            // Write to a temporary file first, concurrent runs never see a partial file
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            Files.write(temp, data.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private File cacheFile(String identifier) {
+        // groupId:artifactId is stored as groupId/artifactId.json
+        return new File(cacheDirectory, identifier.replace(':', File.separatorChar) + ".json");
+    }
+
+    private static Map<String, Project> newMemoryCache(int size) {
+        return new LinkedHashMap<String, Project>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Project> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    @Override
+    public void setApiKey(String apiKey) {
+        delegate.setApiKey(apiKey);
+    }
+
+    @Override
+    public void setBaseUrl(String baseUrl) {
+        delegate.setBaseUrl(baseUrl);
+    }
+
+    /**
+     * Report where projects were found, the requests of the api client are reported separately.
+     * @param counters called with the name of a counter and the amount to add to it
+     */
+    public void setCounters(ObjLongConsumer<String> counters) {
+        this.counters = counters;
+    }
+
+    public void setCacheDirectory(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Set how long projects stored on disk are used before they are fetched again.
+     * @param ttl the time to live, zero disables the disk cache
+     */
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Only use projects stored on disk regardless of their age, projects that are not stored are never requested.
+     */
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    @Override
+    public void initService(ServiceLocator locator) {
+        delegate = locator.getService(LibrariesIoClient.class);
+    }
+}
@@ -5,6 +5,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 public class HttpClient implements HttpClientInterface {
 
@@ -19,6 +23,11 @@ public class HttpClient implements HttpClientInterface {
         //add request header
 
         int responseCode = con.getResponseCode();
+        if (responseCode >= 400) {
+            Duration retryAfter = parseRetryAfter(con.getHeaderField("Retry-After"));
+            con.disconnect();
+            throw new HttpStatusException(url, responseCode, retryAfter);
+        }
 
         BufferedReader in = new BufferedReader(new InputStreamReader(con.getInputStream()));
 
@@ -32,4 +41,28 @@ public class HttpClient implements HttpClientInterface {
         return response.toString();
     }
 
+    /**
+     * Parse a Retry-After header, either a number of seconds or a http date.
+     * @return the time to wait or null when the header is missing or invalid
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(value.trim()), 0));
+        } catch (NumberFormatException e) {
+            // Not a number of seconds, try a date
+        }
+
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(), date);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
 }
@@ -1,7 +1,24 @@
 package nl.wvdzwan.librariesio;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public interface HttpClientInterface {
     String get(String url) throws IOException;
+
+    /**
+     * Execute a get request without blocking, by default the request is executed by the common pool.
+     * @param url the url to request
+     * @return future completed with the response body or exceptionally with the IOException of the request
+     */
+    default CompletableFuture<String> getAsync(String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return get(url);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
 }
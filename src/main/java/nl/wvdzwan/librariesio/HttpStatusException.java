@@ -0,0 +1,40 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Thrown when a server answers with an error status.
+ */
+public class HttpStatusException extends IOException {
+
+    public static final int TOO_MANY_REQUESTS = 429;
+    public static final int SERVICE_UNAVAILABLE = 503;
+
+    private final int statusCode;
+    private final Duration retryAfter;
+
+    public HttpStatusException(String url, int statusCode, Duration retryAfter) {
+        super(String.format("Request for %s failed with status %d", url, statusCode));
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the time to wait as requested by the server, null when the server did not send a Retry-After header
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return true when the request was refused because of rate limiting and can be sent again later
+     */
+    public boolean isRetryable() {
+        return statusCode == TOO_MANY_REQUESTS || (statusCode == SERVICE_UNAVAILABLE && retryAfter != null);
+    }
+}
@@ -1,15 +1,23 @@
 package nl.wvdzwan.librariesio;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ObjLongConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import org.eclipse.aether.spi.locator.Service;
 import org.eclipse.aether.spi.locator.ServiceLocator;
 
 public class LibrariesIoClient implements LibrariesIoInterface, Service {
 
+    private static Logger logger = LogManager.getLogger(LibrariesIoClient.class);
+
     private String apiKey;
     private String baseUrl = "https://libraries.io/api/";
     private HttpClientInterface client;
+    private ObjLongConsumer<String> counters = (counter, value) -> { };
 
     public LibrariesIoClient() {
         // Enable default constructor for use with ServiceLocator
@@ -34,12 +42,24 @@ public class LibrariesIoClient implements LibrariesIoInterface, Service {
         this.client = httpClient;
     }
 
+    /**
+     * Report the requests sent to the api.
+     * @param counters called with the name of a counter and the amount to add to it
+     */
+    public void setCounters(ObjLongConsumer<String> counters) {
+        this.counters = counters;
+    }
+
+    protected void count(String counter) {
+        counters.accept(counter, 1);
+    }
+
     @Override
     public Project getProjectInfo(String identifier) {
 
         String data = "";
         try {
-            data = client.get(String.format("%smaven/%s?apiKey=%s", baseUrl, identifier, apiKey));
+            data = getProjectJson(identifier);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -47,6 +67,43 @@ public class LibrariesIoClient implements LibrariesIoInterface, Service {
         return Project.fromJson(data);
     }
 
+    /**
+     * Retrieve the unparsed project information for an artifact.
+     * @param identifier the artifact to load information for
+     * @return the json response of the api
+     * @throws IOException when the api could not be reached
+     */
+    public String getProjectJson(String identifier) throws IOException {
+        count("libraries-io-requests");
+        return client.get(projectUrl(identifier));
+    }
+
+    @Override
+    public CompletableFuture<Project> getProjectInfoAsync(String identifier) {
+        return getProjectJsonAsync(identifier).handle((data, e) -> {
+            if (e != null) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.error("Failed to retrieve project {}: {}", identifier, cause.getMessage());
+                return null;
+            }
+            return Project.fromJson(data);
+        });
+    }
+
+    /**
+     * Retrieve the unparsed project information for an artifact without blocking.
+     * @param identifier the artifact to load information for
+     * @return future completed with the json response of the api
+     */
+    public CompletableFuture<String> getProjectJsonAsync(String identifier) {
+        count("libraries-io-requests");
+        return client.getAsync(projectUrl(identifier));
+    }
+
+    private String projectUrl(String identifier) {
+        return String.format("%smaven/%s?apiKey=%s", baseUrl, identifier, apiKey);
+    }
+
     @Override
     public void initService(ServiceLocator locator) {
         client = locator.getService(HttpClientInterface.class);
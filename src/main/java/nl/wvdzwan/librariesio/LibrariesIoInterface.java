@@ -1,5 +1,7 @@
 package nl.wvdzwan.librariesio;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface to interact with libraries.io like api's.
  */
@@ -12,6 +14,15 @@ public interface LibrariesIoInterface {
      */
     Project getProjectInfo(String identifier);
 
+    /**
+     * Retrieve project information without blocking, by default the information is retrieved immediately.
+     * @param identifier the artifact to load information for
+     * @return future completed with the parsed project information, or null when it could not be retrieved
+     */
+    default CompletableFuture<Project> getProjectInfoAsync(String identifier) {
+        return CompletableFuture.completedFuture(getProjectInfo(identifier));
+    }
+
     /**
      * Set api key to use for authentication.
      * @param apiKey the key to authenticate with
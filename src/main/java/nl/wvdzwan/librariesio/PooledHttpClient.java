@@ -0,0 +1,106 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.Header;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Http client that keeps connections alive and reuses them for following requests.
+ *
+ * <p>Responses compressed with gzip or deflate are decompressed. Asynchronous requests are executed by a thread pool
+ * with one thread for every connection.</p>
+ */
+public class PooledHttpClient implements HttpClientInterface, Closeable {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 8;
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private final CloseableHttpClient client;
+    private final ExecutorService executor;
+
+    public PooledHttpClient() {
+        // Enable default constructor for use with ServiceLocator
+        this(DEFAULT_MAX_CONNECTIONS, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
+
+    public PooledHttpClient(int maxConnections, Duration connectTimeout, Duration readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setConnectionRequestTimeout((int) connectTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .build();
+
+        this.client = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+        this.executor = Executors.newFixedThreadPool(maxConnections, new DaemonThreadFactory());
+    }
+
+    @Override
+    public String get(String url) throws IOException {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+            int statusCode = response.getStatusLine().getStatusCode();
+
+            if (statusCode >= 400) {
+                // Consume the body so the connection can be reused
+                EntityUtils.consume(response.getEntity());
+
+                Header retryAfter = response.getFirstHeader("Retry-After");
+                throw new HttpStatusException(url, statusCode,
+                        HttpClient.parseRetryAfter(retryAfter == null ? null : retryAfter.getValue()));
+            }
+
+            return response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return get(url);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        client.close();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "http-client-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,20 +1,57 @@
 package nl.wvdzwan.librariesio;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializer;
-
+import java.io.Reader;
 import java.time.LocalDateTime;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Project information with the versions of the project sorted by publish date.
+ *
+ * <p>Versions are stored as an array of version numbers and an array of publish dates in epoch milliseconds (UTC),
+ * {@link VersionDate} objects are only created when {@link #getVersions()} is used.</p>
+ *
+ * <p>Versions published before a date are found with a binary search on the publish dates, the publish date of a
+ * version is found with a hash index that is built on first use.</p>
+ */
 public class Project {
 
     protected String name;
     protected String platform;
     protected String description;
 
-    protected ArrayList<VersionDate> versions;
+    private final String[] numbers;
+    private final long[] published;
+
+    private volatile ArrayList<VersionDate> versions;
+    private volatile Map<String, Long> publishedByNumber;
+
+    public Project(String name, String platform, ArrayList<VersionDate> versions) {
+        this.name = name;
+        this.platform = platform;
+
+        ProjectParser.VersionList list = new ProjectParser.VersionList();
+        for (VersionDate version : versions) {
+            list.add(version.getNumber(), toMillis(version.getPublished_at()));
+        }
+        list.sort();
+
+        this.numbers = list.numbers();
+        this.published = list.published();
+    }
+
+    Project(String name, String platform, String description, String[] numbers, long[] published) {
+        this.name = name;
+        this.platform = platform;
+        this.description = description;
+        this.numbers = numbers;
+        this.published = published;
+    }
 
     public String getName() {
         return name;
@@ -28,21 +65,103 @@ public class Project {
         return description;
     }
 
+    /**
+     * @return versions sorted by publish date, versions without a publish date are left out
+     */
     public ArrayList<VersionDate> getVersions() {
-        return versions;
+        ArrayList<VersionDate> result = versions;
+        if (result == null) {
+            result = new ArrayList<>(numbers.length);
+            for (int i = 0; i < numbers.length; i++) {
+                result.add(new VersionDate(numbers[i], toDateTime(published[i])));
+            }
+            versions = result;
+        }
+
+        return result;
     }
 
+    public int getVersionCount() {
+        return numbers.length;
+    }
 
-    public static Project fromJson(String json) {
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(
-                        LocalDateTime.class,
-                        (JsonDeserializer<LocalDateTime>) (json_snippet, type, jsonDeserializationContext) ->
-                                ZonedDateTime.parse(json_snippet.getAsJsonPrimitive().getAsString()).toLocalDateTime())
-                .create();
+    /**
+     * @return version numbers published before the date, sorted by publish date
+     */
+    public List<String> getVersionsBefore(LocalDateTime date) {
+        return Collections.unmodifiableList(Arrays.asList(numbers).subList(0, countBefore(toMillis(date))));
+    }
+
+    /**
+     * @return true when the version was published before the date
+     */
+    public boolean isPublishedBefore(String version, LocalDateTime date) {
+        Long publishedAt = publishedIndex().get(version);
+
+        return publishedAt != null && publishedAt < toMillis(date);
+    }
+
+    /**
+     * @return publish date of the version, the earliest when it was published more than once, or null when the
+     * version is unknown
+     */
+    public LocalDateTime getPublishedAt(String version) {
+        Long publishedAt = publishedIndex().get(version);
 
-        return gson.fromJson(json, Project.class);
+        return publishedAt == null ? null : toDateTime(publishedAt);
     }
 
+    /**
+     * Number of versions published before the date, the index of the first version published on or after it.
+     */
+    private int countBefore(long millis) {
+        int low = 0;
+        int high = published.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (published[middle] < millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private Map<String, Long> publishedIndex() {
+        Map<String, Long> index = publishedByNumber;
+        if (index == null) {
+            index = new HashMap<>(numbers.length * 2);
+            // Versions are sorted by date, the first occurrence is the earliest
+            for (int i = 0; i < numbers.length; i++) {
+                index.putIfAbsent(numbers[i], published[i]);
+            }
+            publishedByNumber = index;
+        }
+
+        return index;
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Parse a project as returned by the libraries.io project api.
+     * @return the project or null when the json is empty
+     */
+    public static Project fromJson(String json) {
+        return ProjectParser.parse(json);
+    }
+
+    public static Project fromJson(Reader json) {
+        return ProjectParser.parse(json);
+    }
 
 }
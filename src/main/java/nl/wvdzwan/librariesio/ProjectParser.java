@@ -0,0 +1,216 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Streaming parser for libraries.io project responses.
+ *
+ * <p>Only the name, platform, description and the number and publish date of every version are read, all other fields
+ * are skipped without building objects for them.</p>
+ */
+class ProjectParser {
+
+    private ProjectParser() {
+    }
+
+    static Project parse(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return null;
+        }
+
+        return parse(new StringReader(json));
+    }
+
+    static Project parse(Reader json) {
+        try (JsonReader reader = new JsonReader(json)) {
+            reader.setLenient(true);
+
+            JsonToken token = reader.peek();
+            if (token == JsonToken.END_DOCUMENT) {
+                return null;
+            }
+            if (token == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            return readProject(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    private static Project readProject(JsonReader reader) throws IOException {
+        String name = null;
+        String platform = null;
+        String description = null;
+        VersionList versions = new VersionList();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = nextString(reader);
+                    break;
+                case "platform":
+                    platform = nextString(reader);
+                    break;
+                case "description":
+                    description = nextString(reader);
+                    break;
+                case "versions":
+                    readVersions(reader, versions);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        versions.sort();
+
+        return new Project(name, platform, description, versions.numbers(), versions.published());
+    }
+
+    private static void readVersions(JsonReader reader, VersionList versions) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String number = null;
+            String published = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "number":
+                        number = nextString(reader);
+                        break;
+                    case "published_at":
+                        published = nextString(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            // Versions without a publish date can not be placed in time
+            if (number != null && published != null) {
+                versions.add(number, parseTimestamp(published));
+            }
+        }
+        reader.endArray();
+    }
+
+    private static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        return reader.nextString();
+    }
+
+    /**
+     * Parse a timestamp to epoch milliseconds of the local time, like {@link VersionDate} does. Timestamps formatted
+     * like "2014-12-04T16:17:00.000Z" are parsed without the java.time parser.
+     */
+    static long parseTimestamp(String value) {
+        if (value.length() == 24 && value.charAt(4) == '-' && value.charAt(7) == '-' && value.charAt(10) == 'T'
+                && value.charAt(13) == ':' && value.charAt(16) == ':' && value.charAt(19) == '.'
+                && value.charAt(23) == 'Z') {
+            try {
+                LocalDateTime dateTime = LocalDateTime.of(
+                        digits(value, 0, 4), digits(value, 5, 7), digits(value, 8, 10),
+                        digits(value, 11, 13), digits(value, 14, 16), digits(value, 17, 19),
+                        digits(value, 20, 23) * 1_000_000);
+                return Project.toMillis(dateTime);
+            } catch (NumberFormatException | DateTimeException e) {
+                // Fall back to the full parser
+            }
+        }
+
+        return Project.toMillis(ZonedDateTime.parse(value).toLocalDateTime());
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(value);
+            }
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * Growable arrays of version numbers and publish dates.
+     */
+    static class VersionList {
+        private String[] numbers = new String[16];
+        private long[] published = new long[16];
+        private int size = 0;
+
+        void add(String number, long publishedAt) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+                published = Arrays.copyOf(published, size * 2);
+            }
+            numbers[size] = number;
+            published[size] = publishedAt;
+            size++;
+        }
+
+        /**
+         * Sort by publish date, versions published at the same time keep their order.
+         */
+        void sort() {
+            Integer[] order = new Integer[size];
+            boolean sorted = true;
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+                sorted &= i == 0 || published[i - 1] <= published[i];
+            }
+            if (sorted) {
+                return;
+            }
+
+            long[] dates = published;
+            Arrays.sort(order, (a, b) -> Long.compare(dates[a], dates[b]));
+
+            String[] sortedNumbers = new String[numbers.length];
+            long[] sortedPublished = new long[published.length];
+            for (int i = 0; i < size; i++) {
+                sortedNumbers[i] = numbers[order[i]];
+                sortedPublished[i] = published[order[i]];
+            }
+            numbers = sortedNumbers;
+            published = sortedPublished;
+        }
+
+        String[] numbers() {
+            return Arrays.copyOf(numbers, size);
+        }
+
+        long[] published() {
+            return Arrays.copyOf(published, size);
+        }
+    }
+}
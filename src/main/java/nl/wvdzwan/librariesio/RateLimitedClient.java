@@ -1,5 +1,13 @@
 package nl.wvdzwan.librariesio;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -7,37 +15,69 @@ public class RateLimitedClient extends LibrariesIoClient {
 
     private static Logger logger = LogManager.getLogger(RateLimitedClient.class);
 
-    private long lastRequest = 0;
-    private long minWaitTime = 1100; // Default wait time of 1000ms + 100ms margin for network variations
+    private static final int MAX_RETRIES = 5;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(60);
 
-    public void setWaitTime(long newWaitTime) {
-        this.minWaitTime = newWaitTime + 100; // Add extra 100ms margin for network variations
-    }
-
-    @Override
-    public Project getProjectInfo(String identifier) {
+    // Asynchronous requests wait for their token on these threads, requests are not made faster than the limit anyway
+    private static final ExecutorService executor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "rate-limited-client");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-        doWait();
+    // Default of one request per 1000ms + 100ms margin for network variations
+    private volatile TokenBucket bucket = new TokenBucket(1, Duration.ofMillis(1100));
 
-        return super.getProjectInfo(identifier);
+    public void setWaitTime(long newWaitTime) {
+        this.bucket = new TokenBucket(1, Duration.ofMillis(newWaitTime + 100)); // Add extra 100ms margin for network variations
     }
 
-    private void doWait() {
-        long earliestSlot = lastRequest + minWaitTime;
-        long now = System.currentTimeMillis();
-
-        long waitRemaining = Math.max(earliestSlot - now, 0); // Don't wait for a negative time
+    /**
+     * Set the limiter used for all requests, share a bucket between clients to share the limit.
+     * @param bucket the token bucket to take a token from for every request
+     */
+    public void setBucket(TokenBucket bucket) {
+        this.bucket = bucket;
+    }
 
-        if (waitRemaining > 0) {
-            logger.trace("Rate limiting, now: {}, wait_for: {}", now, waitRemaining);
+    @Override
+    public String getProjectJson(String identifier) throws IOException {
 
+        for (int attempt = 0; ; attempt++) {
             try {
-                Thread.sleep(waitRemaining);
+                bucket.acquire();
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rate limit");
+            }
+
+            try {
+                return super.getProjectJson(identifier);
+            } catch (HttpStatusException e) {
+                if (e.getStatusCode() == HttpStatusException.TOO_MANY_REQUESTS) {
+                    count("libraries-io-rate-limited");
+                }
+                if (!e.isRetryable() || attempt >= MAX_RETRIES) {
+                    throw e;
+                }
+
+                count("libraries-io-retries");
+
+                Duration retryAfter = e.getRetryAfter() != null ? e.getRetryAfter() : DEFAULT_RETRY_AFTER;
+                logger.warn("Rate limited by api (status {}), retry {} after {}s", e.getStatusCode(), identifier, retryAfter.getSeconds());
+                bucket.pause(retryAfter);
             }
         }
+    }
 
-        lastRequest = System.currentTimeMillis();
+    @Override
+    public CompletableFuture<String> getProjectJsonAsync(String identifier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return getProjectJson(identifier);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
     }
 }
@@ -0,0 +1,93 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Token bucket of which the state is stored in a file, processes using the same file share one budget.
+ *
+ * <p>The file is locked while a token is taken. All processes should use the same capacity and period.</p>
+ */
+public class SharedTokenBucket extends TokenBucket {
+
+    private static Logger logger = LogManager.getLogger(SharedTokenBucket.class);
+
+    private static final int STATE_SIZE = 16;
+
+    private final File file;
+
+    public SharedTokenBucket(File file, int capacity, Duration period) {
+        this(file, capacity, period, Clock.systemUTC());
+    }
+
+    public SharedTokenBucket(File file, int capacity, Duration period, Clock clock) {
+        super(capacity, period, clock);
+        this.file = file;
+    }
+
+    @Override
+    public synchronized long reserve() {
+        try (FileChannel channel = open(); FileLock ignored = channel.lock()) {
+            load(channel);
+            long wait = super.reserve();
+            store(channel);
+
+            return wait;
+        } catch (IOException e) {
+            logger.warn("Shared rate limit {} not available, limiting this process only: {}", file, e.getMessage());
+            return super.reserve();
+        }
+    }
+
+    @Override
+    public synchronized void pause(Duration duration) {
+        try (FileChannel channel = open(); FileLock ignored = channel.lock()) {
+            load(channel);
+            super.pause(duration);
+            store(channel);
+        } catch (IOException e) {
+            logger.warn("Shared rate limit {} not available, pausing this process only: {}", file, e.getMessage());
+            super.pause(duration);
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void load(FileChannel channel) throws IOException {
+        // A new file starts with the state of this bucket
+        if (channel.size() < STATE_SIZE) {
+            return;
+        }
+
+        ByteBuffer state = ByteBuffer.allocate(STATE_SIZE);
+        while (state.hasRemaining() && channel.read(state, state.position()) >= 0) {
+            // Read until the state is complete
+        }
+        state.flip();
+
+        tokens = state.getDouble();
+        lastRefill = state.getLong();
+    }
+
+    private void store(FileChannel channel) throws IOException {
+        ByteBuffer state = ByteBuffer.allocate(STATE_SIZE);
+        state.putDouble(tokens);
+        state.putLong(lastRefill);
+        state.flip();
+
+        while (state.hasRemaining()) {
+            channel.write(state, state.position());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package nl.wvdzwan.librariesio;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Thread safe token bucket, up to capacity requests can be made at once after which requests are spread at the refill
+ * rate.
+ *
+ * <p>Tokens are reserved under a lock and waiting is done outside of it, so waiting threads are served in the order they
+ * reserved their token.</p>
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerMilli;
+    protected final Clock clock;
+
+    protected double tokens;
+    protected long lastRefill;
+
+    /**
+     * @param capacity number of requests that can be made without waiting
+     * @param period time in which one token is added
+     */
+    public TokenBucket(int capacity, Duration period) {
+        this(capacity, period, Clock.systemUTC());
+    }
+
+    public TokenBucket(int capacity, Duration period, Clock clock) {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+
+        this.capacity = capacity;
+        this.tokensPerMilli = 1.0 / period.toMillis();
+        this.clock = clock;
+
+        this.tokens = capacity;
+        this.lastRefill = clock.millis();
+    }
+
+    /**
+     * Wait until a request can be made.
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+    }
+
+    /**
+     * Take a token, when no token is available yet the token of the future is taken.
+     *
+     * @return milliseconds to wait before the request can be made
+     */
+    public synchronized long reserve() {
+        long now = clock.millis();
+        refill(now);
+
+        tokens -= 1;
+
+        // Refilling starts in the future while paused
+        long wait = Math.max(lastRefill - now, 0);
+        if (tokens < 0) {
+            wait += (long) Math.ceil(-tokens / tokensPerMilli);
+        }
+
+        return wait;
+    }
+
+    /**
+     * Take no tokens until the duration has passed, for example when a server asks to retry after some time.
+     */
+    public synchronized void pause(Duration duration) {
+        long now = clock.millis();
+        refill(now);
+
+        // Requests after the pause start with an empty bucket
+        tokens = Math.min(tokens, 0);
+        lastRefill = Math.max(lastRefill, now + duration.toMillis());
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerMilli);
+            lastRefill = now;
+        }
+    }
+}
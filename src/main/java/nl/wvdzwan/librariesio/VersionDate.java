@@ -14,6 +14,11 @@ public class VersionDate {
         this.published_at = ZonedDateTime.parse(publishedAt).toLocalDateTime();
     }
 
+    public VersionDate(String versionNumber, LocalDateTime publishedAt) {
+        this.number = versionNumber;
+        this.published_at = publishedAt;
+    }
+
     public String getNumber() {
         return number;
     }
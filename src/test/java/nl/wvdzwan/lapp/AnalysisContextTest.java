@@ -0,0 +1,65 @@
+package nl.wvdzwan.lapp;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.core.AnalysisContext;
+import nl.wvdzwan.lapp.core.DefaultAnalysisContext;
+import nl.wvdzwan.lapp.core.ResolvedMethod;
+import nl.wvdzwan.lapp.core.UnresolvedMethod;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisContextTest {
+
+    @Test
+    void sameContextGivesSameObject() {
+        AnalysisContext context = new DefaultAnalysisContext();
+
+        ResolvedMethod m1 = context.makeResolved("namespace", "symbol", "group:artifact:version");
+        ResolvedMethod m2 = context.makeResolved("namespace", "symbol", "group:artifact:version");
+
+        assertSame(m1, m2);
+    }
+
+    @Test
+    void contextsAreIndependent() {
+        AnalysisContext context = new DefaultAnalysisContext();
+        AnalysisContext other = new DefaultAnalysisContext();
+
+        UnresolvedMethod m1 = context.makeUnresolved("namespace", "symbol");
+        UnresolvedMethod m2 = other.makeUnresolved("namespace", "symbol");
+
+        assertNotSame(m1, m2);
+    }
+
+    @Test
+    void releaseForgetsMethods() {
+        AnalysisContext context = new DefaultAnalysisContext();
+
+        ResolvedMethod m1 = context.makeResolved("namespace", "symbol", "group:artifact:version");
+        context.release();
+        ResolvedMethod m2 = context.makeResolved("namespace", "symbol", "group:artifact:version");
+
+        assertNotSame(m1, m2);
+    }
+
+    @Test
+    void concurrentLookupsGiveSameObject() {
+        AnalysisContext context = new DefaultAnalysisContext();
+
+        List<ResolvedMethod> methods = IntStream.range(0, 10000)
+                .parallel()
+                .mapToObj(i -> context.makeResolved("namespace", "symbol" + (i % 10), "group:artifact:version"))
+                .collect(Collectors.toList());
+
+        for (ResolvedMethod method : methods) {
+            assertTrue(method == context.makeResolved(method.namespace, method.symbol, method.artifact));
+        }
+    }
+}
@@ -99,4 +99,16 @@ public class ClassPathFileTest {
 
 
     }
+
+    @Test
+    void storePaths() {
+        String content = "/store/0a1b/com.company$app$1.0.jar\n"
+                + "/store/2c3d/org.library$lib$2.0.jar\n";
+        BufferedReader reader = new BufferedReader(new StringReader(content));
+
+        ClassPathFile cp = new ClassPathFile(reader, Paths.get("output/jars"));
+
+        assertEquals("/store/0a1b/com.company$app$1.0.jar", cp.getMainJar());
+        assertEquals(Collections.singletonList("/store/2c3d/org.library$lib$2.0.jar"), cp.getDependencies());
+    }
 }
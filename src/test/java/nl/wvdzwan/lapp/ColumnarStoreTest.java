@@ -0,0 +1,91 @@
+package nl.wvdzwan.lapp;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.columnar.ColumnarStore;
+import nl.wvdzwan.lapp.columnar.ColumnarStoreWriter;
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarStoreTest {
+
+    private static Lapp.Method method(String namespace, String symbol, String artifact) {
+        return Lapp.Method.newBuilder().setNamespace(namespace).setSymbol(symbol).setArtifact(artifact).build();
+    }
+
+    private static Lapp.Call call(Lapp.Method source, Lapp.Method target, Lapp.Call.CallType type) {
+        return Lapp.Call.newBuilder().setSource(source).setTarget(target).setCallType(type).build();
+    }
+
+    @Test
+    void truncatedStoreIsRejected() throws IOException {
+        Lapp.Method main = method("com.company.Main", "main()V", "com.company:app:1.0");
+        Lapp.Package lappPackage = Lapp.Package.newBuilder()
+                .addResolvedCalls(call(main, main, Lapp.Call.CallType.STATIC))
+                .build();
+
+        File storeFile = File.createTempFile("lapp", ".store");
+        storeFile.deleteOnExit();
+        ColumnarStoreWriter.write(lappPackage, storeFile);
+        byte[] store = Files.readAllBytes(storeFile.toPath());
+
+        // Only the magic bytes, then a header with sections beyond the end of the file
+        Files.write(storeFile.toPath(), Arrays.copyOf(store, 5));
+        assertThrows(IOException.class, () -> ColumnarStore.open(storeFile));
+
+        Files.write(storeFile.toPath(), Arrays.copyOf(store, store.length / 2));
+        assertThrows(IOException.class, () -> ColumnarStore.open(storeFile));
+
+        Files.write(storeFile.toPath(), new byte[200]);
+        assertThrows(IOException.class, () -> ColumnarStore.open(storeFile));
+    }
+
+    @Test
+    void packageIsReadBack() throws IOException {
+        Lapp.Method main = method("com.company.Main", "main()V", "com.company:app:1.0");
+        Lapp.Method help = method("com.company.Util", "help()V", "com.company:app:1.0");
+        Lapp.Method api = method("org.library.Api", "call()V", "");
+
+        Lapp.Package lappPackage = Lapp.Package.newBuilder()
+                .addArtifacts(Lapp.Artifact.newBuilder().setGroup("com.company").setName("app").setVersion("1.0"))
+                .addClassRecords(Lapp.ClassRecord.newBuilder()
+                        .setName("com.company.Util").setPackage("com.company:app:1.0").setSuperClass("java.lang.Object")
+                        .addInterfaces("java.io.Serializable").addMethods("help()V").setPublic(true).setAbstract(true))
+                .addResolvedCalls(call(help, main, Lapp.Call.CallType.STATIC))
+                .addResolvedCalls(call(main, help, Lapp.Call.CallType.STATIC))
+                .addResolvedCalls(call(help, help, Lapp.Call.CallType.SPECIAL))
+                .addUnresolvedCalls(call(main, api, Lapp.Call.CallType.INTERFACE))
+                .build();
+
+        File storeFile = File.createTempFile("lapp", ".store");
+        storeFile.deleteOnExit();
+        ColumnarStoreWriter.write(lappPackage, storeFile);
+
+        try (ColumnarStore store = ColumnarStore.open(storeFile)) {
+            assertEquals(3, store.getMethodCount());
+            assertEquals(3, store.getResolvedCalls().getCount());
+            assertEquals(1, store.getUnresolvedCalls().getCount());
+
+            // Calls are grouped by source method, help is the first method found
+            ColumnarStore.Adjacency resolved = store.getResolvedCalls();
+            assertEquals(help, store.getMethod(0));
+            assertEquals(2, resolved.end(0) - resolved.start(0));
+            assertEquals(main, store.getMethod(resolved.target(resolved.start(0))));
+        }
+
+        Lapp.Package read = LappStreamReader.readPackage(storeFile);
+        assertEquals(lappPackage.getArtifactsList(), read.getArtifactsList());
+        assertEquals(lappPackage.getClassRecordsList(), read.getClassRecordsList());
+        assertEquals(new HashSet<>(lappPackage.getResolvedCallsList()), new HashSet<>(read.getResolvedCallsList()));
+        assertEquals(lappPackage.getUnresolvedCallsList(), read.getUnresolvedCallsList());
+    }
+}
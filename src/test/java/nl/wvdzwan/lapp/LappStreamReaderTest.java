@@ -0,0 +1,181 @@
+package nl.wvdzwan.lapp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.convert.outputs.CompactProtobufOutput;
+import nl.wvdzwan.lapp.convert.outputs.GraphVizOutput;
+import nl.wvdzwan.lapp.convert.outputs.HumanReadableDotGraph;
+import nl.wvdzwan.lapp.convert.outputs.JsonOutput;
+import nl.wvdzwan.lapp.convert.outputs.StreamProtobufOutput;
+import nl.wvdzwan.lapp.convert.outputs.UnifiedCallGraphExport;
+import nl.wvdzwan.lapp.protobuf.Lapp;
+import nl.wvdzwan.lapp.protobuf.LappStreamReader;
+import nl.wvdzwan.lapp.protobuf.LappStreamWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LappStreamReaderTest {
+
+    private Lapp.Package lappPackage;
+
+    @BeforeEach
+    void setUp() {
+        Lapp.Method source = Lapp.Method.newBuilder()
+                .setNamespace("com.company.Main").setSymbol("main()V").setArtifact("com.company:app:1.0").build();
+        Lapp.Method resolvedTarget = Lapp.Method.newBuilder()
+                .setNamespace("com.company.Util").setSymbol("help()V").setArtifact("com.company:app:1.0").build();
+        Lapp.Method unresolvedTarget = Lapp.Method.newBuilder()
+                .setNamespace("org.library.Api").setSymbol("call()V").build();
+
+        lappPackage = Lapp.Package.newBuilder()
+                .addArtifacts(Lapp.Artifact.newBuilder().setGroup("com.company").setName("app").setVersion("1.0"))
+                .addClassRecords(Lapp.ClassRecord.newBuilder()
+                        .setName("com.company.Util").setPackage("com.company:app:1.0").setSuperClass("java.lang.Object")
+                        .addMethods("help()V").setPublic(true))
+                .addResolvedCalls(Lapp.Call.newBuilder()
+                        .setSource(source).setTarget(resolvedTarget).setCallType(Lapp.Call.CallType.STATIC))
+                .addUnresolvedCalls(Lapp.Call.newBuilder()
+                        .setSource(source).setTarget(unresolvedTarget).setCallType(Lapp.Call.CallType.VIRTUAL))
+                .putMetadata("jar", "app.jar")
+                .build();
+    }
+
+    @Test
+    void streamedPackageIsReadBack() throws IOException {
+        File streamFile = File.createTempFile("lapp", ".buf");
+        streamFile.deleteOnExit();
+
+        try (OutputStream outputStream = new FileOutputStream(streamFile)) {
+            new StreamProtobufOutput().export(outputStream, lappPackage);
+        }
+        try (LappStreamReader reader = LappStreamReader.open(streamFile)) {
+            assertTrue(reader.isStream());
+        }
+
+        assertEquals(lappPackage, LappStreamReader.readPackage(streamFile));
+    }
+
+    @Test
+    void singleMessageIsReadPerRecord() throws IOException {
+        File packageFile = writePackage(lappPackage);
+
+        int records = 0;
+        try (LappStreamReader reader = LappStreamReader.open(packageFile)) {
+            assertFalse(reader.isStream());
+
+            while (reader.next() != null) {
+                records++;
+            }
+
+            assertEquals("app.jar", reader.getMetadata().get("jar"));
+        }
+
+        assertEquals(4, records);
+        assertEquals(lappPackage, LappStreamReader.readPackage(packageFile));
+    }
+
+    @Test
+    void singleMessageIsConvertedWithMetadata() throws IOException {
+        File packageFile = writePackage(lappPackage);
+        assertEquals(lappPackage.getMetadataMap(), LappStreamReader.readMetadata(packageFile));
+
+        File streamFile = File.createTempFile("lapp", ".buf");
+        streamFile.deleteOnExit();
+        try (OutputStream outputStream = new FileOutputStream(streamFile)) {
+            new StreamProtobufOutput().exportStream(outputStream, packageFile);
+        }
+
+        try (LappStreamReader reader = LappStreamReader.open(streamFile)) {
+            assertTrue(reader.isStream());
+            assertEquals("app.jar", reader.getHeader().getMetadataMap().get("jar"));
+        }
+        assertEquals(lappPackage, LappStreamReader.readPackage(streamFile));
+    }
+
+    @Test
+    void compactPackageIsReadBack() throws IOException {
+        File compactFile = File.createTempFile("lapp", ".buf");
+        compactFile.deleteOnExit();
+
+        try (OutputStream outputStream = new FileOutputStream(compactFile)) {
+            new CompactProtobufOutput().export(outputStream, lappPackage);
+        }
+        try (LappStreamReader reader = LappStreamReader.open(compactFile)) {
+            assertEquals(LappStreamWriter.COMPACT_FORMAT, reader.getFormat());
+            assertEquals("app.jar", reader.getMetadata().get("jar"));
+        }
+
+        assertEquals(lappPackage, LappStreamReader.readPackage(compactFile));
+    }
+
+    @Test
+    void streamedJsonEqualsPackageJson() throws IOException {
+        assertStreamedJsonEqualsPackageJson(lappPackage);
+        assertStreamedJsonEqualsPackageJson(Lapp.Package.getDefaultInstance());
+    }
+
+    private void assertStreamedJsonEqualsPackageJson(Lapp.Package p) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        new JsonOutput().export(expected, p);
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        new JsonOutput().exportStream(actual, writePackage(p));
+
+        assertEquals(expected.toString(), actual.toString());
+
+        // A stream file has its metadata in the header instead of after the records
+        File streamFile = File.createTempFile("lapp", ".buf");
+        streamFile.deleteOnExit();
+        try (OutputStream outputStream = new FileOutputStream(streamFile)) {
+            new StreamProtobufOutput().export(outputStream, p);
+        }
+
+        actual = new ByteArrayOutputStream();
+        new JsonOutput().exportStream(actual, streamFile);
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    void streamedDotHasPackageStatements() throws IOException {
+        assertStreamedDotHasPackageStatements(new HumanReadableDotGraph());
+        assertStreamedDotHasPackageStatements(new UnifiedCallGraphExport());
+    }
+
+    private void assertStreamedDotHasPackageStatements(GraphVizOutput output) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        output.export(expected, lappPackage);
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        output.exportStream(actual, writePackage(lappPackage));
+
+        // The streamed statements are in file order and repeat vertices, the distinct statements are compared
+        List<String> expectedLines = Arrays.asList(expected.toString().split("\n"));
+        List<String> actualLines = Arrays.asList(actual.toString().split("\n"));
+        assertEquals(expectedLines.get(0), actualLines.get(0));
+        assertEquals(new TreeSet<>(expectedLines), new TreeSet<>(actualLines));
+    }
+
+    private File writePackage(Lapp.Package p) throws IOException {
+        File packageFile = File.createTempFile("lapp", ".buf");
+        packageFile.deleteOnExit();
+
+        try (OutputStream outputStream = new FileOutputStream(packageFile)) {
+            p.writeTo(outputStream);
+        }
+
+        return packageFile;
+    }
+}
@@ -0,0 +1,79 @@
+package nl.wvdzwan.lapp;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.index.VersionIndex;
+import nl.wvdzwan.lapp.index.VersionIndexWriter;
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VersionIndexTest {
+
+    private static final String DUMP = "ID,Platform,Project Name,Project ID,Number,Published Timestamp,Created Timestamp,Updated Timestamp\n" +
+            "1,Maven,junit:junit,10,4.12,2014-12-04 16:17:00 UTC,,\n" +
+            "2,Maven,junit:junit,10,4.11,2012-11-14 19:21:20 UTC,,\n" +
+            "3,NPM,junit:junit,11,1.0.0,2015-01-01 00:00:00 UTC,,\n" +
+            "4,Maven,\"org.company:app\",12,1.0,2010-09-22 09:15:32 UTC,,\n" +
+            "5,Maven,org.company:app,12,broken,,,\n";
+
+    @Test
+    void dumpIsReadBack() throws IOException {
+        VersionIndexWriter writer = new VersionIndexWriter();
+        assertEquals(3, writer.readCsv(new BufferedReader(new StringReader(DUMP))));
+
+        File indexFile = File.createTempFile("lapp", ".index");
+        indexFile.deleteOnExit();
+        writer.write(indexFile);
+
+        try (VersionIndex index = VersionIndex.open(indexFile)) {
+            assertEquals(2, index.getProjectCount());
+            assertEquals(3, index.getVersionCount());
+
+            Project junit = index.getProjectInfo("junit:junit");
+            assertEquals("junit:junit", junit.getName());
+
+            // Versions are sorted by publish date
+            assertEquals("4.11,4.12", junit.getVersions().stream()
+                    .map(VersionDate::getNumber)
+                    .collect(Collectors.joining(",")));
+            assertEquals(LocalDateTime.of(2014, 12, 4, 16, 17), junit.getVersions().get(1).getPublished_at());
+
+            assertEquals(1, index.getProjectInfo("org.company:app").getVersions().size());
+            assertNull(index.getProjectInfo("org.company:missing"));
+        }
+    }
+
+    @Test
+    void truncatedIndexIsRejected() throws IOException {
+        VersionIndexWriter writer = new VersionIndexWriter();
+        writer.readCsv(new BufferedReader(new StringReader(DUMP)));
+
+        File indexFile = File.createTempFile("lapp", ".index");
+        indexFile.deleteOnExit();
+        writer.write(indexFile);
+        byte[] index = Files.readAllBytes(indexFile.toPath());
+
+        Files.write(indexFile.toPath(), Arrays.copyOf(index, 6));
+        assertThrows(IOException.class, () -> VersionIndex.open(indexFile));
+
+        Files.write(indexFile.toPath(), Arrays.copyOf(index, index.length - 1));
+        assertThrows(IOException.class, () -> VersionIndex.open(indexFile));
+
+        Files.write(indexFile.toPath(), "ID,Platform,Project Name,Project ID".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> VersionIndex.open(indexFile));
+    }
+}
@@ -0,0 +1,41 @@
+package nl.wvdzwan.lapp.callgraph;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CallGraphBatchTest {
+
+    @Test
+    void resultsKeepInputOrder() throws InterruptedException {
+        List<String> items = Arrays.asList("a", "b", "c", "d", "e", "c");
+
+        CallGraphBatch batch = new CallGraphBatch(3, 1);
+        List<File> results = batch.run(items, item -> () -> new File(item));
+
+        // Duplicate items each get their own result
+        assertEquals(items.stream().map(File::new).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    void failedTaskGivesNullResult() throws InterruptedException {
+        List<String> items = Arrays.asList("ok", "fail");
+
+        CallGraphBatch batch = new CallGraphBatch(2, 1);
+        List<File> results = batch.run(items, item -> () -> {
+            if (item.equals("fail")) {
+                throw new IllegalStateException("Analysis failed");
+            }
+            return new File(item);
+        });
+
+        assertEquals(new File("ok"), results.get(0));
+        assertNull(results.get(1));
+    }
+}
@@ -0,0 +1,31 @@
+package nl.wvdzwan.lapp.callgraph;
+
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServeMainTest {
+
+    @Test
+    void argumentsAreSplitOnWhitespace() {
+        assertArrayEquals(new String[]{"-o", "out", "app.jar"}, ServeMain.parseRequest("-o  out\tapp.jar"));
+    }
+
+    @Test
+    void jsonArgumentsCanContainWhitespace() {
+        assertArrayEquals(new String[]{"-o", "my output", "app.jar"},
+                ServeMain.parseRequest("[\"-o\", \"my output\", \"app.jar\"]"));
+
+        assertThrows(JsonParseException.class, () -> ServeMain.parseRequest("[\"-o\", null]"));
+        assertThrows(JsonParseException.class, () -> ServeMain.parseRequest("[\"-o\""));
+    }
+
+    @Test
+    void errorIsSingleLine() {
+        assertEquals("ERROR first line second line", ServeMain.error("first line\n  second line\r\n"));
+        assertEquals("ERROR unknown error, see server log", ServeMain.error(null));
+    }
+}
@@ -0,0 +1,111 @@
+package nl.wvdzwan.lapp.merge;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.protobuf.Lapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LappPackageMergerTest {
+
+    private static Lapp.Method unresolved(String namespace, String symbol) {
+        return Lapp.Method.newBuilder().setNamespace(namespace).setSymbol(symbol).build();
+    }
+
+    private static Lapp.Method resolved(String namespace, String symbol, String artifact) {
+        return Lapp.Method.newBuilder().setNamespace(namespace).setSymbol(symbol).setArtifact(artifact).build();
+    }
+
+    /**
+     * Package i declares class Ci and a class shared by all packages, and calls methods of the classes of the other
+     * packages.
+     */
+    private static List<Lapp.Package> makePackages(int count) {
+        return makePackages(count, true);
+    }
+
+    private static List<Lapp.Package> makePackages(int count, boolean withShared) {
+        List<Lapp.Package> packages = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            String artifact = "com.company:lib" + i + ":1.0";
+            Lapp.Method main = resolved("C" + i, "main()V", artifact);
+
+            Lapp.Package.Builder builder = Lapp.Package.newBuilder()
+                    .addArtifacts(Lapp.Artifact.newBuilder().setGroup("com.company").setName("lib" + i).setVersion("1.0"))
+                    .addClassRecords(Lapp.ClassRecord.newBuilder().setName("C" + i).setPackage(artifact).addMethods("main()V"))
+                    .addResolvedCalls(Lapp.Call.newBuilder().setSource(main).setTarget(main));
+            if (withShared) {
+                builder.addClassRecords(Lapp.ClassRecord.newBuilder().setName("Shared").setPackage(artifact).addMethods("run()V"));
+            }
+
+            for (int j = 0; j < count + 2; j++) {
+                builder.addUnresolvedCalls(Lapp.Call.newBuilder()
+                        .setSource(main)
+                        .setTarget(unresolved("C" + j, "main()V"))
+                        .setCallType(Lapp.Call.CallType.STATIC));
+            }
+            builder.addUnresolvedCalls(Lapp.Call.newBuilder().setSource(main).setTarget(unresolved("Shared", "run()V")));
+
+            packages.add(builder.build());
+        }
+
+        return packages;
+    }
+
+    @Test
+    void parallelMergeEqualsSequentialMerge() {
+        List<Lapp.Package> packages = makePackages(20);
+
+        LappPackageMerger sequential = new LappPackageMerger();
+        LappPackageMerger parallel = new LappPackageMerger(4);
+        packages.forEach(sequential::add);
+        packages.forEach(parallel::add);
+
+        Lapp.Package expected = sequential.merge();
+        Lapp.Package actual = parallel.merge();
+
+        assertEquals(expected, actual);
+
+        // Every package calls C0..C21, only C0..C19 exist
+        assertEquals(20 * 2, actual.getUnresolvedCallsCount());
+    }
+
+    @Test
+    void lastPackageWinsForDuplicateMethods() {
+        LappPackageMerger merger = new LappPackageMerger(4);
+        makePackages(3).forEach(merger::add);
+
+        Lapp.Package merged = merger.merge();
+
+        merged.getResolvedCallsList().stream()
+                .filter(c -> c.getTarget().getNamespace().equals("Shared"))
+                .forEach(c -> assertEquals("com.company:lib2:1.0", c.getTarget().getArtifact()));
+    }
+
+    @Test
+    void mergeIntoEqualsFullMerge() {
+        List<Lapp.Package> packages = makePackages(5, false);
+
+        LappPackageMerger full = new LappPackageMerger();
+        packages.forEach(full::add);
+        Lapp.Package expected = full.merge();
+
+        LappPackageMerger first = new LappPackageMerger();
+        packages.subList(0, 3).forEach(first::add);
+        Lapp.Package merged = first.merge();
+
+        LappPackageMerger addition = new LappPackageMerger();
+        packages.subList(3, 5).forEach(addition::add);
+        Lapp.Package actual = addition.mergeInto(merged);
+
+        assertEquals(new HashSet<>(expected.getArtifactsList()), new HashSet<>(actual.getArtifactsList()));
+        assertEquals(new HashSet<>(expected.getClassRecordsList()), new HashSet<>(actual.getClassRecordsList()));
+        assertEquals(new HashSet<>(expected.getResolvedCallsList()), new HashSet<>(actual.getResolvedCallsList()));
+        assertEquals(new HashSet<>(expected.getUnresolvedCallsList()), new HashSet<>(actual.getUnresolvedCallsList()));
+    }
+}
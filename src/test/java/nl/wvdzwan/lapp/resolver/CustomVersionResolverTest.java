@@ -0,0 +1,68 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.impl.DefaultServiceLocator;
+import org.eclipse.aether.impl.VersionResolver;
+import org.eclipse.aether.resolution.VersionRequest;
+import org.eclipse.aether.resolution.VersionResolutionException;
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.resolver.util.LibIOVersionResolutionException;
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CustomVersionResolverTest {
+
+    private static final LocalDateTime PUBLISHED = LocalDateTime.of(2018, 1, 1, 0, 0);
+
+    @Test
+    void verifiedVersionIsCheckedAgainstDateOfEveryRequest() throws VersionResolutionException {
+        AtomicInteger requests = new AtomicInteger();
+        LibrariesIoInterface api = new LibrariesIoInterface() {
+            @Override
+            public Project getProjectInfo(String identifier) {
+                requests.incrementAndGet();
+                ArrayList<VersionDate> versions = new ArrayList<>();
+                versions.add(new VersionDate("1.0", PUBLISHED));
+                return new Project(identifier, "Maven", versions);
+            }
+
+            @Override
+            public void setApiKey(String apiKey) {
+            }
+
+            @Override
+            public void setBaseUrl(String baseUrl) {
+            }
+        };
+
+        DefaultServiceLocator locator = MavenRepositorySystemUtils.newServiceLocator();
+        locator.setServices(LibrariesIoInterface.class, api);
+        locator.setService(VersionResolver.class, CustomVersionResolver.class);
+        VersionResolver resolver = locator.getService(VersionResolver.class);
+
+        DefaultRepositorySystemSession shared = MavenRepositorySystemUtils.newSession();
+        VersionRequest request = new VersionRequest(new DefaultArtifact("groupid:artifactid:1.0"), null, null);
+
+        DefaultRepositorySystemSession later = new DefaultRepositorySystemSession(shared);
+        later.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, PUBLISHED.plusYears(1));
+        assertEquals("1.0", resolver.resolveVersion(later, request).getVersion());
+
+        // The same version is not available for a request travelling back to before it was published
+        DefaultRepositorySystemSession earlier = new DefaultRepositorySystemSession(shared);
+        earlier.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, PUBLISHED.minusYears(1));
+        assertThrows(LibIOVersionResolutionException.class, () -> resolver.resolveVersion(earlier, request));
+
+        assertEquals(1, requests.get());
+    }
+}
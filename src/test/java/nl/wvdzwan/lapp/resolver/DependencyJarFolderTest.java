@@ -0,0 +1,92 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResult;
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.resolver.outputs.DependencyJarFolder;
+import nl.wvdzwan.lapp.resolver.outputs.JarStore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyJarFolderTest {
+
+    private static Artifact artifact(String coordinates, Path repository) throws IOException {
+        Path jar = repository.resolve(coordinates.replace(':', '_') + ".jar");
+        Files.write(jar, coordinates.getBytes());
+
+        return new DefaultArtifact(coordinates).setFile(jar.toFile());
+    }
+
+    private static DependencyResult result(Artifact root, Artifact dependency) {
+        DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(root, ""));
+        DependencyResult result = new DependencyResult(new DependencyRequest(node, null));
+
+        ArtifactResult artifactResult = new ArtifactResult(new ArtifactRequest());
+        artifactResult.setArtifact(dependency);
+        result.setArtifactResults(Collections.singletonList(artifactResult));
+
+        return result;
+    }
+
+    @Test
+    void jarsAreLinkedInOrder() throws IOException {
+        Path repository = Files.createTempDirectory("repository");
+        File output = Files.createTempDirectory("output").toFile();
+
+        DependencyResult result = result(
+                artifact("com.company:app:1.0", repository),
+                artifact("org.library:lib:2.0", repository));
+
+        DependencyJarFolder folder = new DependencyJarFolder(output, DependencyJarFolder.LinkMode.HARDLINK, 2);
+        assertTrue(folder.makeOutput(result));
+
+        Path linked = output.toPath().resolve("jars/org.library$lib$2.0.jar");
+        assertTrue(Files.isSameFile(repository.resolve("org.library_lib_2.0.jar"), linked));
+        assertEquals(Arrays.asList("com.company$app$1.0.jar", "org.library$lib$2.0.jar"),
+                Files.readAllLines(output.toPath().resolve("classpath.txt")));
+
+        // Up to date jars are kept
+        long modified = Files.getLastModifiedTime(linked).toMillis();
+        assertTrue(new DependencyJarFolder(output, DependencyJarFolder.LinkMode.COPY, 1).makeOutput(result));
+        assertTrue(Files.isSameFile(repository.resolve("org.library_lib_2.0.jar"), linked));
+        assertEquals(modified, Files.getLastModifiedTime(linked).toMillis());
+    }
+
+    @Test
+    void jarsAreSharedInStore() throws IOException {
+        Path repository = Files.createTempDirectory("repository");
+        Path store = Files.createTempDirectory("store");
+        File first = Files.createTempDirectory("output").toFile();
+        File second = Files.createTempDirectory("output").toFile();
+
+        Artifact library = artifact("org.library:lib:2.0", repository);
+        // Checksum as maven stores it in the local repository
+        Files.write(repository.resolve("org.library_lib_2.0.jar.sha1"), "0123456789abcdef0123456789abcdef01234567".getBytes());
+
+        assertTrue(new DependencyJarFolder(first, new JarStore(store.toFile()), 2)
+                .makeOutput(result(artifact("com.company:app:1.0", repository), library)));
+        assertTrue(new DependencyJarFolder(second, new JarStore(store.toFile()), 2)
+                .makeOutput(result(artifact("com.company:other:1.0", repository), library)));
+
+        Path stored = store.resolve("0123456789abcdef0123456789abcdef01234567/org.library$lib$2.0.jar");
+        assertTrue(Files.isRegularFile(stored));
+        assertEquals(stored.toString(), Files.readAllLines(first.toPath().resolve("classpath.txt")).get(1));
+        assertEquals(stored.toString(), Files.readAllLines(second.toPath().resolve("classpath.txt")).get(1));
+        assertEquals(3, Files.list(store).count());
+    }
+}
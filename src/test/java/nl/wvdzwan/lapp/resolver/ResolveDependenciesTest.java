@@ -0,0 +1,211 @@
+package nl.wvdzwan.lapp.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.impl.DefaultServiceLocator;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.resolution.VersionRangeResolutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.resolver.outputs.JarStore;
+import nl.wvdzwan.lapp.resolver.util.Booter;
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolveDependenciesTest {
+
+    private static final LocalDateTime PUBLISHED = LocalDateTime.of(2018, 1, 1, 0, 0);
+
+    private static class StubApi implements LibrariesIoInterface {
+        int requests = 0;
+
+        @Override
+        public Project getProjectInfo(String identifier) {
+            requests++;
+            ArrayList<VersionDate> versions = new ArrayList<>();
+            versions.add(new VersionDate("1.0", PUBLISHED));
+            versions.add(new VersionDate("2.0", PUBLISHED.plusYears(1)));
+            return new Project(identifier, "Maven", versions);
+        }
+
+        @Override
+        public void setApiKey(String apiKey) {
+        }
+
+        @Override
+        public void setBaseUrl(String baseUrl) {
+        }
+    }
+
+    private Path mirror;
+    private File localRepository;
+    private ResolveDependencies resolver;
+
+    /**
+     * Mirror with groupid:app:1.0 depending on groupid:lib:1.0 and groupid:ranged:1.0 depending on groupid:lib:[1.0,).
+     * Version 2.0 of lib is published a year after the other versions.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        mirror = Files.createTempDirectory("mirror");
+        writeArtifact("lib", "1.0", "");
+        writeArtifact("lib", "2.0", "");
+        writeArtifact("app", "1.0", "<dependencies><dependency><groupId>groupid</groupId><artifactId>lib</artifactId>"
+                + "<version>1.0</version></dependency></dependencies>");
+        writeArtifact("ranged", "1.0", "<dependencies><dependency><groupId>groupid</groupId><artifactId>lib</artifactId>"
+                + "<version>[1.0,)</version></dependency></dependencies>");
+
+        localRepository = Files.createTempDirectory("local-repo").toFile();
+        resolver = newResolver(new StubApi());
+    }
+
+    private ResolveDependencies newResolver(StubApi api) {
+        DefaultServiceLocator locator = Booter.newServiceLocator();
+        locator.setServices(LibrariesIoInterface.class, api);
+        RepositorySystem system = Booter.newRepositorySystem(locator);
+
+        DefaultRepositorySystemSession session = Booter.newRepositorySystemSession(system);
+        session.setLocalRepositoryManager(system.newLocalRepositoryManager(session, new LocalRepository(localRepository)));
+        Booter.setRepositories(session, Collections.singletonList(Booter.newRepository("mirror::" + mirror.toUri())));
+        Booter.setOffline(system, session);
+
+        return new ResolveDependencies(system, new ArtifactVersionResolver(system, api), session);
+    }
+
+    private static List<String> dependencies(DependencyResult result) {
+        return result.getArtifactResults().stream()
+                .map(ArtifactResult::getArtifact)
+                .map(a -> a.getArtifactId() + ":" + a.getFile().getName())
+                .collect(Collectors.toList());
+    }
+
+    private void writeArtifact(String artifactId, String version, String dependencies) throws IOException {
+        Path folder = Files.createDirectories(mirror.resolve("groupid/" + artifactId + "/" + version));
+        String pom = "<project><modelVersion>4.0.0</modelVersion><groupId>groupid</groupId>"
+                + "<artifactId>" + artifactId + "</artifactId><version>" + version + "</version>" + dependencies
+                + "</project>";
+
+        String name = artifactId + "-" + version;
+        Files.write(folder.resolve(name + ".pom"), pom.getBytes(StandardCharsets.UTF_8));
+        Files.write(folder.resolve(name + ".jar"), name.getBytes(StandardCharsets.UTF_8));
+
+        List<String> versions = new ArrayList<>();
+        try (Stream<Path> folders = Files.list(folder.getParent())) {
+            folders.filter(Files::isDirectory).forEach(v -> versions.add("<version>" + v.getFileName() + "</version>"));
+        }
+        String metadata = "<metadata><groupId>groupid</groupId><artifactId>" + artifactId + "</artifactId>"
+                + "<versioning><versions>" + String.join("", versions) + "</versions></versioning></metadata>";
+        Files.write(folder.resolveSibling("maven-metadata.xml"), metadata.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rootIsResolvedWithDependencies() throws DependencyResolutionException {
+        DependencyResult result = resolver.resolve("groupid:app", "1.0", PUBLISHED.plusDays(1));
+
+        assertNotNull(result.getRoot().getArtifact().getFile());
+
+        assertEquals(Collections.singletonList("lib:lib-1.0.jar"), dependencies(result));
+
+        // Both poms and jars are downloaded from the mirror, publish dates are looked up once per version
+        ResolveMetrics metrics = ResolveMetrics.of(resolver.getSession());
+        assertEquals(4, metrics.getCounter("downloaded-files"));
+        assertEquals(2, metrics.getCounter("version-checks"));
+        assertTrue(((Map<?, ?>) metrics.snapshot().get("timers")).containsKey("collect"));
+    }
+
+    @Test
+    void storedTreeIsReused() throws DependencyResolutionException, IOException {
+        File cacheDirectory = Files.createTempDirectory("resolutions").toFile();
+        resolver.setResultCache(new ResolutionCache(cacheDirectory, "stub"));
+        DependencyResult resolved = resolver.resolve("groupid:app", "1.0", PUBLISHED.plusDays(1));
+
+        // A new session does not need to collect or check versions
+        StubApi api = new StubApi();
+        ResolveDependencies second = newResolver(api);
+        second.setResultCache(new ResolutionCache(cacheDirectory, "stub"));
+        DependencyResult stored = second.resolve("groupid:app", "1.0", PUBLISHED.plusDays(1));
+
+        assertEquals(0, api.requests);
+        assertEquals(resolved.getRoot().getArtifact().getFile(), stored.getRoot().getArtifact().getFile());
+        assertEquals("lib", stored.getRoot().getChildren().get(0).getArtifact().getArtifactId());
+        assertEquals(dependencies(resolved), dependencies(stored));
+
+        // Trees resolved with another version source or other repositories are not reused
+        assertNull(new ResolutionCache(cacheDirectory, "index").get(second.getSession(), "groupid:app", "1.0",
+                PUBLISHED.plusDays(1), new HashSet<>()));
+        DefaultRepositorySystemSession otherRepositories = new DefaultRepositorySystemSession(second.getSession());
+        Booter.setRepositories(otherRepositories, Collections.singletonList(Booter.newRepository("other::" + mirror.toUri())));
+        assertNull(new ResolutionCache(cacheDirectory, "stub").get(otherRepositories, "groupid:app", "1.0",
+                PUBLISHED.plusDays(1), new HashSet<>()));
+
+        // A changed jar invalidates the stored tree, also when its checksum file still has the old checksum
+        File jar = stored.getArtifactResults().get(0).getArtifact().getFile();
+        Files.write(new File(jar.getPath() + ".sha1").toPath(),
+                JarStore.computeSha1(jar.toPath()).getBytes(StandardCharsets.US_ASCII));
+        Files.write(jar.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        assertNull(new ResolutionCache(cacheDirectory, "stub").get(second.getSession(), "groupid:app", "1.0",
+                PUBLISHED.plusDays(1), new HashSet<>()));
+    }
+
+    @Test
+    void storedTreeWithoutConsultedProjectsIsIgnored() throws DependencyResolutionException, IOException {
+        File cacheDirectory = Files.createTempDirectory("resolutions").toFile();
+        ResolutionCache cache = new ResolutionCache(cacheDirectory, "stub");
+        resolver.setResultCache(cache);
+        resolver.resolve("groupid:app", "1.0", PUBLISHED.plusDays(1));
+        assertNotNull(cache.get(resolver.getSession(), "groupid:app", "1.0", PUBLISHED.plusDays(1), new HashSet<>()));
+
+        // Results stored before the consulted projects were kept can not tell when a tree is outdated
+        Path file;
+        try (Stream<Path> files = Files.walk(cacheDirectory.toPath())) {
+            file = files.filter(p -> p.toString().endsWith(".json")).findFirst().orElseThrow(AssertionError::new);
+        }
+        JsonObject stored = new JsonParser().parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+        stored.remove("consultedProjects");
+        Files.write(file, stored.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertNull(cache.get(resolver.getSession(), "groupid:app", "1.0", PUBLISHED.plusDays(1), new HashSet<>()));
+    }
+
+    @Test
+    void treeIsReusedUntilConsultedProjectChanges() throws DependencyResolutionException, VersionRangeResolutionException {
+        DateSeriesResolver series = new DateSeriesResolver(resolver, new StubApi());
+
+        DependencyResult first = series.resolveFromDate("groupid:ranged", PUBLISHED.plusMonths(3));
+        DependencyResult second = series.resolveFromDate("groupid:ranged", PUBLISHED.plusMonths(6));
+        DependencyResult third = series.resolveFromDate("groupid:ranged", PUBLISHED.plusMonths(15));
+
+        assertEquals(Collections.singletonList("lib:lib-1.0.jar"), dependencies(first));
+        assertSame(first, second);
+        assertEquals(Collections.singletonList("lib:lib-2.0.jar"), dependencies(third));
+        assertEquals(1, series.getReusedCount());
+    }
+}
@@ -0,0 +1,91 @@
+package nl.wvdzwan.lapp.resolver.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.impl.DefaultServiceLocator;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.transfer.RepositoryOfflineException;
+import org.junit.jupiter.api.Test;
+
+import nl.wvdzwan.lapp.resolver.CustomVersionRangeResolver;
+import nl.wvdzwan.librariesio.LibrariesIoInterface;
+import nl.wvdzwan.librariesio.Project;
+import nl.wvdzwan.librariesio.VersionDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BooterTest {
+
+    private static class StubApi implements LibrariesIoInterface {
+        @Override
+        public Project getProjectInfo(String identifier) {
+            ArrayList<VersionDate> versions = new ArrayList<>();
+            versions.add(new VersionDate("1.0", LocalDateTime.of(2018, 1, 1, 0, 0)));
+            return new Project(identifier, "Maven", versions);
+        }
+
+        @Override
+        public void setApiKey(String apiKey) {
+        }
+
+        @Override
+        public void setBaseUrl(String baseUrl) {
+        }
+    }
+
+    @Test
+    void repositoryIdIsParsedOrDerived() {
+        RemoteRepository named = Booter.newRepository("mirror::file:///srv/maven");
+        assertEquals("mirror", named.getId());
+        assertEquals("file:///srv/maven", named.getUrl());
+
+        RemoteRepository unnamed = Booter.newRepository("http://nexus.local:8081/repository/maven");
+        assertEquals("nexus.local_8081_repository_maven", unnamed.getId());
+        assertEquals("http://nexus.local:8081/repository/maven", unnamed.getUrl());
+    }
+
+    @Test
+    void offlineResolvesOnlyFromFileRepositories() throws IOException, ArtifactResolutionException {
+        Path mirror = Files.createTempDirectory("mirror");
+        Path version = Files.createDirectories(mirror.resolve("groupid/artifactid/1.0"));
+        Files.write(version.resolve("artifactid-1.0.jar"), new byte[]{1, 2, 3});
+
+        DefaultServiceLocator locator = Booter.newServiceLocator();
+        locator.setServices(LibrariesIoInterface.class, new StubApi());
+        RepositorySystem system = Booter.newRepositorySystem(locator);
+
+        DefaultRepositorySystemSession session = Booter.newRepositorySystemSession(system);
+        File localRepository = Files.createTempDirectory("local-repo").toFile();
+        session.setLocalRepositoryManager(system.newLocalRepositoryManager(session, new LocalRepository(localRepository)));
+        session.setConfigProperty(CustomVersionRangeResolver.CONFIG_LIMIT_DATE, LocalDateTime.of(2019, 1, 1, 0, 0));
+        Booter.setRepositories(session, Collections.singletonList(Booter.newRepository("mirror::" + mirror.toUri())));
+        Booter.setOffline(system, session);
+
+        ArtifactRequest request = new ArtifactRequest(new DefaultArtifact("groupid:artifactid:1.0"),
+                Booter.newRepositories(session), null);
+        ArtifactResult result = system.resolveArtifact(session, request);
+        assertTrue(result.getArtifact().getFile().isFile());
+
+        // Remote repositories are not contacted, missing artifacts fail immediately
+        ArtifactRequest remote = new ArtifactRequest(new DefaultArtifact("groupid:other:1.0"),
+                Booter.newRepositories(), null);
+        ArtifactResolutionException e = assertThrows(ArtifactResolutionException.class,
+                () -> system.resolveArtifact(session, remote));
+        assertTrue(e.getResult().getExceptions().get(0).getCause() instanceof RepositoryOfflineException);
+    }
+}
@@ -0,0 +1,200 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjLongConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CachingLibrariesIoClientTest {
+
+    private static class CountingHttpClient implements HttpClientInterface {
+        int requests = 0;
+        boolean fail = false;
+
+        @Override
+        public String get(String url) throws IOException {
+            requests++;
+            if (fail) {
+                throw new IOException("Unreachable");
+            }
+            return ProjectTest.simpleProjectJson;
+        }
+    }
+
+    @Test
+    void projectIsFetchedOnce() throws IOException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        CountingHttpClient http = new CountingHttpClient();
+
+        CachingLibrariesIoClient client = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        client.getProjectInfo("groupid:artifactid");
+        Project project = client.getProjectInfo("groupid:artifactid");
+
+        assertEquals(1, http.requests);
+        assertEquals(3, project.getVersions().size());
+        assertEquals(true, new File(directory, "groupid/artifactid.json").isFile());
+
+        // A new client reads the project from disk
+        CachingLibrariesIoClient second = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        assertEquals("groupid:artifactid", second.getProjectInfo("groupid:artifactid").getName());
+        assertEquals(1, http.requests);
+    }
+
+    @Test
+    void expiredProjectIsFetchedAgain() throws IOException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        CountingHttpClient http = new CountingHttpClient();
+
+        new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory).getProjectInfo("groupid:artifactid");
+
+        CachingLibrariesIoClient client = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        client.setTtl(Duration.ZERO);
+        client.getProjectInfo("groupid:artifactid");
+        assertEquals(2, http.requests);
+
+        // Expired entries are used when the api can not be reached
+        http.fail = true;
+        CachingLibrariesIoClient offline = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        offline.setTtl(Duration.ZERO);
+        assertEquals("groupid:artifactid", offline.getProjectInfo("groupid:artifactid").getName());
+        assertNull(offline.getProjectInfo("other:artifact"));
+    }
+
+    @Test
+    void offlineMissIsNotRequested() throws IOException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        new CachingLibrariesIoClient(new LibrariesIoClient("", new CountingHttpClient()), directory)
+                .getProjectInfo("groupid:artifactid");
+
+        HttpClientInterface http = url -> {
+            throw new AssertionError("Project should not be requested offline");
+        };
+
+        CachingLibrariesIoClient offline = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        offline.setOffline(true);
+        offline.setTtl(Duration.ZERO);
+
+        // Cached projects are used regardless of their age
+        assertEquals("groupid:artifactid", offline.getProjectInfo("groupid:artifactid").getName());
+        assertNull(offline.getProjectInfo("other:artifact"));
+        assertNull(offline.getProjectInfoAsync("another:artifact").join());
+    }
+
+    @Test
+    void countersTellWhereProjectsWereFound() throws IOException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        CountingHttpClient http = new CountingHttpClient();
+        Map<String, Long> counters = new TreeMap<>();
+        ObjLongConsumer<String> counter = (name, value) -> counters.merge(name, value, Long::sum);
+
+        LibrariesIoClient api = new LibrariesIoClient("", http);
+        api.setCounters(counter);
+        CachingLibrariesIoClient client = new CachingLibrariesIoClient(api, directory);
+        client.setCounters(counter);
+        client.getProjectInfo("groupid:artifactid");
+        client.getProjectInfo("groupid:artifactid");
+
+        CachingLibrariesIoClient second = new CachingLibrariesIoClient(api, directory);
+        second.setCounters(counter);
+        second.getProjectInfo("groupid:artifactid");
+
+        http.fail = true;
+        CachingLibrariesIoClient offline = new CachingLibrariesIoClient(api, directory);
+        offline.setCounters(counter);
+        offline.setTtl(Duration.ZERO);
+        offline.getProjectInfo("groupid:artifactid");
+
+        assertEquals(Long.valueOf(1), counters.get("libraries-io-memory-hits"));
+        assertEquals(Long.valueOf(1), counters.get("libraries-io-disk-hits"));
+        assertEquals(Long.valueOf(2), counters.get("libraries-io-fetches"));
+        assertEquals(Long.valueOf(1), counters.get("libraries-io-expired-fallbacks"));
+        assertEquals(Long.valueOf(2), counters.get("libraries-io-requests"));
+    }
+
+    @Test
+    void concurrentLookupsRequestOnce() throws IOException, InterruptedException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpClientInterface http = url -> {
+            requests.incrementAndGet();
+            requested.countDown();
+            try {
+                waiting.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return ProjectTest.simpleProjectJson;
+        };
+
+        CachingLibrariesIoClient client = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        client.setCounters((name, value) -> {
+            if (name.equals("libraries-io-pending-waits")) {
+                waiting.countDown();
+            }
+        });
+
+        AtomicReference<Project> first = new AtomicReference<>();
+        Thread thread = new Thread(() -> first.set(client.getProjectInfo("groupid:artifactid")));
+        thread.start();
+        requested.await();
+
+        // The second lookup waits for the request of the first
+        Project second = client.getProjectInfo("groupid:artifactid");
+        thread.join();
+
+        assertEquals(1, requests.get());
+        assertEquals(first.get(), second);
+    }
+
+    @Test
+    void prefetchedProjectIsRequestedOnce() throws IOException, InterruptedException {
+        File directory = Files.createTempDirectory("libio").toFile();
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpClientInterface http = new HttpClientInterface() {
+            @Override
+            public String get(String url) {
+                throw new AssertionError("Project should not be requested again");
+            }
+
+            @Override
+            public CompletableFuture<String> getAsync(String url) {
+                requests.incrementAndGet();
+                return response;
+            }
+        };
+
+        CachingLibrariesIoClient client = new CachingLibrariesIoClient(new LibrariesIoClient("", http), directory);
+        CompletableFuture<Project> first = client.getProjectInfoAsync("groupid:artifactid");
+        CompletableFuture<Project> second = client.getProjectInfoAsync("groupid:artifactid");
+
+        // A blocking request waits for the prefetch
+        AtomicReference<Project> blocking = new AtomicReference<>();
+        Thread thread = new Thread(() -> blocking.set(client.getProjectInfo("groupid:artifactid")));
+        thread.start();
+
+        response.complete(ProjectTest.simpleProjectJson);
+        thread.join();
+
+        assertEquals(1, requests.get());
+        assertEquals("groupid:artifactid", first.join().getName());
+        assertEquals(first.join(), second.join());
+        assertEquals(first.join(), blocking.get());
+    }
+}
@@ -0,0 +1,103 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledHttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        // Stub for the libraries.io project api
+        server.createContext("/api/maven/", exchange -> {
+            byte[] body;
+            if (exchange.getRequestURI().getPath().endsWith("limited")) {
+                exchange.getResponseHeaders().add("Retry-After", "7");
+                exchange.sendResponseHeaders(429, -1);
+                exchange.close();
+                return;
+            }
+
+            byte[] json = ProjectTest.simpleProjectJson.getBytes(StandardCharsets.UTF_8);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(json);
+                }
+                body = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            } else {
+                body = json;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void compressedResponseIsReadCompletely() throws IOException {
+        try (PooledHttpClient client = new PooledHttpClient()) {
+            // Newlines are kept
+            assertEquals(ProjectTest.simpleProjectJson, client.get(baseUrl + "maven/groupid:artifactid"));
+        }
+    }
+
+    @Test
+    void tooManyRequestsHasRetryAfter() throws IOException {
+        try (PooledHttpClient client = new PooledHttpClient()) {
+            HttpStatusException e = assertThrows(HttpStatusException.class, () -> client.get(baseUrl + "maven/limited"));
+
+            assertEquals(429, e.getStatusCode());
+            assertEquals(Duration.ofSeconds(7), e.getRetryAfter());
+            assertTrue(e.isRetryable());
+        }
+    }
+
+    @Test
+    void projectsAreRetrievedConcurrently() throws IOException, ExecutionException, InterruptedException {
+        try (PooledHttpClient http = new PooledHttpClient(2, Duration.ofSeconds(1), Duration.ofSeconds(1))) {
+            LibrariesIoClient client = new LibrariesIoClient("", http);
+            client.setBaseUrl(baseUrl);
+
+            CompletableFuture<Project> first = client.getProjectInfoAsync("groupid:artifactid");
+            CompletableFuture<Project> second = client.getProjectInfoAsync("groupid:other");
+            CompletableFuture<Project> failed = client.getProjectInfoAsync("limited");
+
+            assertEquals(3, first.get().getVersions().size());
+            assertEquals("groupid:artifactid", second.get().getName());
+            assertEquals(null, failed.get());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package nl.wvdzwan.librariesio;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 class ProjectTest {
     final static String simpleProjectJson = "{\n" +
@@ -87,5 +89,39 @@ class ProjectTest {
 
     }
 
+    @Test
+    void versionsAreSortedByDate() {
+        String json = "{\"name\":\"g:a\",\"keywords\":[\"x\",{\"nested\":[1,2]}],\"versions\":[" +
+                "{\"number\":\"2.0\",\"published_at\":\"2014-12-04T16:17:00.000Z\",\"repository_sources\":[\"Maven\"]}," +
+                "{\"number\":\"1.0\",\"published_at\":\"2012-11-14T19:21:20+01:00\"}," +
+                "{\"number\":\"snapshot\",\"published_at\":null}]}";
+
+        Project project = Project.fromJson(json);
+
+        Assertions.assertEquals(2, project.getVersionCount());
+        Assertions.assertEquals(new VersionDate("1.0", "2012-11-14T19:21:20+01:00"), project.getVersions().get(0));
+        Assertions.assertEquals(new VersionDate("2.0", "2014-12-04T16:17:00.000Z"), project.getVersions().get(1));
+    }
+
+    @Test
+    void emptyJson() {
+        Assertions.assertNull(Project.fromJson(""));
+        Assertions.assertNull(Project.fromJson("null"));
+    }
+
+    @Test
+    void timeline() {
+        Project project = Project.fromJson(completeProjectJson);
+        LocalDateTime date = LocalDateTime.of(2006, 3, 3, 23, 22, 26);
+
+        // 3.8.2 is published exactly at the date, so it is not before it
+        Assertions.assertEquals(Arrays.asList("3.7", "3.8.1", "3.8", "4.0"), project.getVersionsBefore(date));
+        Assertions.assertTrue(project.isPublishedBefore("4.0", date));
+        Assertions.assertFalse(project.isPublishedBefore("3.8.2", date));
+        Assertions.assertFalse(project.isPublishedBefore("5.0", date));
 
-}
\ No newline at end of file
+        Assertions.assertEquals(LocalDateTime.of(2014, 12, 4, 16, 17), project.getPublishedAt("4.12"));
+        Assertions.assertNull(project.getPublishedAt("5.0"));
+        Assertions.assertEquals(25, project.getVersionsBefore(LocalDateTime.of(2020, 1, 1, 0, 0)).size());
+    }
+}
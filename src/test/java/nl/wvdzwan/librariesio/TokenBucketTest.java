@@ -0,0 +1,80 @@
+package nl.wvdzwan.librariesio;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private static class ManualClock extends Clock {
+        long millis = 1_000_000;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @Test
+    void burstThenRefillRate() {
+        ManualClock clock = new ManualClock();
+        TokenBucket bucket = new TokenBucket(3, Duration.ofMillis(1000), clock);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+
+        // Reservations queue up at the refill rate
+        assertEquals(1000, bucket.reserve());
+        assertEquals(2000, bucket.reserve());
+
+        clock.millis += 10_000;
+        assertEquals(0, bucket.reserve());
+    }
+
+    @Test
+    void pauseDelaysAllRequests() {
+        ManualClock clock = new ManualClock();
+        TokenBucket bucket = new TokenBucket(5, Duration.ofMillis(100), clock);
+
+        bucket.pause(Duration.ofSeconds(30));
+        assertEquals(30_000 + 100, bucket.reserve());
+
+        clock.millis += 30_000;
+        assertEquals(200, bucket.reserve());
+    }
+
+    @Test
+    void sharedBucketIsSharedThroughFile() throws IOException {
+        File file = File.createTempFile("lapp", ".limit");
+        file.delete();
+        file.deleteOnExit();
+
+        ManualClock clock = new ManualClock();
+        TokenBucket first = new SharedTokenBucket(file, 2, Duration.ofMillis(1000), clock);
+        TokenBucket second = new SharedTokenBucket(file, 2, Duration.ofMillis(1000), clock);
+
+        assertEquals(0, first.reserve());
+        assertEquals(0, second.reserve());
+        assertEquals(1000, first.reserve());
+        assertEquals(2000, second.reserve());
+    }
+}